@@ -0,0 +1,54 @@
+package io.github.currenj.gelatinui.benchmarks;
+
+import io.github.currenj.gelatinui.gui.components.Rectangle;
+import io.github.currenj.gelatinui.gui.effects.BlendMode;
+import io.github.currenj.gelatinui.gui.effects.TransformDelta;
+import org.joml.Vector2f;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * TransformDelta composition and per-frame effect stepping.
+ */
+@State(Scope.Benchmark)
+public class EffectsBenchmark {
+    @Param({"10", "100", "1000", "10000"})
+    public int elements;
+
+    private List<Rectangle> leaves;
+    private final TransformDelta a = new TransformDelta(new Vector2f(1.5f, -2f), 1.05f, 3f, 0.9f);
+    private final TransformDelta b = new TransformDelta(new Vector2f(-0.5f, 4f), 0.97f, -1f, 0.8f);
+
+    @Setup(Level.Trial)
+    public void setup() {
+        leaves = UITrees.grid(elements).leaves();
+        UITrees.addEffects(leaves);
+    }
+
+    @Benchmark
+    public TransformDelta combineAdd() {
+        return a.combine(b, BlendMode.ADD, 1f);
+    }
+
+    @Benchmark
+    public TransformDelta combineLerp() {
+        return a.combine(b, BlendMode.LERP, 0.35f);
+    }
+
+    /**
+     * One 60 FPS step of breathe/wander effects on every leaf.
+     */
+    @Benchmark
+    public int effectStep() {
+        for (int i = 0; i < leaves.size(); i++) {
+            leaves.get(i).update(0.016f);
+        }
+        return leaves.size();
+    }
+}
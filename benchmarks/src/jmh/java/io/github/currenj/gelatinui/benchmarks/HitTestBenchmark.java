@@ -0,0 +1,53 @@
+package io.github.currenj.gelatinui.benchmarks;
+
+import io.github.currenj.gelatinui.gui.IUIElement;
+import io.github.currenj.gelatinui.gui.UIScreen;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.awt.geom.Rectangle2D;
+import java.util.Random;
+
+/**
+ * UIScreen.findElementAt over points spread across the tree's bounds.
+ */
+@State(Scope.Benchmark)
+public class HitTestBenchmark {
+    private static final int POINTS = 1024;
+
+    @Param({"10", "100", "1000", "10000"})
+    public int elements;
+
+    private UIScreen screen;
+    private final int[] xs = new int[POINTS];
+    private final int[] ys = new int[POINTS];
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        UITrees.Tree tree = UITrees.grid(elements);
+        screen = new UIScreen(100_000, 100_000);
+        screen.setAutoCenterRoot(false);
+        screen.setRoot(tree.root());
+        UITrees.settle(tree.root());
+        screen.update(0f);
+
+        Rectangle2D bounds = tree.root().getBounds();
+        Random random = new Random(42);
+        for (int i = 0; i < POINTS; i++) {
+            xs[i] = (int) (bounds.getMinX() + random.nextDouble() * bounds.getWidth());
+            ys[i] = (int) (bounds.getMinY() + random.nextDouble() * bounds.getHeight());
+        }
+    }
+
+    @Benchmark
+    public IUIElement findElementAt() {
+        int i = next;
+        next = (i + 1) & (POINTS - 1);
+        return screen.findElementAt(xs[i], ys[i]);
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.currenj.gelatinui.benchmarks;
+
+import io.github.currenj.gelatinui.gui.components.VBox;
+import org.joml.Vector2f;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.awt.geom.Rectangle2D;
+
+/**
+ * Container bounds and layout passes.
+ */
+@State(Scope.Benchmark)
+public class LayoutBenchmark {
+    @Param({"10", "100", "1000", "10000"})
+    public int elements;
+
+    private VBox root;
+    private final Vector2f[] positions = {new Vector2f(0, 0), new Vector2f(1, 0)};
+    private int toggle;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        root = UITrees.grid(elements).root();
+        UITrees.settle(root);
+    }
+
+    /**
+     * Bounds recomputed for the whole tree after the root moves (UIContainer.calculateBounds on every container).
+     */
+    @Benchmark
+    public Rectangle2D calculateBoundsCold() {
+        toggle ^= 1;
+        root.setPosition(positions[toggle]);
+        return root.getBounds();
+    }
+
+    /**
+     * Cached bounds lookup with nothing dirty.
+     */
+    @Benchmark
+    public Rectangle2D calculateBoundsCached() {
+        return root.getBounds();
+    }
+
+    /**
+     * Full VBox.performLayout, including nested HBox rows.
+     */
+    @Benchmark
+    public VBox performLayout() {
+        root.forceLayout();
+        return root;
+    }
+}
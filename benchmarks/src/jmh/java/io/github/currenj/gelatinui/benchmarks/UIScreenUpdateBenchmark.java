@@ -0,0 +1,45 @@
+package io.github.currenj.gelatinui.benchmarks;
+
+import io.github.currenj.gelatinui.gui.DirtyFlag;
+import io.github.currenj.gelatinui.gui.UIScreen;
+import io.github.currenj.gelatinui.gui.components.Rectangle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * UIScreen.update over static trees: an idle frame, and a frame with one dirty leaf.
+ */
+@State(Scope.Benchmark)
+public class UIScreenUpdateBenchmark {
+    @Param({"10", "100", "1000", "10000"})
+    public int elements;
+
+    private UIScreen screen;
+    private Rectangle leaf;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        UITrees.Tree tree = UITrees.grid(elements);
+        screen = new UIScreen(1920, 1080);
+        screen.setAutoCenterRoot(false);
+        screen.setRoot(tree.root());
+        UITrees.settle(tree.root());
+        screen.update(0f);
+        leaf = tree.leaves().get(tree.leaves().size() / 2);
+    }
+
+    @Benchmark
+    public void idleUpdate() {
+        screen.update(0.016f);
+    }
+
+    @Benchmark
+    public void updateWithDirtyLeaf() {
+        leaf.markDirty(DirtyFlag.CONTENT);
+        screen.update(0.016f);
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.currenj.gelatinui.benchmarks;
+
+import io.github.currenj.gelatinui.gui.IUIElement;
+import io.github.currenj.gelatinui.gui.UIElement;
+import io.github.currenj.gelatinui.gui.components.HBox;
+import io.github.currenj.gelatinui.gui.components.Rectangle;
+import io.github.currenj.gelatinui.gui.components.VBox;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Synthetic UI trees for benchmarks: a VBox of HBox rows, each filled with fixed-size rectangles.
+ */
+final class UITrees {
+    static final float CELL_W = 20f;
+    static final float CELL_H = 12f;
+
+    private UITrees() {
+    }
+
+    /**
+     * A built tree plus direct access to its leaves.
+     */
+    record Tree(VBox root, List<Rectangle> leaves, int elementCount) {
+    }
+
+    /**
+     * Build a roughly square grid with about the requested number of elements (containers included).
+     */
+    static Tree grid(int elements) {
+        int columns = Math.max(1, (int) Math.ceil(Math.sqrt(elements)));
+        int rows = Math.max(1, (elements - 1) / (columns + 1));
+
+        VBox root = new VBox().spacing(2).padding(4);
+        List<Rectangle> leaves = new ArrayList<>(rows * columns);
+        for (int r = 0; r < rows; r++) {
+            HBox row = new HBox().spacing(2);
+            for (int c = 0; c < columns; c++) {
+                Rectangle cell = new Rectangle(CELL_W, CELL_H, 0xFF303030);
+                row.addChild(cell);
+                leaves.add(cell);
+            }
+            root.addChild(row);
+        }
+        root.forceLayout();
+        return new Tree(root, leaves, 1 + rows + rows * columns);
+    }
+
+    /**
+     * Run updates until nothing in the tree is dirty.
+     */
+    static void settle(IUIElement root) {
+        for (int i = 0; i < 8 && root.needsUpdate(); i++) {
+            root.update(0f);
+        }
+    }
+
+    static void addEffects(List<Rectangle> leaves) {
+        for (int i = 0; i < leaves.size(); i++) {
+            UIElement<?> leaf = leaves.get(i);
+            leaf.addBreatheEffect();
+            if ((i & 1) == 0) {
+                leaf.addWanderEffect();
+            }
+        }
+    }
+}
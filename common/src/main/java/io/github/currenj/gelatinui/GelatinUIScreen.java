@@ -1,7 +1,9 @@
 package io.github.currenj.gelatinui;
 
 import io.github.currenj.gelatinui.gui.IUIElement;
+import io.github.currenj.gelatinui.gui.UIProfiler;
 import io.github.currenj.gelatinui.gui.UIScreen;
+import io.github.currenj.gelatinui.gui.minecraft.FontMeasureContext;
 import io.github.currenj.gelatinui.gui.minecraft.MinecraftRenderContext;
 import io.github.currenj.gelatinui.gui.GelatinMenu;
 import net.minecraft.client.gui.GuiGraphics;
@@ -10,6 +12,7 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.world.entity.player.Inventory;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public abstract class GelatinUIScreen<M extends GelatinMenu> extends AbstractContainerScreen<M> {
@@ -17,8 +20,32 @@ public abstract class GelatinUIScreen<M extends GelatinMenu> extends AbstractCon
     private long lastFrameTimeNanos = 0L;
     private long fadeStartTime;
     private static final float FADE_DURATION = 0.2f;
-
-    // Global click listeners for elements that need to respond to clicks anywhere
+    // Time per frame the UI update may spend, including deferred work
+    private long updateBudgetNanos = 4_000_000L;
+    // True while Screen.resize re-runs init()
+    private boolean resizing = false;
+    // UITemplates generation the current tree was instantiated from; -1 when buildUI used no templates
+    private int templateGeneration = -1;
+    // Layouts the current tree was instantiated from, checked before a reload rebuild releases the tree
+    private final List<net.minecraft.resources.ResourceLocation> templateIds = new ArrayList<>();
+    // Text measuring for template instantiation; no GuiGraphics needed
+    private FontMeasureContext measureContext;
+    // Rebound to each frame's GuiGraphics so its item batching buffers survive between frames
+    private MinecraftRenderContext renderContext;
+    // Queued keys the UI did not use (key code, scan code, modifiers), handled after the frame is rendered
+    private int[] unusedKeys = new int[3 * 4];
+    private int unusedKeyCount = 0;
+
+    // Profiler overlay text, rebuilt every PROFILER_TEXT_INTERVAL_NANOS rather than every frame
+    private static final long PROFILER_TEXT_INTERVAL_NANOS = 250_000_000L;
+    private long profilerTextTime = Long.MIN_VALUE;
+    private String[] profilerPhaseText = new String[0];
+    private String[] profilerTypeText = new String[0];
+    private boolean[] profilerTypeShown = new boolean[0];
+    private final StringBuilder profilerText = new StringBuilder();
+
+    // Global click listeners for elements that need to respond to clicks anywhere. Focus for text inputs goes
+    // through the UIScreen's FocusManager instead.
     private final List<GlobalClickListener> globalClickListeners = new ArrayList<>();
 
     /**
@@ -39,17 +66,122 @@ public abstract class GelatinUIScreen<M extends GelatinMenu> extends AbstractCon
     protected void init() {
         super.init();
 
+        if (resizing && uiScreen != null && uiScreen.getRoot() != null && preserveUIOnResize()) {
+            // Same tree, new viewport: only viewport-dependent layouts re-run
+            uiScreen.resize(this.width, this.height);
+            onUIResized(this.width, this.height);
+            return;
+        }
+
+        rebuildUI();
+    }
+
+    /**
+     * Replace the current tree with a fresh UIScreen built by buildUI().
+     */
+    protected void rebuildUI() {
+        // Hand the previous tree's building blocks back to the builders instead of leaving it all to the GC
+        releaseUI();
         uiScreen = new UIScreen(this.width, this.height);
         uiScreen.setAutoCenterRoot(false); // Changed to false
         uiScreen.setAutoCenterThreshold(0.5f);
+        uiScreen.setUnusedKeyListener(this::deferUnusedKey);
+        uiScreen.setPressListener(this::notifyGlobalClickListeners);
 
+        templateGeneration = -1;
+        templateIds.clear();
         buildUI();
     }
 
+    /**
+     * Rebuild after layouts were reloaded, keeping the current tree if one of its layouts no longer loads.
+     */
+    private void rebuildForReloadedTemplates() {
+        for (int i = 0; i < templateIds.size(); i++) {
+            net.minecraft.resources.ResourceLocation id = templateIds.get(i);
+            try {
+                io.github.currenj.gelatinui.gui.template.UITemplates.get(id);
+            } catch (IllegalArgumentException e) {
+                GelatinUi.LOGGER.warn("Keeping the previous UI of {}: layout {} failed to load", getClass().getSimpleName(), id);
+                // Try again on the next reload rather than every frame
+                templateGeneration = io.github.currenj.gelatinui.gui.template.UITemplates.getGeneration();
+                return;
+            }
+        }
+        rebuildUI();
+    }
+
+    /**
+     * Build an element tree from a resource pack layout (see {@link io.github.currenj.gelatinui.gui.template.UITemplates}).
+     * Call from buildUI(); the screen rebuilds itself when resources are reloaded so layout edits show up live.
+     */
+    protected io.github.currenj.gelatinui.gui.template.UITemplate.Instance instantiateTemplate(net.minecraft.resources.ResourceLocation layoutId) {
+        templateGeneration = io.github.currenj.gelatinui.gui.template.UITemplates.getGeneration();
+        if (!templateIds.contains(layoutId)) {
+            templateIds.add(layoutId);
+        }
+        if (measureContext == null || measureContext.getFont() != this.font) {
+            measureContext = new FontMeasureContext(this.font);
+        }
+        return io.github.currenj.gelatinui.gui.template.UITemplates.get(layoutId).instantiate(measureContext);
+    }
+
     protected abstract void buildUI();
 
+    /**
+     * Whether a window resize or GUI scale change keeps the current UI tree instead of rebuilding it with
+     * buildUI(). Off by default. Return true only when the layout follows the viewport by itself (fillWidth /
+     * fillHeight roots) and onUIResized refreshes anything else derived from the screen size. Leave it off when
+     * buildUI adds vanilla widgets, which Screen.resize clears.
+     */
+    protected boolean preserveUIOnResize() {
+        return false;
+    }
+
+    /**
+     * Called after a resize that kept the UI tree. Override to refresh values derived from the screen size,
+     * such as scaleToHeight(uiScreen.getViewHeight()).
+     */
+    protected void onUIResized(int width, int height) {
+    }
+
+    /**
+     * Return the current tree to {@link io.github.currenj.gelatinui.gui.UIElementPool}. Subclasses that keep
+     * references to built elements must drop them once this runs.
+     */
+    protected void releaseUI() {
+        if (uiScreen != null && uiScreen.getRoot() != null) {
+            IUIElement root = uiScreen.getRoot();
+            uiScreen.setRoot(null);
+            io.github.currenj.gelatinui.gui.UIElementPool.releaseTree(root);
+        }
+    }
+
+    @Override
+    public void removed() {
+        super.removed();
+        releaseUI();
+    }
+
+    /**
+     * Set how long the UI update may take per frame. Off-screen work beyond this is spread over later frames.
+     *
+     * @param budgetNanos budget in nanoseconds; Long.MAX_VALUE disables deferral limits
+     */
+    public void setUpdateBudgetNanos(long budgetNanos) {
+        this.updateBudgetNanos = Math.max(0L, budgetNanos);
+    }
+
+    public long getUpdateBudgetNanos() {
+        return updateBudgetNanos;
+    }
+
     @Override
     public void render(GuiGraphics guiGraphics, int mouseX, int mouseY, float partialTick) {
+        if (templateGeneration >= 0 && templateGeneration != io.github.currenj.gelatinui.gui.template.UITemplates.getGeneration()) {
+            // Layouts were reloaded while this screen was open
+            rebuildForReloadedTemplates();
+        }
         super.render(guiGraphics, mouseX, mouseY, partialTick);
         renderContent(guiGraphics, mouseX, mouseY, partialTick);
 
@@ -60,20 +192,135 @@ public abstract class GelatinUIScreen<M extends GelatinMenu> extends AbstractCon
 
         // Render UI
         if (uiScreen != null) {
-            MinecraftRenderContext renderContext = new MinecraftRenderContext(guiGraphics, this.font);
+            if (renderContext == null) {
+                renderContext = new MinecraftRenderContext(guiGraphics, this.font);
+            }
+            renderContext.rebind(guiGraphics, this.font);
 
-            uiScreen.update(deltaSeconds);
+            // The pointer position joins the queued input; the whole batch is handled at the start of the update
+            uiScreen.getInputQueue().mouseMove(mouseX, mouseY);
+            uiScreen.update(deltaSeconds, updateBudgetNanos);
             updateComponentSizes(renderContext);
-            uiScreen.update(0f);
-            uiScreen.onMouseMove(mouseX, mouseY);
-            uiScreen.update(0f);
+            uiScreen.update(0f, 0L);
             uiScreen.render(renderContext);
 
             // Render time control status if not at default settings
             renderTimeControlStatus(guiGraphics);
+
+            if (io.github.currenj.gelatinui.gui.UIProfiler.isEnabled()) {
+                renderProfilerOverlay(guiGraphics);
+            }
+
+            handleUnusedKeys();
         }
     }
 
+    /**
+     * Render the profiler overlay: one bar per phase (p50 solid, p99 faded behind it) and the
+     * element types with the most renderSelf time last frame.
+     */
+    protected void renderProfilerOverlay(GuiGraphics guiGraphics) {
+        final int barMaxWidth = 160;
+        final float pixelsPerMs = 40f; // 4 ms fills the bar
+        final int lineHeight = 10;
+        final int labelWidth = 50;
+        final int maxTypes = 5;
+
+        UIProfiler.Phase[] phases = UIProfiler.getPhases();
+        int typeLines = Math.min(maxTypes, UIProfiler.getTypeCount());
+        long now = System.nanoTime();
+        if (now - profilerTextTime >= PROFILER_TEXT_INTERVAL_NANOS || profilerPhaseText.length != phases.length) {
+            profilerTextTime = now;
+            updateProfilerText(phases, typeLines);
+        }
+
+        int x = 10;
+        // Sits above the time control status line
+        int bottom = this.height - 25;
+        int y = bottom - (phases.length + profilerTypeText.length + 1) * lineHeight;
+
+        guiGraphics.fill(x - 5, y - 5, x + labelWidth + barMaxWidth + 95, bottom + 2, 0xC0000000);
+
+        for (int i = 0; i < phases.length; i++) {
+            UIProfiler.Phase phase = phases[i];
+            float p50 = UIProfiler.getPercentileNanos(phase, 50f) / 1_000_000f;
+            float p99 = UIProfiler.getPercentileNanos(phase, 99f) / 1_000_000f;
+            int barX = x + labelWidth;
+            int w50 = Math.min(barMaxWidth, Math.round(p50 * pixelsPerMs));
+            int w99 = Math.min(barMaxWidth, Math.round(p99 * pixelsPerMs));
+
+            guiGraphics.drawString(this.font, phase.getLabel(), x, y, 0xFFFFFFFF, false);
+            guiGraphics.fill(barX, y, barX + w99, y + lineHeight - 2, 0x80FF8040);
+            guiGraphics.fill(barX, y, barX + w50, y + lineHeight - 2, 0xFF40C040);
+            guiGraphics.drawString(this.font, profilerPhaseText[i], barX + barMaxWidth + 5, y, 0xFFCCCCCC, false);
+            y += lineHeight;
+        }
+
+        // Element types with the most own render time in the last frame
+        guiGraphics.drawString(this.font, "renderSelf (last frame):", x, y, 0xFFFFFFAA, false);
+        y += lineHeight;
+        for (String text : profilerTypeText) {
+            guiGraphics.drawString(this.font, text, x + 5, y, 0xFFCCCCCC, false);
+            y += lineHeight;
+        }
+    }
+
+    private void updateProfilerText(UIProfiler.Phase[] phases, int typeLines) {
+        if (profilerPhaseText.length != phases.length) {
+            profilerPhaseText = new String[phases.length];
+        }
+        for (int i = 0; i < phases.length; i++) {
+            profilerText.setLength(0);
+            appendMillis(profilerText, UIProfiler.getPercentileNanos(phases[i], 50f), 2);
+            profilerText.append(" / ");
+            appendMillis(profilerText, UIProfiler.getPercentileNanos(phases[i], 99f), 2);
+            profilerText.append(" ms");
+            profilerPhaseText[i] = profilerText.toString();
+        }
+
+        int count = UIProfiler.getTypeCount();
+        if (profilerTypeShown.length < count) {
+            profilerTypeShown = new boolean[UIProfiler.MAX_TYPES];
+        }
+        Arrays.fill(profilerTypeShown, 0, count, false);
+        if (profilerTypeText.length != typeLines) {
+            profilerTypeText = new String[typeLines];
+        }
+        for (int line = 0; line < typeLines; line++) {
+            int best = -1;
+            for (int i = 0; i < count; i++) {
+                if (!profilerTypeShown[i] && (best < 0
+                        || UIProfiler.getTypeLastFrameNanos(i) > UIProfiler.getTypeLastFrameNanos(best))) {
+                    best = i;
+                }
+            }
+            profilerTypeShown[best] = true;
+            profilerText.setLength(0);
+            profilerText.append(UIProfiler.getType(best).getSimpleName())
+                    .append(" x").append(UIProfiler.getTypeLastFrameCount(best)).append("  ");
+            appendMillis(profilerText, UIProfiler.getTypeLastFrameNanos(best), 3);
+            profilerText.append(" ms");
+            profilerTypeText[line] = profilerText.toString();
+        }
+    }
+
+    /**
+     * Append nanoseconds as milliseconds with a fixed number of decimals, rounded half up.
+     */
+    private static void appendMillis(StringBuilder sb, long nanos, int decimals) {
+        long scale = 1;
+        for (int i = 0; i < decimals; i++) {
+            scale *= 10;
+        }
+        long units = (Math.max(0L, nanos) * scale + 500_000L) / 1_000_000L;
+        sb.append(units / scale).append('.');
+        long fraction = units % scale;
+        for (long digit = scale / 10; digit > 1 && fraction < digit; digit /= 10) {
+            sb.append('0');
+        }
+        sb.append(fraction);
+    }
+
     /**
      * Render time control status overlay when pause or timescale is active.
      */
@@ -104,44 +351,98 @@ public abstract class GelatinUIScreen<M extends GelatinMenu> extends AbstractCon
 
     @Override
     public boolean mouseClicked(double mouseX, double mouseY, int button) {
-        super.mouseClicked(mouseX, mouseY, button);
+        boolean handled = super.mouseClicked(mouseX, mouseY, button);
 
-        // Notify global click listeners first
+        // Pointer input is queued and handled in order at the start of the next UI update. Global click listeners
+        // are told from the queued press, in content coordinates so they can be compared with element bounds.
+        if (uiScreen != null) {
+            uiScreen.getInputQueue().mouseClick((int) mouseX, (int) mouseY, button);
+            return handled || uiScreen.isOverUI((int) mouseX, (int) mouseY);
+        }
         notifyGlobalClickListeners(mouseX, mouseY, button);
+        return handled;
+    }
 
+    @Override
+    public boolean mouseDragged(double mouseX, double mouseY, int button, double dragX, double dragY) {
+        // Repeated motion collapses in the queue; UIScreen.update delivers one DRAG per frame to the capturing element
         if (uiScreen != null) {
-            uiScreen.onMouseMove((int) mouseX, (int) mouseY);
-            if (uiScreen.onMouseClick((int) mouseX, (int) mouseY, button)) {
-                return true;
-            }
+            uiScreen.getInputQueue().mouseDrag((int) mouseX, (int) mouseY, button);
         }
-        return super.mouseClicked(mouseX, mouseY, button);
+        return super.mouseDragged(mouseX, mouseY, button, dragX, dragY) || uiScreen != null;
     }
 
     @Override
-    public boolean mouseScrolled(double mouseX, double mouseY, double scrollX, double scrollY) {
-        super.mouseScrolled(mouseX, mouseY, scrollX, scrollY);
+    public boolean mouseReleased(double mouseX, double mouseY, int button) {
+        if (uiScreen != null) {
+            uiScreen.getInputQueue().mouseRelease((int) mouseX, (int) mouseY, button);
+        }
+        return super.mouseReleased(mouseX, mouseY, button) || uiScreen != null;
+    }
 
+    @Override
+    public boolean mouseScrolled(double mouseX, double mouseY, double scrollX, double scrollY) {
+        boolean handled = super.mouseScrolled(mouseX, mouseY, scrollX, scrollY);
         if (uiScreen != null) {
-            if (uiScreen.onMouseScroll((int) mouseX, (int) mouseY, (float) scrollY)) {
-                return true;
-            }
+            uiScreen.getInputQueue().mouseScroll((int) mouseX, (int) mouseY, (float) scrollY);
+            return true;
         }
-        return super.mouseScrolled(mouseX, mouseY, scrollX, scrollY);
+        return handled;
     }
 
     @Override
     public void resize(net.minecraft.client.Minecraft minecraft, int width, int height) {
-        super.resize(minecraft, width, height);
-
-        super.resize(minecraft, width, height);
-        if (uiScreen != null) {
-            uiScreen.resize(width, height);
+        // Screen.resize re-runs init(), which resizes the existing UIScreen instead of rebuilding it
+        resizing = true;
+        try {
+            super.resize(minecraft, width, height);
+        } finally {
+            resizing = false;
         }
     }
 
     @Override
     public boolean keyPressed(int keyCode, int scanCode, int modifiers) {
+        // Every key goes through the input queue, in order with pointer input, so it reaches whatever the clicks
+        // before it focused. Keys the UI does not use come back through deferUnusedKey.
+        if (uiScreen != null) {
+            uiScreen.getInputQueue().keyPressed(keyCode, scanCode, modifiers);
+            return true;
+        }
+        return handleUnusedKey(keyCode, scanCode, modifiers);
+    }
+
+    private void deferUnusedKey(int keyCode, int scanCode, int modifiers) {
+        if (unusedKeyCount * 3 == unusedKeys.length) {
+            unusedKeys = Arrays.copyOf(unusedKeys, unusedKeys.length * 2);
+        }
+        int i = unusedKeyCount++ * 3;
+        unusedKeys[i] = keyCode;
+        unusedKeys[i + 1] = scanCode;
+        unusedKeys[i + 2] = modifiers;
+    }
+
+    /**
+     * Hand the keys the UI did not use this frame to handleUnusedKey. Runs after rendering, so a key that closes
+     * the screen does not do so in the middle of an update.
+     */
+    private void handleUnusedKeys() {
+        int count = unusedKeyCount;
+        unusedKeyCount = 0;
+        for (int i = 0; i < count; i++) {
+            if (this.minecraft == null || this.minecraft.screen != this) {
+                return; // an earlier key closed the screen
+            }
+            handleUnusedKey(unusedKeys[i * 3], unusedKeys[i * 3 + 1], unusedKeys[i * 3 + 2]);
+        }
+    }
+
+    /**
+     * Handle a key the UI did not use: the debug toggles, then Screen.keyPressed (Escape, the inventory key, ...).
+     * Override and call super to add keys of your own while keeping the toggles.
+     * @return true if the key was handled
+     */
+    protected boolean handleUnusedKey(int keyCode, int scanCode, int modifiers) {
         // Check for debug toggle keys BEFORE calling super to prevent escape key from closing the screen
         // Key '8' = GLFW_KEY_8 = 56
         // Key '9' = GLFW_KEY_9 = 57
@@ -150,6 +451,7 @@ public abstract class GelatinUIScreen<M extends GelatinMenu> extends AbstractCon
         // Key '6' = GLFW_KEY_6 = 54
         // Key '5' = GLFW_KEY_5 = 53
         // Key '4' = GLFW_KEY_4 = 52
+        // Key '3' = GLFW_KEY_3 = 51
         // Key 'P' = GLFW_KEY_P = 80
         // Key 'N' = GLFW_KEY_N = 78
         // Key '[' = GLFW_KEY_LEFT_BRACKET = 91
@@ -167,6 +469,9 @@ public abstract class GelatinUIScreen<M extends GelatinMenu> extends AbstractCon
         } else if (keyCode == 55) { // Key '7' - Toggle culled elements debug
             io.github.currenj.gelatinui.gui.UIElement.toggleDebugCulled();
             return true;
+        } else if (keyCode == 51) { // Key '3' - Toggle profiler overlay
+            io.github.currenj.gelatinui.gui.UIProfiler.toggle();
+            return true;
         }
 
         // Time control keys
@@ -203,6 +508,17 @@ public abstract class GelatinUIScreen<M extends GelatinMenu> extends AbstractCon
         return super.keyPressed(keyCode, scanCode, modifiers);
     }
 
+    @Override
+    public boolean charTyped(char character, int modifiers) {
+        if (uiScreen != null) {
+            uiScreen.getInputQueue().charTyped(character, modifiers);
+            if (uiScreen.getFocusManager().hasFocus()) {
+                return true;
+            }
+        }
+        return super.charTyped(character, modifiers);
+    }
+
     /**
      * Add a global click listener to this screen.
      *
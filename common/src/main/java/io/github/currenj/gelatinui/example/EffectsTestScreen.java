@@ -31,6 +31,7 @@ public class EffectsTestScreen extends GelatinUIScreen<GelatinMenu> {
     private SpriteButton clearAllButton;
     private Label statusLabel;
     private UIElement<?> demoPanel;
+    private VBox mainContainer;
 
     // Effect state
     private boolean breatheEnabled = false;
@@ -48,7 +49,7 @@ public class EffectsTestScreen extends GelatinUIScreen<GelatinMenu> {
         );
 
         // Main container
-        VBox mainContainer = new VBox()
+        mainContainer = new VBox()
                 .alignment(VBox.Alignment.CENTER)
                 .spacing(20)
                 .padding(30);
@@ -250,6 +251,11 @@ public class EffectsTestScreen extends GelatinUIScreen<GelatinMenu> {
         uiScreen.setRoot(mainContainer);
     }
 
+    @Override
+    protected void onUIResized(int width, int height) {
+        mainContainer.scaleToHeight(uiScreen.getViewHeight());
+    }
+
     @Override
     protected void renderContent(GuiGraphics graphics, int mouseX, int mouseY, float partialTick) {
         // Dark background
@@ -46,7 +46,6 @@ public class InputComponentsTestScreen extends GelatinUIScreen<GelatinMenu> {
                 .borderColor(0xFF404040)
                 .focusedBorderColor(0xFF00AAFF)
                 .onTextChange(text -> updateStatus("Username: " + text))
-                .registerGlobalClickListener(this)
                 .alignment(TextInput.TextAlignment.LEFT);
         usernameSection.addChild(usernameLabel);
         usernameSection.addChild(usernameInput);
@@ -61,8 +60,7 @@ public class InputComponentsTestScreen extends GelatinUIScreen<GelatinMenu> {
                 .textColor(0xFFFFFFFF)
                 .backgroundColor(0xFF1A1A1A)
                 .borderColor(0xFF404040)
-                .focusedBorderColor(0xFF00AAFF)
-                .registerGlobalClickListener(this);
+                .focusedBorderColor(0xFF00AAFF);
         emailSection.addChild(emailLabel);
         emailSection.addChild(emailInput);
         mainContainer.addChild(emailSection);
@@ -143,32 +141,4 @@ public class InputComponentsTestScreen extends GelatinUIScreen<GelatinMenu> {
             statusLabel.text("✓ Form submitted successfully!").color(0xFF00FF00);
         }
     }
-
-    @Override
-    public boolean charTyped(char character, int modifiers) {
-        // Forward character input to the focused text input
-        if (usernameInput.isFocused()) {
-            usernameInput.charTyped(character);
-            return true;
-        }
-        if (emailInput.isFocused()) {
-            emailInput.charTyped(character);
-            return true;
-        }
-        return super.charTyped(character, modifiers);
-    }
-
-    @Override
-    public boolean keyPressed(int keyCode, int scanCode, int modifiers) {
-        // Forward key presses to the focused text input
-        if (usernameInput.isFocused()) {
-            usernameInput.keyPressed(keyCode);
-            return true;
-        }
-        if (emailInput.isFocused()) {
-            emailInput.keyPressed(keyCode);
-            return true;
-        }
-        return super.keyPressed(keyCode, scanCode, modifiers);
-    }
 }
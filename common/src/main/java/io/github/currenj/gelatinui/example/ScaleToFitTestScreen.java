@@ -107,12 +107,12 @@ public class ScaleToFitTestScreen extends GelatinUIScreen<GelatinMenu> {
     }
 
     @Override
-    public boolean keyPressed(int keyCode, int scanCode, int modifiers) {
+    protected boolean handleUnusedKey(int keyCode, int scanCode, int modifiers) {
         if (keyCode == 54) { // Key '6' = GLFW_KEY_
             outerVBox.scaleToHeight(this.uiScreen.getViewHeight());
             return true;
         }
 
-        return super.keyPressed(keyCode, scanCode, modifiers);
+        return super.handleUnusedKey(keyCode, scanCode, modifiers);
     }
 }
@@ -115,65 +115,64 @@ public class TabsTestScreen extends GelatinUIScreen<GelatinMenu> {
                             .color(UI.rgb(255, 255, 255));
                 });
 
+        // Second tab set builds each tab's content on first selection and keeps at most three
+        itemTabs2.maxCachedTabs(3);
+
         // Tab 1 content for second tabs: Labels and progress bar
-        VBox tab1Content2 = UI.vbox().spacing(4).alignment(VBox.Alignment.CENTER);
-        Label tab1Label1_2 = UI.label(tempContext, "Gold is shiny", UI.rgb(255, 215, 0));
-        Label tab1Label2_2 = UI.label(tempContext, "Selected: Gold", UI.rgb(255, 255, 255));
-        SpriteProgressBar progressBar = UI.progressBar().progress(0.7f).skillLevel(50);
-        tab1Content2.addChild(tab1Label1_2);
-        tab1Content2.addChild(tab1Label2_2);
-        tab1Content2.addChild(progressBar);
+        itemTabs2.addTab(new ItemStack(Items.GOLD_INGOT), () -> {
+            VBox content = UI.vbox().spacing(4).alignment(VBox.Alignment.CENTER);
+            content.addChild(UI.label(tempContext, "Gold is shiny", UI.rgb(255, 215, 0)));
+            content.addChild(UI.label(tempContext, "Selected: Gold", UI.rgb(255, 255, 255)));
+            content.addChild(UI.progressBar().progress(0.7f).skillLevel(50));
+            return content;
+        });
 
         // Tab 2 content: HBox with item renderers
-        VBox tab2Content2 = UI.vbox().spacing(4).alignment(VBox.Alignment.CENTER);
-        Label tab2Label_2 = UI.label(tempContext, "Iron Items", UI.rgb(200, 200, 200));
-        HBox itemBox = UI.hbox().spacing(10).alignment(HBox.Alignment.CENTER);
-        ItemRenderer ironRenderer = UI.itemRenderer(new ItemStack(Items.IRON_INGOT, 10));
-        ItemRenderer ironSwordRenderer = UI.itemRenderer(new ItemStack(Items.IRON_SWORD, 1));
-        itemBox.addChild(ironRenderer);
-        itemBox.addChild(ironSwordRenderer);
-        tab2Content2.addChild(tab2Label_2);
-        tab2Content2.addChild(itemBox);
+        itemTabs2.addTab(new ItemStack(Items.IRON_INGOT), () -> {
+            VBox content = UI.vbox().spacing(4).alignment(VBox.Alignment.CENTER);
+            HBox itemBox = UI.hbox().spacing(10).alignment(HBox.Alignment.CENTER);
+            itemBox.addChild(UI.itemRenderer(new ItemStack(Items.IRON_INGOT, 10)));
+            itemBox.addChild(UI.itemRenderer(new ItemStack(Items.IRON_SWORD, 1)));
+            content.addChild(UI.label(tempContext, "Iron Items", UI.rgb(200, 200, 200)));
+            content.addChild(itemBox);
+            return content;
+        });
 
         // Tab 3 content: Rotating item ring
-        VBox tab3Content2 = UI.vbox().spacing(4).alignment(VBox.Alignment.CENTER);
-        Label tab3Label_2 = UI.label(tempContext, "Coal Ring", UI.rgb(100, 100, 100));
-        RotatingItemRing ring = UI.rotatingItemRing()
-                .radius(40)
-                .defaultAngularSpeed(0.5f)
-                .defaultItemScale(1.0f)
-                .hoverItemScale(1.2f)
-                .selectedItemScale(1.4f);
-        List<ItemStack> ringItems = new ArrayList<>();
-        ringItems.add(new ItemStack(Items.COAL, 64));
-        ringItems.add(new ItemStack(Items.CHARCOAL, 32));
-        ring.setItems(ringItems);
-        tab3Content2.addChild(tab3Label_2);
-        tab3Content2.addChild(ring);
+        itemTabs2.addTab(new ItemStack(Items.COAL), () -> {
+            VBox content = UI.vbox().spacing(4).alignment(VBox.Alignment.CENTER);
+            RotatingItemRing ring = UI.rotatingItemRing()
+                    .radius(40)
+                    .defaultAngularSpeed(0.5f)
+                    .defaultItemScale(1.0f)
+                    .hoverItemScale(1.2f)
+                    .selectedItemScale(1.4f);
+            List<ItemStack> ringItems = new ArrayList<>();
+            ringItems.add(new ItemStack(Items.COAL, 64));
+            ringItems.add(new ItemStack(Items.CHARCOAL, 32));
+            ring.setItems(ringItems);
+            content.addChild(UI.label(tempContext, "Coal Ring", UI.rgb(100, 100, 100)));
+            content.addChild(ring);
+            return content;
+        });
 
         // Tab 4 content: Buttons
-        VBox tab4Content2 = UI.vbox().spacing(4).alignment(VBox.Alignment.CENTER);
-        Label tab4Label_2 = UI.label(tempContext, "Redstone Controls", UI.rgb(255, 0, 0));
-        SpriteButton button1 = UI.spriteButton(100, 20, UI.rgb(100, 100, 255)).text("Activate", UI.rgb(255, 255, 255));
-        SpriteButton button2 = UI.spriteButton(100, 20, UI.rgb(255, 100, 100)).text("Deactivate", UI.rgb(255, 255, 255));
-        tab4Content2.addChild(tab4Label_2);
-        tab4Content2.addChild(button1);
-        tab4Content2.addChild(button2);
+        itemTabs2.addTab(new ItemStack(Items.REDSTONE), () -> {
+            VBox content = UI.vbox().spacing(4).alignment(VBox.Alignment.CENTER);
+            content.addChild(UI.label(tempContext, "Redstone Controls", UI.rgb(255, 0, 0)));
+            content.addChild(UI.spriteButton(100, 20, UI.rgb(100, 100, 255)).text("Activate", UI.rgb(255, 255, 255)));
+            content.addChild(UI.spriteButton(100, 20, UI.rgb(255, 100, 100)).text("Deactivate", UI.rgb(255, 255, 255)));
+            return content;
+        });
 
         // Tab 5 content: Mixed
-        VBox tab5Content2 = UI.vbox().spacing(4).alignment(VBox.Alignment.CENTER);
-        Label tab5Label_2 = UI.label(tempContext, "Lapis Mix", UI.rgb(0, 0, 255));
-        ItemRenderer lapisRenderer = UI.itemRenderer(new ItemStack(Items.LAPIS_LAZULI, 20));
-        Label tab5Label2_2 = UI.label(tempContext, "Enchanting!", UI.rgb(150, 150, 255));
-        tab5Content2.addChild(tab5Label_2);
-        tab5Content2.addChild(lapisRenderer);
-        tab5Content2.addChild(tab5Label2_2);
-
-        itemTabs2.addTab(new ItemStack(Items.GOLD_INGOT), tab1Content2);
-        itemTabs2.addTab(new ItemStack(Items.IRON_INGOT), tab2Content2);
-        itemTabs2.addTab(new ItemStack(Items.COAL), tab3Content2);
-        itemTabs2.addTab(new ItemStack(Items.REDSTONE), tab4Content2);
-        itemTabs2.addTab(new ItemStack(Items.LAPIS_LAZULI), tab5Content2);
+        itemTabs2.addTab(new ItemStack(Items.LAPIS_LAZULI), () -> {
+            VBox content = UI.vbox().spacing(4).alignment(VBox.Alignment.CENTER);
+            content.addChild(UI.label(tempContext, "Lapis Mix", UI.rgb(0, 0, 255)));
+            content.addChild(UI.itemRenderer(new ItemStack(Items.LAPIS_LAZULI, 20)));
+            content.addChild(UI.label(tempContext, "Enchanting!", UI.rgb(150, 150, 255)));
+            return content;
+        });
 
         itemTabs2.update(0);
         outerVBox.addChild(itemTabs2);
@@ -0,0 +1,220 @@
+package io.github.currenj.gelatinui.gui;
+
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Work a UIScreen postpones to later frames so a budgeted update never overruns its frame.
+ *
+ * Tasks are anchored to an element and drained in priority order: tasks whose anchor is on screen first,
+ * then by ascending priority value, then in submission order. On-screen state is re-evaluated on every drain,
+ * so scrolling a deferred section into view moves its work to the front.
+ *
+ * During a budgeted update, containers also hand the update of dirty child subtrees that lie entirely
+ * outside the viewport to the active queue instead of updating them inline. The frame time such a subtree
+ * misses is added up and handed to its update when it finally runs, so animations and effects in it do not
+ * lose time while postponed.
+ */
+public class DeferredWorkQueue {
+    /** Default priority for deferred work. Lower values run first. */
+    public static final int PRIORITY_NORMAL = 0;
+    /** Priority used for postponed off-screen subtree updates. */
+    public static final int PRIORITY_OFFSCREEN_UPDATE = 100;
+
+    // Queue of the screen whose budgeted update is in progress; render thread only
+    private static DeferredWorkQueue active = null;
+
+    private final PriorityQueue<Task> tasks = new PriorityQueue<>();
+    private final Map<IUIElement, PendingUpdate> pendingUpdates = new IdentityHashMap<>();
+    private final List<Task> scratch = new ArrayList<>();
+    private long nextSequence = 0;
+    private Rectangle2D viewport;
+
+    /**
+     * Queue collecting off-screen work right now, or null outside a budgeted update.
+     */
+    public static DeferredWorkQueue active() {
+        return active;
+    }
+
+    /**
+     * Start collecting off-screen subtree updates for the given viewport.
+     */
+    void activate(Rectangle2D viewport) {
+        this.viewport = viewport;
+        active = this;
+    }
+
+    void deactivate() {
+        if (active == this) {
+            active = null;
+        }
+    }
+
+    /**
+     * Queue a task at normal priority.
+     * @param anchor element the work belongs to, used to favor on-screen work; null counts as on screen
+     */
+    public void enqueue(IUIElement anchor, Runnable work) {
+        enqueue(anchor, PRIORITY_NORMAL, work);
+    }
+
+    /**
+     * Queue a task.
+     * @param anchor element the work belongs to, used to favor on-screen work; null counts as on screen
+     * @param priority lower values run first among tasks with the same on-screen state
+     */
+    public void enqueue(IUIElement anchor, int priority, Runnable work) {
+        Task task = new Task(anchor, priority, nextSequence++, work);
+        task.onScreen = isOnScreen(anchor);
+        tasks.add(task);
+    }
+
+    /**
+     * Offer the update of a dirty child subtree to the queue. A laid out container lying entirely outside the
+     * viewport is postponed: its update is queued the first time, and this frame's time is added to what it
+     * will be updated with. A postponed subtree that is back on screen is caught up right away with all the
+     * time it missed.
+     * @return true if the caller must not update the element itself this frame
+     */
+    public boolean deferUpdate(IUIElement element, float deltaTime) {
+        PendingUpdate pending = pendingUpdates.get(element);
+        if (!shouldDefer(element)) {
+            if (pending == null) {
+                return false;
+            }
+            pendingUpdates.remove(element);
+            pending.done = true;
+            element.update(pending.deltaTime + deltaTime);
+            return true;
+        }
+        if (pending == null) {
+            PendingUpdate created = new PendingUpdate();
+            pendingUpdates.put(element, created);
+            enqueue(element, PRIORITY_OFFSCREEN_UPDATE, () -> {
+                if (created.done) {
+                    return;
+                }
+                pendingUpdates.remove(element);
+                created.done = true;
+                if (element.needsUpdate()) {
+                    element.update(created.deltaTime);
+                }
+            });
+            pending = created;
+        }
+        pending.deltaTime += deltaTime;
+        return true;
+    }
+
+    private boolean shouldDefer(IUIElement element) {
+        if (viewport == null || !(element instanceof UIContainer<?>) || !element.isVisible()) {
+            return false;
+        }
+        org.joml.Vector2f size = element.getSize();
+        return size.x > 0f && size.y > 0f && !element.isInViewport(viewport);
+    }
+
+    /**
+     * Run queued tasks in priority order until the deadline passes or the queue is empty.
+     * @param deadlineNanos System.nanoTime() value after which no new task is started
+     * @return number of tasks run
+     */
+    public int drain(Rectangle2D viewport, long deadlineNanos) {
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+        this.viewport = viewport;
+        refreshOnScreen();
+
+        int ran = 0;
+        while (!tasks.isEmpty() && System.nanoTime() < deadlineNanos) {
+            tasks.poll().work.run();
+            ran++;
+        }
+        return ran;
+    }
+
+    /**
+     * Run every queued task, including tasks queued while draining.
+     */
+    public int drainAll(Rectangle2D viewport) {
+        return drain(viewport, Long.MAX_VALUE);
+    }
+
+    public int size() {
+        return tasks.size();
+    }
+
+    public boolean isEmpty() {
+        return tasks.isEmpty();
+    }
+
+    /**
+     * Drop all queued work without running it.
+     */
+    public void clear() {
+        tasks.clear();
+        pendingUpdates.clear();
+    }
+
+    private void refreshOnScreen() {
+        boolean changed = false;
+        for (Task task : tasks) {
+            boolean onScreen = isOnScreen(task.anchor);
+            if (onScreen != task.onScreen) {
+                task.onScreen = onScreen;
+                changed = true;
+            }
+        }
+        if (changed) {
+            // Re-heap with the new keys
+            scratch.addAll(tasks);
+            tasks.clear();
+            tasks.addAll(scratch);
+            scratch.clear();
+        }
+    }
+
+    private boolean isOnScreen(IUIElement anchor) {
+        return anchor == null || viewport == null || anchor.isInViewport(viewport);
+    }
+
+    /**
+     * Frame time collected for a postponed subtree update.
+     */
+    private static final class PendingUpdate {
+        float deltaTime;
+        boolean done;
+    }
+
+    private static final class Task implements Comparable<Task> {
+        final IUIElement anchor;
+        final int priority;
+        final long sequence;
+        final Runnable work;
+        boolean onScreen;
+
+        Task(IUIElement anchor, int priority, long sequence, Runnable work) {
+            this.anchor = anchor;
+            this.priority = priority;
+            this.sequence = sequence;
+            this.work = work;
+        }
+
+        @Override
+        public int compareTo(Task other) {
+            if (onScreen != other.onScreen) {
+                return onScreen ? -1 : 1;
+            }
+            if (priority != other.priority) {
+                return Integer.compare(priority, other.priority);
+            }
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package io.github.currenj.gelatinui.gui;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Keyboard focus for one UIScreen: at most one {@link Focusable} element holds focus and receives key presses
+ * and typed characters directly, without searching the tree or notifying every input.
+ *
+ * Tab order is the pre-order of focusable elements in the tree, i.e. the order they are laid out in. It is
+ * collected once and kept, with each element's index, until some child list changes ({@link DirtyFlag#CHILDREN});
+ * the next traversal then collects it again. Moving focus is a map lookup plus a step to the next element that
+ * is visible and still focusable. Hidden or disabled elements stay in the order and are skipped.
+ *
+ * Focus changes call {@link Focusable#onFocusChanged} and then deliver FOCUS or BLUR to the element alone.
+ * A focused element that is removed from the tree loses focus the next time the manager looks at it.
+ */
+public class FocusManager {
+    private final UIEventDispatcher dispatcher;
+    private IUIElement root;
+    private IUIElement focused = null;
+
+    private final ArrayList<IUIElement> order = new ArrayList<>();
+    private final IdentityHashMap<IUIElement, Integer> orderIndex = new IdentityHashMap<>();
+    private boolean orderValid = false;
+    private int orderVersion = 0;
+    private int attachedVersion = 0; // structure version at which the focused element was last seen attached
+    private int rebuildCount = 0;
+
+    FocusManager(UIEventDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * Set the tree focus lives in. Any current focus is dropped.
+     */
+    public void setRoot(IUIElement root) {
+        blur();
+        if (this.root instanceof UIElement<?> previous && previous.focusManager == this) {
+            previous.focusManager = null;
+        }
+        this.root = root;
+        if (root instanceof UIElement<?> rootElement) {
+            rootElement.focusManager = this;
+        }
+        orderValid = false;
+    }
+
+    /**
+     * The focus manager of the screen whose tree an element is in, or null if the tree is not shown by a
+     * UIScreen.
+     */
+    public static FocusManager of(IUIElement element) {
+        IUIElement top = element;
+        while (top != null && top.getParent() != null) {
+            top = top.getParent();
+        }
+        return top instanceof UIElement<?> rootElement ? rootElement.focusManager : null;
+    }
+
+    /**
+     * The focused element, or null.
+     */
+    public IUIElement getFocused() {
+        validateFocus();
+        return focused;
+    }
+
+    public boolean hasFocus() {
+        return getFocused() != null;
+    }
+
+    public boolean isFocused(IUIElement element) {
+        return element != null && getFocused() == element;
+    }
+
+    /**
+     * Give focus to an element, taking it from the current one.
+     * @return true if the element now has focus; false if it is not a focusable element
+     */
+    public boolean focus(IUIElement element) {
+        if (element == null) {
+            blur();
+            return false;
+        }
+        if (!(element instanceof Focusable f) || !f.isFocusable()) {
+            return false;
+        }
+        if (element == focused) {
+            return true;
+        }
+        blur();
+        focused = element;
+        attachedVersion = UIElement.getStructureVersion(root);
+        f.onFocusChanged(true);
+        dispatcher.dispatchTo(element, UIEvent.Type.FOCUS, 0, 0);
+        return true;
+    }
+
+    /**
+     * Remove focus from the focused element, if any.
+     */
+    public void blur() {
+        IUIElement previous = focused;
+        if (previous == null) {
+            return;
+        }
+        focused = null;
+        ((Focusable) previous).onFocusChanged(false);
+        dispatcher.dispatchTo(previous, UIEvent.Type.BLUR, 0, 0);
+    }
+
+    /**
+     * Move focus to the next focusable element in tab order, wrapping around.
+     * @return true if focus moved
+     */
+    public boolean focusNext() {
+        return step(1);
+    }
+
+    /**
+     * Move focus to the previous focusable element in tab order, wrapping around.
+     * @return true if focus moved
+     */
+    public boolean focusPrevious() {
+        return step(-1);
+    }
+
+    /**
+     * Focus the element under a click: the innermost focusable element on the path, or nothing.
+     * @param path root first, target last, as recorded by {@link UIEventDispatcher}
+     */
+    void focusFromPath(List<IUIElement> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            IUIElement e = path.get(i);
+            if (e instanceof Focusable f && f.isFocusable()) {
+                focus(e);
+                return;
+            }
+        }
+        blur();
+    }
+
+    /**
+     * Hand a key press to the focused element.
+     * @return true if it handled the key
+     */
+    public boolean keyPressed(int keyCode, int scanCode, int modifiers) {
+        IUIElement target = getFocused();
+        return target != null && ((Focusable) target).onKeyPressed(keyCode, scanCode, modifiers);
+    }
+
+    /**
+     * Hand a typed character to the focused element.
+     * @return true if it handled the character
+     */
+    public boolean charTyped(char character, int modifiers) {
+        IUIElement target = getFocused();
+        return target != null && ((Focusable) target).onCharTyped(character, modifiers);
+    }
+
+    /**
+     * Focusable elements in tab order, rebuilt first if the tree's structure changed. Do not modify.
+     */
+    public List<IUIElement> getTabOrder() {
+        ensureOrder();
+        return order;
+    }
+
+    /**
+     * Number of times the tab order has been collected, for tests and profiling.
+     */
+    public int getRebuildCount() {
+        return rebuildCount;
+    }
+
+    private boolean step(int direction) {
+        ensureOrder();
+        int n = order.size();
+        if (n == 0) {
+            return false;
+        }
+        IUIElement current = getFocused();
+        Integer index = current != null ? orderIndex.get(current) : null;
+        int start = index != null ? index : (direction > 0 ? -1 : n);
+        for (int k = 1; k <= n; k++) {
+            IUIElement candidate = order.get(Math.floorMod(start + k * direction, n));
+            if (candidate == current) {
+                return false; // back where we started: nothing else can take focus
+            }
+            if (((Focusable) candidate).isFocusable() && isShown(candidate)) {
+                return focus(candidate);
+            }
+        }
+        return false;
+    }
+
+    private void ensureOrder() {
+        int version = UIElement.getStructureVersion(root);
+        if (orderValid && orderVersion == version) {
+            return;
+        }
+        order.clear();
+        orderIndex.clear();
+        if (root != null) {
+            collect(root);
+        }
+        orderValid = true;
+        orderVersion = version;
+        rebuildCount++;
+    }
+
+    private void collect(IUIElement element) {
+        if (element instanceof Focusable) {
+            orderIndex.put(element, order.size());
+            order.add(element);
+        }
+        if (element instanceof UIContainer<?> container) {
+            List<IUIElement> children = container.getChildren();
+            for (int i = 0; i < children.size(); i++) {
+                collect(children.get(i));
+            }
+        }
+    }
+
+    /**
+     * Drop focus from an element no longer under the root. Walks up the parents only after a structure change.
+     */
+    private void validateFocus() {
+        if (focused == null) {
+            return;
+        }
+        int version = UIElement.getStructureVersion(root);
+        if (version == attachedVersion) {
+            return;
+        }
+        IUIElement e = focused;
+        while (e.getParent() != null) {
+            e = e.getParent();
+        }
+        if (e == root) {
+            attachedVersion = version;
+        } else {
+            blur();
+        }
+    }
+
+    private static boolean isShown(IUIElement element) {
+        for (IUIElement e = element; e != null; e = e.getParent()) {
+            if (!e.isVisible()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.currenj.gelatinui.gui;
+
+/**
+ * An element that can hold keyboard focus in a UIScreen, such as a text field.
+ *
+ * The screen's {@link FocusManager} keeps at most one focused element and hands key presses and typed
+ * characters straight to it; nothing else in the tree sees them.
+ */
+public interface Focusable {
+    /**
+     * Whether the element currently accepts focus, by click or Tab. Checked each time, so it may change.
+     */
+    default boolean isFocusable() {
+        return true;
+    }
+
+    /**
+     * Called when the element gains or loses focus, before the FOCUS or BLUR event is dispatched to it.
+     */
+    void onFocusChanged(boolean focused);
+
+    /**
+     * Key pressed while this element has focus. Codes are GLFW key codes and modifier bits.
+     * @return true if the key was handled
+     */
+    boolean onKeyPressed(int keyCode, int scanCode, int modifiers);
+
+    /**
+     * Character typed while this element has focus.
+     * @return true if the character was handled
+     */
+    boolean onCharTyped(char character, int modifiers);
+}
@@ -0,0 +1,472 @@
+package io.github.currenj.gelatinui.gui;
+
+import io.github.currenj.gelatinui.gui.components.SpriteGeometry;
+import io.github.currenj.gelatinui.gui.minecraft.RepeatTextureCache;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.ItemStack;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Render context that draws nothing and instead measures render cost.
+ *
+ * Counts draw calls, quads, texture switches, scissor changes and text measurements per frame, mirroring how
+ * MinecraftRenderContext batches work (a sprite geometry or tiled region is one draw call, an item batch is
+ * one draw call per item). Optionally records every command into a compact binary stream so whole-frame
+ * output can be compared in tests.
+ *
+ * Typical use:
+ * <pre>
+ * HeadlessRenderContext ctx = new HeadlessRenderContext();
+ * ctx.beginFrame();
+ * screen.render(ctx);
+ * HeadlessRenderContext.FrameStats stats = ctx.endFrame();
+ * </pre>
+ */
+public class HeadlessRenderContext implements IRenderContext {
+    /** Command stream opcodes. Every command starts with one opcode byte followed by its operands. */
+    public static final byte OP_FILL = 1;            // x1, y1, x2, y2, color (ints)
+    public static final byte OP_TEXT = 2;            // x, y, color (ints), centered (byte), length (short), UTF-8 bytes
+    public static final byte OP_TEXTURE = 3;        // texture index, x, y, w, h, u, v, regionW, regionH, texW, texH (ints)
+    public static final byte OP_TILED = 4;          // texture index, x, y, w, h, u, v, regionW, regionH, texW, texH, tileW, tileH (ints)
+    public static final byte OP_GEOMETRY = 5;       // texture index, x, y, quad count (ints)
+    public static final byte OP_SCISSOR_PUSH = 6;   // x, y, w, h (ints)
+    public static final byte OP_SCISSOR_POP = 7;    // no operands
+    public static final byte OP_BLEND = 8;          // enabled (byte)
+    public static final byte OP_ITEMS = 9;          // item count (int)
+    public static final byte OP_TRANSLATE_PUSH = 10; // x, y (float bits as ints)
+    public static final byte OP_TRANSLATE_POP = 11;  // no operands
+
+    /**
+     * Counters for one frame.
+     */
+    public record FrameStats(int drawCalls, int quads, int textureSwitches, int scissorChanges, int textMeasurements) {
+        public static final FrameStats EMPTY = new FrameStats(0, 0, 0, 0, 0);
+    }
+
+    private final int charWidth;
+    private final int fontHeight;
+
+    // Current frame counters
+    private int drawCalls;
+    private int quads;
+    private int textureSwitches;
+    private int scissorChanges;
+    private int textMeasurements;
+    private ResourceLocation boundTexture;
+    // Set while a repeat-wrapped copy of a region is bound rather than boundTexture itself
+    private boolean boundRepeat;
+    private int boundU;
+    private int boundV;
+    private int boundRegionW;
+    private int boundRegionH;
+    private int scissorDepth;
+    private int translationDepth;
+
+    private FrameStats lastFrame = FrameStats.EMPTY;
+    private long frameCount;
+
+    // Command stream
+    private boolean recording;
+    private byte[] commands = new byte[256];
+    private int commandLength;
+    private final List<ResourceLocation> textureTable = new ArrayList<>();
+    private final Map<ResourceLocation, Integer> textureIndices = new HashMap<>();
+
+    /**
+     * Create a context with Minecraft's default font metrics (6px average glyph advance, 9px line height).
+     */
+    public HeadlessRenderContext() {
+        this(6, 9);
+    }
+
+    /**
+     * Create a context with fixed font metrics: every character is charWidth pixels wide.
+     */
+    public HeadlessRenderContext(int charWidth, int fontHeight) {
+        this.charWidth = charWidth;
+        this.fontHeight = fontHeight;
+    }
+
+    /**
+     * Enable or disable recording of the binary command stream. Recording starts empty on each frame.
+     */
+    public HeadlessRenderContext recordCommands(boolean recording) {
+        this.recording = recording;
+        return this;
+    }
+
+    public boolean isRecordingCommands() {
+        return recording;
+    }
+
+    /**
+     * Reset per-frame counters and the command stream.
+     */
+    public void beginFrame() {
+        drawCalls = 0;
+        quads = 0;
+        textureSwitches = 0;
+        scissorChanges = 0;
+        textMeasurements = 0;
+        boundTexture = null;
+        boundRepeat = false;
+        scissorDepth = 0;
+        translationDepth = 0;
+        commandLength = 0;
+        textureTable.clear();
+        textureIndices.clear();
+    }
+
+    /**
+     * Finish the frame and return its counters.
+     */
+    public FrameStats endFrame() {
+        lastFrame = new FrameStats(drawCalls, quads, textureSwitches, scissorChanges, textMeasurements);
+        frameCount++;
+        return lastFrame;
+    }
+
+    /**
+     * Counters of the frame in progress.
+     */
+    public FrameStats currentFrame() {
+        return new FrameStats(drawCalls, quads, textureSwitches, scissorChanges, textMeasurements);
+    }
+
+    public FrameStats getLastFrame() {
+        return lastFrame;
+    }
+
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Scissor regions pushed but not yet popped. Non-zero at the end of a frame indicates unbalanced clipping.
+     */
+    public int getScissorDepth() {
+        return scissorDepth;
+    }
+
+    /**
+     * Current translation nesting depth; 0 at the end of a balanced frame.
+     */
+    public int getTranslationDepth() {
+        return translationDepth;
+    }
+
+    /**
+     * Copy of the commands recorded this frame.
+     */
+    public byte[] getCommandStream() {
+        return Arrays.copyOf(commands, commandLength);
+    }
+
+    public int getCommandStreamLength() {
+        return commandLength;
+    }
+
+    /**
+     * Textures referenced by index in the command stream, in first-use order.
+     */
+    public List<ResourceLocation> getTextureTable() {
+        return Collections.unmodifiableList(textureTable);
+    }
+
+    // ----- IRenderContext -----
+
+    @Override
+    public void fill(int x1, int y1, int x2, int y2, int color) {
+        drawCalls++;
+        quads++;
+        if (recording) {
+            writeByte(OP_FILL);
+            writeInt(x1);
+            writeInt(y1);
+            writeInt(x2);
+            writeInt(y2);
+            writeInt(color);
+        }
+    }
+
+    @Override
+    public void drawString(String text, int x, int y, int color) {
+        recordText(text, x, y, color, false);
+    }
+
+    @Override
+    public void drawCenteredString(String text, int x, int y, int color) {
+        recordText(text, x, y, color, true);
+    }
+
+    @Override
+    public int getStringWidth(String text) {
+        textMeasurements++;
+        return text == null ? 0 : text.length() * charWidth;
+    }
+
+    @Override
+    public int getFontHeight() {
+        textMeasurements++;
+        return fontHeight;
+    }
+
+    @Override
+    public void pushScissor(int x, int y, int width, int height) {
+        scissorChanges++;
+        scissorDepth++;
+        if (recording) {
+            writeByte(OP_SCISSOR_PUSH);
+            writeInt(x);
+            writeInt(y);
+            writeInt(width);
+            writeInt(height);
+        }
+    }
+
+    @Override
+    public void popScissor() {
+        scissorChanges++;
+        scissorDepth = Math.max(0, scissorDepth - 1);
+        if (recording) {
+            writeByte(OP_SCISSOR_POP);
+        }
+    }
+
+    @Override
+    public void pushTranslation(float x, float y) {
+        translationDepth++;
+        if (recording) {
+            writeByte(OP_TRANSLATE_PUSH);
+            writeInt(Float.floatToIntBits(x));
+            writeInt(Float.floatToIntBits(y));
+        }
+    }
+
+    @Override
+    public void popTranslation() {
+        translationDepth = Math.max(0, translationDepth - 1);
+        if (recording) {
+            writeByte(OP_TRANSLATE_POP);
+        }
+    }
+
+    @Override
+    public void enableBlend() {
+        if (recording) {
+            writeByte(OP_BLEND);
+            writeByte((byte) 1);
+        }
+    }
+
+    @Override
+    public void disableBlend() {
+        if (recording) {
+            writeByte(OP_BLEND);
+            writeByte((byte) 0);
+        }
+    }
+
+    @Override
+    public void drawTexture(ResourceLocation texture, int x, int y, int width, int height, int u, int v,
+                            int regionWidth, int regionHeight, int textureWidth, int textureHeight) {
+        bind(texture);
+        drawCalls++;
+        quads++;
+        if (recording) {
+            writeByte(OP_TEXTURE);
+            writeInt(textureIndex(texture));
+            writeInt(x);
+            writeInt(y);
+            writeInt(width);
+            writeInt(height);
+            writeInt(u);
+            writeInt(v);
+            writeInt(regionWidth);
+            writeInt(regionHeight);
+            writeInt(textureWidth);
+            writeInt(textureHeight);
+        }
+    }
+
+    @Override
+    public void drawTiledRegion(ResourceLocation texture, int x, int y, int width, int height, int u, int v,
+                                int regionW, int regionH, int textureW, int textureH, int tileW, int tileH) {
+        if (width <= 0 || height <= 0 || tileW <= 0 || tileH <= 0) {
+            return;
+        }
+        if (regionW > RepeatTextureCache.MAX_REGION_SIZE || regionH > RepeatTextureCache.MAX_REGION_SIZE) {
+            // MinecraftRenderContext blits these tile by tile from the source texture
+            IRenderContext.super.drawTiledRegion(texture, x, y, width, height, u, v, regionW, regionH, textureW, textureH, tileW, tileH);
+            return;
+        }
+        // Counted as one quad sampling the region's own repeat-wrapped texture, like MinecraftRenderContext
+        bindRepeat(texture, u, v, regionW, regionH);
+        drawCalls++;
+        quads++;
+        if (recording) {
+            writeByte(OP_TILED);
+            writeInt(textureIndex(texture));
+            writeInt(x);
+            writeInt(y);
+            writeInt(width);
+            writeInt(height);
+            writeInt(u);
+            writeInt(v);
+            writeInt(regionW);
+            writeInt(regionH);
+            writeInt(textureW);
+            writeInt(textureH);
+            writeInt(tileW);
+            writeInt(tileH);
+        }
+    }
+
+    @Override
+    public void drawSpriteGeometry(SpriteGeometry geometry, int x, int y) {
+        int quadCount = geometry.getQuadCount();
+        if (quadCount == 0) {
+            return;
+        }
+        int[] data = geometry.getQuads();
+        int stretched = 0;
+        for (int i = 0; i < quadCount; i++) {
+            if (!SpriteGeometry.isTiled(data, i * SpriteGeometry.QUAD_STRIDE)) {
+                stretched++;
+            }
+        }
+        if (stretched > 0) {
+            // All stretched quads go out in one batched draw, before any tiled region
+            bind(geometry.getTexture());
+            drawCalls++;
+            quads += stretched;
+            if (recording) {
+                writeByte(OP_GEOMETRY);
+                writeInt(textureIndex(geometry.getTexture()));
+                writeInt(x);
+                writeInt(y);
+                writeInt(stretched);
+            }
+        }
+        if (stretched < quadCount) {
+            for (int i = 0; i < quadCount; i++) {
+                int q = i * SpriteGeometry.QUAD_STRIDE;
+                if (SpriteGeometry.isTiled(data, q)) {
+                    drawTiledRegion(geometry.getTexture(), x + data[q], y + data[q + 1], data[q + 2], data[q + 3],
+                            data[q + 4], data[q + 5], data[q + 6], data[q + 7],
+                            geometry.getTextureWidth(), geometry.getTextureHeight(), data[q + 8], data[q + 9]);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void renderItems(List<ItemStack> stacks, int[] positions, float scale) {
+        int count = Math.min(stacks.size(), positions.length / 2);
+        int drawn = 0;
+        for (int i = 0; i < count; i++) {
+            if (!stacks.get(i).isEmpty()) {
+                drawn++;
+            }
+        }
+        drawCalls += drawn;
+        quads += drawn;
+        // Item models bind the block atlas
+        if (drawn > 0) {
+            boundTexture = null;
+            boundRepeat = false;
+            textureSwitches++;
+        }
+        if (recording) {
+            writeByte(OP_ITEMS);
+            writeInt(drawn);
+        }
+    }
+
+    // ----- Internals -----
+
+    private void recordText(String text, int x, int y, int color, boolean centered) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        // One batched glyph draw; one quad per character
+        drawCalls++;
+        quads += text.length();
+        if (recording) {
+            byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+            int length = Math.min(utf8.length, Short.MAX_VALUE);
+            writeByte(OP_TEXT);
+            writeInt(x);
+            writeInt(y);
+            writeInt(color);
+            writeByte((byte) (centered ? 1 : 0));
+            writeShort(length);
+            ensureCapacity(length);
+            System.arraycopy(utf8, 0, commands, commandLength, length);
+            commandLength += length;
+        }
+    }
+
+    private void bind(ResourceLocation texture) {
+        if (boundRepeat || boundTexture == null || !boundTexture.equals(texture)) {
+            boundTexture = texture;
+            boundRepeat = false;
+            textureSwitches++;
+        }
+    }
+
+    private void bindRepeat(ResourceLocation texture, int u, int v, int regionW, int regionH) {
+        if (!boundRepeat || !boundTexture.equals(texture)
+                || boundU != u || boundV != v || boundRegionW != regionW || boundRegionH != regionH) {
+            boundTexture = texture;
+            boundRepeat = true;
+            boundU = u;
+            boundV = v;
+            boundRegionW = regionW;
+            boundRegionH = regionH;
+            textureSwitches++;
+        }
+    }
+
+    private int textureIndex(ResourceLocation texture) {
+        Integer index = textureIndices.get(texture);
+        if (index == null) {
+            index = textureTable.size();
+            textureTable.add(texture);
+            textureIndices.put(texture, index);
+        }
+        return index;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (commandLength + extra > commands.length) {
+            commands = Arrays.copyOf(commands, Math.max(commands.length * 2, commandLength + extra));
+        }
+    }
+
+    private void writeByte(byte value) {
+        ensureCapacity(1);
+        commands[commandLength++] = value;
+    }
+
+    private void writeShort(int value) {
+        ensureCapacity(2);
+        commands[commandLength++] = (byte) (value >>> 8);
+        commands[commandLength++] = (byte) value;
+    }
+
+    private void writeInt(int value) {
+        ensureCapacity(4);
+        commands[commandLength++] = (byte) (value >>> 24);
+        commands[commandLength++] = (byte) (value >>> 16);
+        commands[commandLength++] = (byte) (value >>> 8);
+        commands[commandLength++] = (byte) value;
+    }
+}
@@ -2,7 +2,11 @@ package io.github.currenj.gelatinui.gui;
 
 import io.github.currenj.gelatinui.gui.components.SlicedSpriteData;
 import io.github.currenj.gelatinui.gui.components.SpriteData;
+import io.github.currenj.gelatinui.gui.components.SpriteGeometry;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.ItemStack;
+
+import java.util.List;
 
 /**
  * Abstraction layer for rendering operations.
@@ -59,11 +63,32 @@ public interface IRenderContext {
      */
     void pushScissor(int x, int y, int width, int height);
 
+    /**
+     * Push a scissor region given in the current local coordinates, i.e. after the transforms applied by the
+     * enclosing elements. Contexts without transforms treat them as screen coordinates.
+     */
+    default void pushLocalScissor(int x, int y, int width, int height) {
+        pushScissor(x, y, width, height);
+    }
+
     /**
      * Pop the current scissor region.
      */
     void popScissor();
 
+    /**
+     * Offset everything drawn until the matching {@link #popTranslation()}, e.g. by a scroll offset.
+     * Contexts without transforms ignore it.
+     */
+    default void pushTranslation(float x, float y) {
+    }
+
+    /**
+     * Undo the most recent {@link #pushTranslation}.
+     */
+    default void popTranslation() {
+    }
+
     /**
      * Enable blending for transparency.
      */
@@ -105,6 +130,17 @@ public interface IRenderContext {
      */
     void drawTexture(ResourceLocation texture, int x, int y, int width, int height, int u, int v, int regionWidth, int regionHeight, int textureWidth, int textureHeight);
 
+    /**
+     * Render a batch of item icons with one lighting setup and flush per model group.
+     * Each item is drawn at its position under the current transform, scaled about its top-left corner.
+     * Contexts that cannot draw items ignore this.
+     * @param stacks Items to draw; empty stacks are skipped
+     * @param positions Interleaved x,y pairs, two entries per stack
+     * @param scale Scale applied to every item (1 = 16x16)
+     */
+    default void renderItems(List<ItemStack> stacks, int[] positions, float scale) {
+    }
+
     /**
      * Draw a 9-slice sprite that scales while preserving corners and edges.
      * Perfect for pixel-art UI panels.
@@ -170,6 +206,27 @@ public interface IRenderContext {
         drawTexture(texture, x + left + destCenterW, y + top + destCenterH, right, bottom, u + left + centerW, v + top + centerH, right, bottom, atlasW, atlasH);
     }
 
+    /**
+     * Draw precompiled sprite geometry with its origin at (x, y).
+     * @param geometry Quads compiled by SpriteGeometry.compile
+     * @param x Destination X
+     * @param y Destination Y
+     */
+    default void drawSpriteGeometry(SpriteGeometry geometry, int x, int y) {
+        int[] quads = geometry.getQuads();
+        for (int i = 0; i < geometry.getQuadCount(); i++) {
+            int q = i * SpriteGeometry.QUAD_STRIDE;
+            if (SpriteGeometry.isTiled(quads, q)) {
+                drawTiledRegion(geometry.getTexture(), x + quads[q], y + quads[q + 1], quads[q + 2], quads[q + 3],
+                    quads[q + 4], quads[q + 5], quads[q + 6], quads[q + 7], geometry.getTextureWidth(), geometry.getTextureHeight(),
+                    quads[q + 8], quads[q + 9]);
+            } else {
+                drawTexture(geometry.getTexture(), x + quads[q], y + quads[q + 1], quads[q + 2], quads[q + 3],
+                    quads[q + 4], quads[q + 5], quads[q + 6], quads[q + 7], geometry.getTextureWidth(), geometry.getTextureHeight());
+            }
+        }
+    }
+
     /**
      * Draw a sprite with the specified render mode (STRETCH, REPEAT, or SLICE).
      * This is the primary method for rendering sprites with full control over behavior.
@@ -225,23 +282,8 @@ public interface IRenderContext {
     default void drawRepeatingTexture(ResourceLocation texture, int x, int y, int width, int height,
                                       int u, int v, int regionWidth, int regionHeight,
                                       int textureWidth, int textureHeight) {
-        // Calculate how many times to tile horizontally and vertically
-        int tilesX = (width + regionWidth - 1) / regionWidth; // ceiling division
-        int tilesY = (height + regionHeight - 1) / regionHeight;
-
-        for (int ty = 0; ty < tilesY; ty++) {
-            for (int tx = 0; tx < tilesX; tx++) {
-                int drawX = x + tx * regionWidth;
-                int drawY = y + ty * regionHeight;
-
-                // Calculate how much of this tile to draw (for edge tiles)
-                int drawW = Math.min(regionWidth, width - tx * regionWidth);
-                int drawH = Math.min(regionHeight, height - ty * regionHeight);
-
-                // Draw the tile (potentially clipped at edges)
-                drawTexture(texture, drawX, drawY, drawW, drawH, u, v, drawW, drawH, textureWidth, textureHeight);
-            }
-        }
+        drawTiledRegion(texture, x, y, width, height, u, v, regionWidth, regionHeight,
+            textureWidth, textureHeight, regionWidth, regionHeight);
     }
 
     /**
@@ -422,33 +464,13 @@ public interface IRenderContext {
                                int u, int v, int regionW, int regionH,
                                int textureW, int textureH, float tileScale, boolean horizontal) {
         if (horizontal) {
-            // Tile horizontally
+            // Tile horizontally; one tile spans the full height
             int scaledTileW = Math.max(1, (int)(regionW * tileScale));
-            int tilesX = (width + scaledTileW - 1) / scaledTileW; // ceiling division
-
-            for (int tx = 0; tx < tilesX; tx++) {
-                int drawX = x + tx * scaledTileW;
-                int drawW = Math.min(scaledTileW, width - tx * scaledTileW);
-
-                // Calculate proportional source region width to avoid squishing
-                int srcW = (drawW == scaledTileW) ? regionW : (int)((drawW / (float)scaledTileW) * regionW);
-
-                drawTexture(texture, drawX, y, drawW, height, u, v, srcW, regionH, textureW, textureH);
-            }
+            drawTiledRegion(texture, x, y, width, height, u, v, regionW, regionH, textureW, textureH, scaledTileW, height);
         } else {
-            // Tile vertically
+            // Tile vertically; one tile spans the full width
             int scaledTileH = Math.max(1, (int)(regionH * tileScale));
-            int tilesY = (height + scaledTileH - 1) / scaledTileH; // ceiling division
-
-            for (int ty = 0; ty < tilesY; ty++) {
-                int drawY = y + ty * scaledTileH;
-                int drawH = Math.min(scaledTileH, height - ty * scaledTileH);
-
-                // Calculate proportional source region height to avoid squishing
-                int srcH = (drawH == scaledTileH) ? regionH : (int)((drawH / (float)scaledTileH) * regionH);
-
-                drawTexture(texture, x, drawY, width, drawH, u, v, regionW, srcH, textureW, textureH);
-            }
+            drawTiledRegion(texture, x, y, width, height, u, v, regionW, regionH, textureW, textureH, width, scaledTileH);
         }
     }
 
@@ -473,22 +495,51 @@ public interface IRenderContext {
                                  int textureW, int textureH, float tileScale) {
         int scaledTileW = Math.max(1, (int)(regionW * tileScale));
         int scaledTileH = Math.max(1, (int)(regionH * tileScale));
+        drawTiledRegion(texture, x, y, width, height, u, v, regionW, regionH, textureW, textureH, scaledTileW, scaledTileH);
+    }
+
+    /**
+     * Fill a rectangle by repeating a texture region at a fixed destination tile size.
+     * Partial tiles at the right/bottom edges show the matching leading fraction of the region.
+     * The default emits one drawTexture per tile; implementations with repeat-capable sampling
+     * can draw the whole rectangle as a single quad.
+     *
+     * @param texture ResourceLocation of the texture
+     * @param x Destination X
+     * @param y Destination Y
+     * @param width Destination width
+     * @param height Destination height
+     * @param u Source X in texture pixels
+     * @param v Source Y in texture pixels
+     * @param regionW Width of the source region in texture pixels
+     * @param regionH Height of the source region in texture pixels
+     * @param textureW Total width of the texture atlas
+     * @param textureH Total height of the texture atlas
+     * @param tileW Destination width of one tile
+     * @param tileH Destination height of one tile
+     */
+    default void drawTiledRegion(ResourceLocation texture, int x, int y, int width, int height,
+                                 int u, int v, int regionW, int regionH,
+                                 int textureW, int textureH, int tileW, int tileH) {
+        if (width <= 0 || height <= 0 || tileW <= 0 || tileH <= 0) {
+            return;
+        }
 
-        int tilesX = (width + scaledTileW - 1) / scaledTileW; // ceiling division
-        int tilesY = (height + scaledTileH - 1) / scaledTileH; // ceiling division
+        int tilesX = (width + tileW - 1) / tileW; // ceiling division
+        int tilesY = (height + tileH - 1) / tileH; // ceiling division
 
         for (int ty = 0; ty < tilesY; ty++) {
             for (int tx = 0; tx < tilesX; tx++) {
-                int drawX = x + tx * scaledTileW;
-                int drawY = y + ty * scaledTileH;
+                int drawX = x + tx * tileW;
+                int drawY = y + ty * tileH;
 
                 // Calculate how much of this tile to draw (for edge tiles)
-                int drawW = Math.min(scaledTileW, width - tx * scaledTileW);
-                int drawH = Math.min(scaledTileH, height - ty * scaledTileH);
+                int drawW = Math.min(tileW, width - tx * tileW);
+                int drawH = Math.min(tileH, height - ty * tileH);
 
                 // Calculate proportional source region sizes to avoid squishing
-                int srcW = (drawW == scaledTileW) ? regionW : (int)((drawW / (float)scaledTileW) * regionW);
-                int srcH = (drawH == scaledTileH) ? regionH : (int)((drawH / (float)scaledTileH) * regionH);
+                int srcW = (drawW == tileW) ? regionW : (tileW == regionW ? drawW : (int)((drawW / (float)tileW) * regionW));
+                int srcH = (drawH == tileH) ? regionH : (tileH == regionH ? drawH : (int)((drawH / (float)tileH) * regionH));
 
                 drawTexture(texture, drawX, drawY, drawW, drawH, u, v, srcW, srcH, textureW, textureH);
             }
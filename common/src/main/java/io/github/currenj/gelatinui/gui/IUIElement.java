@@ -89,6 +89,22 @@ public interface IUIElement {
      */
     boolean handleEvent(UIEvent event);
 
+    /**
+     * Capture phase: called on each ancestor of the event target, outermost first, before the target.
+     * @return true to consume the event and stop dispatch
+     */
+    default boolean captureEvent(UIEvent event) {
+        return false;
+    }
+
+    /**
+     * Target and bubble phases: handle the event on this element alone, without forwarding it to children.
+     * @return true if the event was consumed
+     */
+    default boolean handleLocalEvent(UIEvent event) {
+        return handleEvent(event);
+    }
+
     /**
      * Check if this element or any children intersect the viewport.
      * @param viewport Viewport bounds
@@ -0,0 +1,224 @@
+package io.github.currenj.gelatinui.gui;
+
+/**
+ * Raw input recorded between frames and handled in one batch at the start of {@link UIScreen#update(float)}.
+ *
+ * Ordering:
+ * <ul>
+ *   <li>Events are handled in the order they were recorded, each as if passed to the matching UIScreen
+ *   method (onMouseMove, onMouseClick, ...). A press also counts as a move to where it happened. Hover
+ *   transitions within a batch follow the hover cooldown like any other moves.</li>
+ *   <li>Consecutive moves collapse into the last one, and so do consecutive drags with the same button. Moves
+ *   and drags never jump over a press, release, scroll, key or character.</li>
+ *   <li>The batch runs before the hover cooldown is checked, before pending drag motion is delivered and
+ *   before the tree updates, so handlers see the layout of the previous frame and anything they change is
+ *   laid out in the same update.</li>
+ *   <li>All events of a batch at the same pointer position share one hit-test. It is redone when a handler
+ *   scrolls, changes a child list, or moves, resizes, re-lays out, shows or hides anything in the tree.</li>
+ *   <li>A key the UI does not use goes to the screen's {@link UIScreen.UnusedKeyListener} at its place in the
+ *   batch, and each press reaches the {@link UIScreen.PressListener} just before the UI handles it.</li>
+ *   <li>Events recorded while a batch is being handled (by a handler) wait for the next batch.</li>
+ * </ul>
+ *
+ * Each event carries the {@link System#nanoTime()} at which it was recorded; {@link #getEventTime()} returns it
+ * to handlers while the event is handled. Recording does not allocate once the buffers have grown to the
+ * busiest frame's size. Render thread only.
+ */
+public class InputQueue {
+    /**
+     * Kind of recorded event.
+     */
+    public enum Kind {
+        MOVE,
+        PRESS,
+        RELEASE,
+        DRAG,
+        SCROLL,
+        KEY,
+        CHAR
+    }
+
+    static final class Entry {
+        Kind kind;
+        long time;
+        int x;
+        int y;
+        int code;      // mouse button, key code or character
+        int scanCode;
+        int modifiers;
+        float delta;
+    }
+
+    private Entry[] pending = newEntries(16);
+    private int pendingSize = 0;
+    private Entry[] batch = newEntries(16);
+    private int batchSize = 0;
+
+    private boolean processing = false;
+    private long eventTime = -1L;
+    private int lastBatchSize = 0;
+    private int lastBatchHitTests = 0;
+    private int hitTests = 0;
+
+    public void mouseMove(int x, int y) {
+        Entry last = pendingSize > 0 ? pending[pendingSize - 1] : null;
+        Entry e = last != null && last.kind == Kind.MOVE ? last : add(Kind.MOVE);
+        e.time = System.nanoTime();
+        e.x = x;
+        e.y = y;
+    }
+
+    public void mouseClick(int x, int y, int button) {
+        Entry e = add(Kind.PRESS);
+        e.x = x;
+        e.y = y;
+        e.code = button;
+    }
+
+    public void mouseRelease(int x, int y, int button) {
+        Entry e = add(Kind.RELEASE);
+        e.x = x;
+        e.y = y;
+        e.code = button;
+    }
+
+    public void mouseDrag(int x, int y, int button) {
+        Entry last = pendingSize > 0 ? pending[pendingSize - 1] : null;
+        Entry e = last != null && last.kind == Kind.DRAG && last.code == button ? last : add(Kind.DRAG);
+        e.time = System.nanoTime();
+        e.x = x;
+        e.y = y;
+        e.code = button;
+    }
+
+    public void mouseScroll(int x, int y, float delta) {
+        Entry e = add(Kind.SCROLL);
+        e.x = x;
+        e.y = y;
+        e.delta = delta;
+    }
+
+    public void keyPressed(int keyCode, int scanCode, int modifiers) {
+        Entry e = add(Kind.KEY);
+        e.code = keyCode;
+        e.scanCode = scanCode;
+        e.modifiers = modifiers;
+    }
+
+    public void charTyped(char character, int modifiers) {
+        Entry e = add(Kind.CHAR);
+        e.code = character;
+        e.modifiers = modifiers;
+    }
+
+    /**
+     * Number of events waiting for the next batch.
+     */
+    public int size() {
+        return pendingSize;
+    }
+
+    public boolean isEmpty() {
+        return pendingSize == 0;
+    }
+
+    /**
+     * Drop everything not yet handled.
+     */
+    public void clear() {
+        pendingSize = 0;
+    }
+
+    /**
+     * True while a batch is being handled.
+     */
+    public boolean isProcessing() {
+        return processing;
+    }
+
+    /**
+     * When the event being handled was recorded, in {@link System#nanoTime()} units; -1 outside a batch.
+     */
+    public long getEventTime() {
+        return eventTime;
+    }
+
+    /**
+     * Number of events handled in the last batch, after collapsing moves.
+     */
+    public int getLastBatchSize() {
+        return lastBatchSize;
+    }
+
+    /**
+     * Number of hit-tests the last batch actually ran.
+     */
+    public int getLastBatchHitTests() {
+        return lastBatchHitTests;
+    }
+
+    private Entry add(Kind kind) {
+        if (pendingSize == pending.length) {
+            pending = grow(pending);
+        }
+        Entry e = pending[pendingSize++];
+        e.kind = kind;
+        e.time = System.nanoTime();
+        e.x = 0;
+        e.y = 0;
+        e.code = 0;
+        e.scanCode = 0;
+        e.modifiers = 0;
+        e.delta = 0f;
+        return e;
+    }
+
+    /**
+     * Take the pending events as the batch to handle; anything recorded from now on waits for the next one.
+     * @return number of events in the batch
+     */
+    int beginBatch() {
+        Entry[] swap = batch;
+        batch = pending;
+        batchSize = pendingSize;
+        pending = swap;
+        pendingSize = 0;
+        processing = true;
+        hitTests = 0;
+        return batchSize;
+    }
+
+    Entry get(int index) {
+        Entry e = batch[index];
+        eventTime = e.time;
+        return e;
+    }
+
+    void noteHitTest() {
+        hitTests++;
+    }
+
+    void endBatch() {
+        processing = false;
+        eventTime = -1L;
+        lastBatchSize = batchSize;
+        lastBatchHitTests = hitTests;
+        batchSize = 0;
+    }
+
+    private static Entry[] grow(Entry[] entries) {
+        Entry[] grown = java.util.Arrays.copyOf(entries, entries.length * 2);
+        for (int i = entries.length; i < grown.length; i++) {
+            grown[i] = new Entry();
+        }
+        return grown;
+    }
+
+    private static Entry[] newEntries(int capacity) {
+        Entry[] entries = new Entry[capacity];
+        for (int i = 0; i < capacity; i++) {
+            entries[i] = new Entry();
+        }
+        return entries;
+    }
+}
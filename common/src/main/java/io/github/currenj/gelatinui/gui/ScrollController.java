@@ -0,0 +1,197 @@
+package io.github.currenj.gelatinui.gui;
+
+/**
+ * One-dimensional scroll physics driven by elapsed time rather than frame count.
+ *
+ * Inside the scroll range the velocity decays exponentially ({@code v(t) = v0 * e^(-friction * t)}) and the
+ * offset is integrated exactly, so a fling travels the same distance at 30 or 240 FPS. Outside the range a
+ * critically damped spring pulls the offset back to the nearest edge; impulses that push further out are
+ * damped by how far past the edge the offset already is, up to {@link #setMaxOverscroll}.
+ *
+ * The controller only tracks numbers. Owners read {@link #getOffset()} and apply it as they see fit; UIScreen
+ * translates its render transform by it instead of moving the root.
+ */
+public class ScrollController {
+    // Spring integration step; smaller than any realistic frame time so the spring stays stable
+    private static final float MAX_STEP = 1f / 240f;
+
+    private float offset = 0f;
+    private float velocity = 0f; // pixels per second
+    private float min = 0f;
+    private float max = 0f;
+
+    private float friction = 6f;          // 1/s; higher stops sooner
+    private float springStiffness = 180f; // 1/s^2
+    private float maxOverscroll = 48f;    // pixels
+    private float restVelocity = 4f;      // pixels per second below which motion stops
+
+    /**
+     * Set the scroll range. An offset now outside it springs back rather than jumping.
+     */
+    public void setBounds(float min, float max) {
+        this.min = min;
+        this.max = Math.max(min, max);
+    }
+
+    public float getMin() {
+        return min;
+    }
+
+    public float getMax() {
+        return max;
+    }
+
+    /**
+     * Current offset in pixels. May lie up to the overscroll limit outside the range while springing back.
+     */
+    public float getOffset() {
+        return offset;
+    }
+
+    /**
+     * Offset clamped to the scroll range.
+     */
+    public float getClampedOffset() {
+        return Math.max(min, Math.min(max, offset));
+    }
+
+    /**
+     * Signed distance past the nearest edge, or 0 within range.
+     */
+    public float getOverscroll() {
+        if (offset < min) return offset - min;
+        if (offset > max) return offset - max;
+        return 0f;
+    }
+
+    public float getVelocity() {
+        return velocity;
+    }
+
+    /**
+     * Jump to an offset, clamped to the range, and stop any motion.
+     */
+    public void scrollTo(float target) {
+        offset = Math.max(min, Math.min(max, target));
+        velocity = 0f;
+    }
+
+    /**
+     * Add a fling that travels {@code pixels} in total before friction stops it, if nothing else interferes.
+     * Pushing further past an edge is resisted in proportion to the current overscroll.
+     */
+    public void fling(float pixels) {
+        float resistance = 1f;
+        float over = getOverscroll();
+        if (over != 0f && maxOverscroll > 0f && Math.signum(over) == Math.signum(pixels)) {
+            resistance = Math.max(0f, 1f - Math.abs(over) / maxOverscroll);
+        }
+        velocity += pixels * friction * resistance;
+    }
+
+    /**
+     * Stop any motion and put the offset back in range.
+     */
+    public void stop() {
+        scrollTo(offset);
+    }
+
+    /**
+     * True when the offset is in range and not moving.
+     */
+    public boolean isSettled() {
+        return velocity == 0f && offset >= min && offset <= max;
+    }
+
+    /**
+     * Advance the simulation.
+     * @param deltaTime elapsed time in seconds
+     * @return true if the offset changed
+     */
+    public boolean update(float deltaTime) {
+        if (deltaTime <= 0f || isSettled()) {
+            return false;
+        }
+        float before = offset;
+        float remaining = deltaTime;
+        while (remaining > 0f) {
+            float dt = Math.min(remaining, getOverscroll() != 0f ? MAX_STEP : remaining);
+            step(dt);
+            remaining -= dt;
+            if (isSettled()) {
+                break;
+            }
+        }
+        return offset != before;
+    }
+
+    private void step(float dt) {
+        float over = getOverscroll();
+        if (over == 0f) {
+            // Exact integration of exponential decay
+            float decay = (float) Math.exp(-friction * dt);
+            float next = offset + velocity * (1f - decay) / friction;
+            velocity *= decay;
+            if (next < min || next > max) {
+                // Crossing an edge: carry on into overscroll, the spring takes over from the next step
+                offset = Math.max(min - maxOverscroll, Math.min(max + maxOverscroll, next));
+                if (offset != next) {
+                    velocity = 0f; // hit the overscroll limit (or the edge itself when overscroll is off)
+                }
+            } else {
+                offset = next;
+                if (Math.abs(velocity) < restVelocity) {
+                    // Add the remaining (sub-pixel) glide at once so a fling always covers its full distance
+                    offset = Math.max(min, Math.min(max, offset + velocity / friction));
+                    velocity = 0f;
+                }
+            }
+            return;
+        }
+
+        // Critically damped spring towards the edge (semi-implicit Euler)
+        float damping = 2f * (float) Math.sqrt(springStiffness);
+        velocity += (-springStiffness * over - damping * velocity) * dt;
+        float edge = over < 0f ? min : max;
+        float next = offset + velocity * dt;
+        if ((over < 0f && next >= edge) || (over > 0f && next <= edge)) {
+            offset = edge;
+            velocity = 0f;
+            return;
+        }
+        offset = next;
+        if (Math.abs(velocity) < restVelocity && Math.abs(offset - edge) < 0.5f) {
+            offset = edge;
+            velocity = 0f;
+        }
+    }
+
+    /**
+     * Set how quickly a fling slows down, in 1/s. Distance travelled by a fling does not depend on it.
+     */
+    public void setFriction(float friction) {
+        this.friction = Math.max(0.01f, friction);
+    }
+
+    public float getFriction() {
+        return friction;
+    }
+
+    /**
+     * Set the stiffness of the spring that pulls overscroll back, in 1/s^2.
+     */
+    public void setSpringStiffness(float stiffness) {
+        this.springStiffness = Math.max(1f, stiffness);
+    }
+
+    /**
+     * Set how far past either edge the offset may travel, in pixels. 0 disables overscroll.
+     */
+    public void setMaxOverscroll(float pixels) {
+        this.maxOverscroll = Math.max(0f, pixels);
+    }
+
+    public float getMaxOverscroll() {
+        return maxOverscroll;
+    }
+}
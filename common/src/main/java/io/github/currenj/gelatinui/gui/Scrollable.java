@@ -0,0 +1,26 @@
+package io.github.currenj.gelatinui.gui;
+
+/**
+ * Something with vertically scrolling content that a {@link io.github.currenj.gelatinui.gui.components.VerticalScrollBar}
+ * can display and drive: the UIScreen root or a ScrollPane.
+ */
+public interface Scrollable {
+    /**
+     * Total height of the scrolled content, in pixels.
+     */
+    float getContentHeight();
+
+    /**
+     * Height of the visible part, in pixels.
+     */
+    float getViewHeight();
+
+    float getMaxScrollY();
+
+    float getScrollY();
+
+    /**
+     * Jump to a scroll position, clamped to [0, getMaxScrollY()].
+     */
+    void setScrollY(float y);
+}
@@ -13,35 +13,56 @@ public class UI {
      * Create a new VBox (vertical layout container).
      */
     public static VBox vbox() {
-        return new VBox();
+        return UIElementPool.obtain(VBox.class, VBox::new);
     }
 
     /**
      * Create a new HBox (horizontal layout container).
      */
     public static HBox hbox() {
-        return new HBox();
+        return UIElementPool.obtain(HBox.class, HBox::new);
     }
 
     /**
      * Create a new Panel container.
      */
     public static Panel panel() {
-        return new Panel();
+        return UIElementPool.obtain(Panel.class, Panel::new);
+    }
+
+    /**
+     * Create a new ScrollPane with a fixed viewport size.
+     */
+    public static ScrollPane scrollPane(float width, float height) {
+        return new ScrollPane(width, height);
+    }
+
+    /**
+     * Create a new PagedList that builds fixed-height rows from a paged data source as they scroll into view.
+     */
+    public static <T> PagedList<T> pagedList(float width, float rowHeight, PagedList.DataSource<T> source,
+                                             java.util.function.Function<T, IUIElement> rowFactory) {
+        return new PagedList<>(width, rowHeight, source, rowFactory);
     }
 
     /**
      * Create a new Label with text and color.
      */
     public static Label label(IRenderContext context, String text, int color) {
-        return new Label(text, color).init(context);
+        // Non-capturing factory: the pool does not allocate a lambda per call, fields are set below
+        return UIElementPool.obtain(Label.class, () -> new Label(null, 0xFFFFFFFF))
+                .text(text)
+                .color(color)
+                .init(context);
     }
 
     /**
      * Create a new Rectangle with size and color.
      */
     public static Rectangle rectangle(float width, float height, int color) {
-        return new Rectangle(width, height, color);
+        return UIElementPool.obtain(Rectangle.class, () -> new Rectangle(0, 0, 0))
+                .setSize(width, height)
+                .color(color);
     }
 
     /**
@@ -1,5 +1,7 @@
 package io.github.currenj.gelatinui.gui;
 
+import io.github.currenj.gelatinui.gui.jfr.UIFlightRecorder;
+import io.github.currenj.gelatinui.gui.jfr.UILayoutEvent;
 import org.joml.Vector2f;
 
 import java.awt.geom.Rectangle2D;
@@ -75,6 +77,28 @@ public abstract class UIContainer<T extends UIContainer<T>> extends UIElement<T>
         markDirty(DirtyFlag.CHILDREN, DirtyFlag.LAYOUT);
     }
 
+    @Override
+    protected void resetForReuse() {
+        super.resetForReuse();
+        for (IUIElement child : children) {
+            child.setParent(null);
+        }
+        children.clear();
+        layoutCache.invalidate();
+        alignWidthToMultiple = 0;
+        alignHeightToMultiple = 0;
+        alignWidthOffset = 0;
+        alignHeightOffset = 0;
+    }
+
+    /**
+     * Whether pointer events target this container itself when none of its children is under the pointer.
+     * Containers are transparent by default; scroll panes are not, so scrolling over their gaps still works.
+     */
+    protected boolean isHitTarget() {
+        return false;
+    }
+
     /**
      * Get all children.
      */
@@ -98,9 +122,13 @@ public abstract class UIContainer<T extends UIContainer<T>> extends UIElement<T>
         // Update self first
         super.update(deltaTime);
 
-        // Update children that need it
+        // Update children that need it; during a budgeted update, off-screen subtrees may be postponed
+        DeferredWorkQueue deferred = DeferredWorkQueue.active();
         for (IUIElement child : children) {
             if (child.needsUpdate()) {
+                if (deferred != null && deferred.deferUpdate(child, deltaTime)) {
+                    continue;
+                }
                 child.update(deltaTime);
             }
         }
@@ -108,8 +136,13 @@ public abstract class UIContainer<T extends UIContainer<T>> extends UIElement<T>
 
     @Override
     protected void renderChildren(IRenderContext context, Rectangle2D viewport) {
-        for (IUIElement child : children) {
+        UIRenderStats stats = UIRenderStats.active();
+        for (int i = 0; i < children.size(); i++) {
+            IUIElement child = children.get(i);
             if (child.isVisible()) {
+                if (stats != null) {
+                    stats.beginChild(this, i);
+                }
                 child.render(context, viewport);
             }
         }
@@ -121,16 +154,20 @@ public abstract class UIContainer<T extends UIContainer<T>> extends UIElement<T>
             return false;
         }
 
-        // Propagate to children first (front to back)
+        // Propagate to children first (front to back); pointer events skip children not under the pointer
+        boolean pointer = event.isPointerEvent();
         for (int i = children.size() - 1; i >= 0; i--) {
             IUIElement child = children.get(i);
+            if (pointer && !child.getBounds().contains(event.getMouseX(), event.getMouseY())) {
+                continue;
+            }
             if (child.handleEvent(event)) {
                 return true; // Event consumed by child
             }
         }
 
         // Then try to handle locally
-        return super.handleEvent(event);
+        return handleLocalEvent(event);
     }
 
     @Override
@@ -184,6 +221,13 @@ public abstract class UIContainer<T extends UIContainer<T>> extends UIElement<T>
         super.onChildDirty(flags);
     }
 
+    /**
+     * Drop the cached union of child bounds, for subclasses that change their children without marking dirty.
+     */
+    protected void invalidateLayoutCache() {
+        layoutCache.invalidate();
+    }
+
     /**
      * Check if any child needs updating.
      */
@@ -206,6 +250,10 @@ public abstract class UIContainer<T extends UIContainer<T>> extends UIElement<T>
             if (child instanceof UIElement uiChild) {
                 uiChild.boundsValid = false;
                 uiChild.cachedBounds = null;
+                if (uiChild instanceof UIContainer<?> container) {
+                    // Its cached union of child bounds is in global coordinates too
+                    container.layoutCache.invalidate();
+                }
                 uiChild.invalidateChildBounds();
             }
         }
@@ -237,11 +285,15 @@ public abstract class UIContainer<T extends UIContainer<T>> extends UIElement<T>
 
     @Override
     protected void recalculateLayout() {
+        long token = UIProfiler.begin(UIProfiler.Phase.LAYOUT);
+        UILayoutEvent event = UIFlightRecorder.beginLayout();
         // Mark layout cache as invalid
         layoutCache.invalidate();
 
         // Perform layout
         performLayout();
+        UIFlightRecorder.endLayout(event, this, children.size());
+        UIProfiler.end(UIProfiler.Phase.LAYOUT, token);
     }
 
     /**
@@ -1,5 +1,7 @@
 package io.github.currenj.gelatinui.gui;
 
+import io.github.currenj.gelatinui.gui.jfr.UIEffectStepEvent;
+import io.github.currenj.gelatinui.gui.jfr.UIFlightRecorder;
 import org.joml.Vector2f;
 
 import java.awt.geom.Rectangle2D;
@@ -19,10 +21,22 @@ public abstract class UIElement<T extends UIElement<T>> implements IUIElement {
     private static boolean debugShowPadding = false;
     private static boolean debugShowCulled = false;
 
+    // Bumped whenever anything in any tree moves, resizes, is laid out again or changes visibility, so UIScreen
+    // knows when a cached hit-test may be stale. One counter, so marking dirty never walks to the root.
+    private static int geometryVersion = 0;
+
     // Debug tracking
     private String debugName = null;
-    private static final List<String> culledElementNames = new ArrayList<>();
-    private static final List<String> renderedElementNames = new ArrayList<>();
+
+    // Set while this instance sits in UIElementPool
+    boolean pooled = false;
+    // Bumped each time the instance is released to UIElementPool, so a recycled instance reads as a new element
+    int reuseCount = 0;
+    // Only meaningful on a tree's root: bumped whenever a child list anywhere in the tree changes, so
+    // FocusManager and UIScreen can rebuild cached paths lazily without reacting to other trees
+    private int structureVersion = 0;
+    // Set on a UIScreen's root to that screen's FocusManager, so elements can find it by walking up
+    FocusManager focusManager = null;
 
     // Parent-child relationships
     protected IUIElement parent;
@@ -79,6 +93,9 @@ public abstract class UIElement<T extends UIElement<T>> implements IUIElement {
     protected List<MouseEnterAction> onMouseEnterActions = new ArrayList<>();
     protected List<MouseExitAction> onMouseExitActions = new ArrayList<>();
 
+    // Tooltip built on first hover by tooltip(UIScreen, Supplier), reused afterwards
+    private IUIElement cachedTooltip = null;
+
     /**
      * Functional interface for click actions.
      */
@@ -116,6 +133,7 @@ public abstract class UIElement<T extends UIElement<T>> implements IUIElement {
         // Snapshot existing flags and then clear them so flags set during onUpdate are distinct
         EnumSet<DirtyFlag> preFlags = EnumSet.copyOf(dirtyFlags);
         dirtyFlags.clear();
+        UIFlightRecorder.countUpdate(!preFlags.isEmpty());
 
         // Process dirty flags that were present
         if (preFlags.contains(DirtyFlag.POSITION)) {
@@ -196,7 +214,11 @@ public abstract class UIElement<T extends UIElement<T>> implements IUIElement {
         }
 
         // Step effects and combine their deltas
+        long effectsToken = UIProfiler.begin(UIProfiler.Phase.EFFECTS);
+        UIEffectStepEvent effectEvent = UIFlightRecorder.beginEffectStep();
         boolean anyEffectActive = updateEffects(deltaTime);
+        UIFlightRecorder.endEffectStep(effectEvent, this, effects.size());
+        UIProfiler.end(UIProfiler.Phase.EFFECTS, effectsToken);
 
         isAnimating = positionAnimating || scaleAnimating || anyKeyframeAnimating || anyEffectActive;
     }
@@ -296,14 +318,21 @@ public abstract class UIElement<T extends UIElement<T>> implements IUIElement {
             return;
         }
 
+        // Culled/rendered counters of the screen being rendered, only collected in debug mode
+        UIRenderStats stats = debugShowCulled ? UIRenderStats.active() : null;
+
         if (!isInViewport(viewport)) {
-            // Track culled elements for debug visualization
-            if (debugShowCulled) {
-                String elementName = debugName != null ? debugName : getDefaultDebugName();
-                trackCulledElement(elementName);
+            UIFlightRecorder.countRender(true);
+            if (stats != null) {
+                stats.recordCulled(this);
             }
             return; // Culling: skip off-screen elements
         }
+        UIFlightRecorder.countRender(false);
+
+        if (stats != null) {
+            stats.enter(this);
+        }
 
         // Apply hierarchical transform: translate by effective position, scale by effective scale
         if (context instanceof io.github.currenj.gelatinui.gui.minecraft.MinecraftRenderContext) {
@@ -320,7 +349,9 @@ public abstract class UIElement<T extends UIElement<T>> implements IUIElement {
             pose.scale(combinedScale, combinedScale, 1.0f);
 
             // render self and children under same transform so children inherit the parent's transform
+            long selfToken = UIProfiler.beginElement();
             renderSelf(context);
+            UIProfiler.endElement(getClass(), selfToken);
             renderChildren(context, viewport);
 
             // Render debug overlays if enabled
@@ -331,7 +362,9 @@ public abstract class UIElement<T extends UIElement<T>> implements IUIElement {
             pose.popPose();
         } else {
             // Non-Minecraft contexts: no pose stack available; render normally
+            long selfToken = UIProfiler.beginElement();
             renderSelf(context);
+            UIProfiler.endElement(getClass(), selfToken);
             renderChildren(context, viewport);
 
             // Render debug overlays if enabled
@@ -340,10 +373,8 @@ public abstract class UIElement<T extends UIElement<T>> implements IUIElement {
             }
         }
 
-        // Track rendered elements for debug visualization
-        if (debugShowCulled) {
-            String elementName = debugName != null ? debugName : getDefaultDebugName();
-            trackRenderedElement(elementName);
+        if (stats != null) {
+            stats.exitRendered(this);
         }
     }
 
@@ -459,6 +490,7 @@ public abstract class UIElement<T extends UIElement<T>> implements IUIElement {
         Vector2f gp = new Vector2f(position);
         if (parent instanceof UIElement) {
             UIElement p = (UIElement) parent;
+            gp.y -= p.getChildScrollOffset(this);
             Vector2f parentGlobal = p.getGlobalPosition();
             float parentScale = p.getGlobalScale();
             gp.mul(parentScale);
@@ -467,6 +499,14 @@ public abstract class UIElement<T extends UIElement<T>> implements IUIElement {
         return gp;
     }
 
+    /**
+     * Vertical offset, in this element's local units, by which the given child is scrolled out of place.
+     * Scroll containers return their scroll offset; everything else 0.
+     */
+    protected float getChildScrollOffset(IUIElement child) {
+        return 0f;
+    }
+
     /**
      * Compute the global scale by multiplying up the parent chain, including effectScale.
      */
@@ -612,12 +652,26 @@ public abstract class UIElement<T extends UIElement<T>> implements IUIElement {
     public void markDirty(DirtyFlag... flags) {
         // Add the new flags first
         boolean hadNewFlags = false;
+        boolean structure = false;
+        boolean geometry = false;
         for (DirtyFlag flag : flags) {
+            switch (flag) {
+                case CHILDREN -> structure = true;
+                case POSITION, SIZE, LAYOUT, VISIBILITY -> geometry = true;
+                default -> { }
+            }
             if (!dirtyFlags.contains(flag)) {
                 dirtyFlags.add(flag);
                 hadNewFlags = true;
             }
         }
+        if (geometry) {
+            geometryVersion++;
+        }
+        if (structure) {
+            // Child lists change rarely and CHILDREN is never propagated upwards, so this walks once per change
+            noteStructureChanged();
+        }
 
         // Invalidate cached bounds if position or size changed
         if (dirtyFlags.contains(DirtyFlag.POSITION) ||
@@ -638,6 +692,34 @@ public abstract class UIElement<T extends UIElement<T>> implements IUIElement {
         }
     }
 
+    /**
+     * Record a change to a child list made without marking {@link DirtyFlag#CHILDREN}, e.g. by a container
+     * that manages its children directly.
+     */
+    protected void noteStructureChanged() {
+        IUIElement top = this;
+        while (top.getParent() != null) {
+            top = top.getParent();
+        }
+        if (top instanceof UIElement<?> rootElement) {
+            rootElement.structureVersion++;
+        }
+    }
+
+    /**
+     * Counter of child-list changes in the tree under a root; 0 for null.
+     */
+    static int getStructureVersion(IUIElement root) {
+        return root instanceof UIElement<?> rootElement ? rootElement.structureVersion : 0;
+    }
+
+    /**
+     * Counter of position, size, layout and visibility changes across all trees.
+     */
+    static int getGeometryVersion() {
+        return geometryVersion;
+    }
+
     /**
      * Invalidate bounds of all descendants recursively.
      * Called when this element's transform changes, which affects all child bounds.
@@ -662,6 +744,11 @@ public abstract class UIElement<T extends UIElement<T>> implements IUIElement {
 
     @Override
     public boolean handleEvent(UIEvent event) {
+        return handleLocalEvent(event);
+    }
+
+    @Override
+    public boolean handleLocalEvent(UIEvent event) {
         if (!visible) {
             return false;
         }
@@ -673,8 +760,8 @@ public abstract class UIElement<T extends UIElement<T>> implements IUIElement {
         }
 
         // Dispatch to listeners
-        for (UIEventListener listener : eventListeners) {
-            listener.onEvent(event);
+        for (int i = 0; i < eventListeners.size(); i++) {
+            eventListeners.get(i).onEvent(event);
             if (event.isConsumed()) {
                 return true;
             }
@@ -683,6 +770,27 @@ public abstract class UIElement<T extends UIElement<T>> implements IUIElement {
         return false;
     }
 
+    @Override
+    public boolean captureEvent(UIEvent event) {
+        if (!visible) {
+            return false;
+        }
+        if (onCaptureEvent(event)) {
+            event.consume();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Intercept an event headed for one of this element's descendants, before the descendant sees it.
+     * Override in containers that need first refusal (e.g. scrolling); most elements handle events in onEvent.
+     * @return true if event was consumed
+     */
+    protected boolean onCaptureEvent(UIEvent event) {
+        return false;
+    }
+
     @Override
     public boolean isInViewport(Rectangle2D viewport) {
         if (!visible) {
@@ -1127,6 +1235,35 @@ public abstract class UIElement<T extends UIElement<T>> implements IUIElement {
         return self();
     }
 
+    /**
+     * Set a tooltip that is built on first hover. The built tooltip is kept for this element and shown again on
+     * later hovers without being rebuilt or laid out again; call {@link #invalidateTooltip()} if its content
+     * goes stale.
+     *
+     * @param screen  The UIScreen to set the tooltip on
+     * @param factory Builds the tooltip element
+     * @return this element for method chaining
+     */
+    public T tooltip(UIScreen screen, java.util.function.Supplier<? extends IUIElement> factory)
+    {
+        this.onMouseEnter(e -> {
+            if (cachedTooltip == null) {
+                cachedTooltip = factory.get();
+            }
+            screen.setTooltip(cachedTooltip);
+        });
+        this.onMouseExit(e -> screen.clearTooltip());
+        return self();
+    }
+
+    /**
+     * Drop the tooltip built by {@link #tooltip(UIScreen, java.util.function.Supplier)} so the next hover builds
+     * it again.
+     */
+    public void invalidateTooltip() {
+        cachedTooltip = null;
+    }
+
     // ===== Debug Methods =====
 
     /**
@@ -1210,49 +1347,95 @@ public abstract class UIElement<T extends UIElement<T>> implements IUIElement {
     }
 
     /**
-     * Get the list of names for culled elements (static, for debug visualization).
+     * Get the list of names for culled elements in the last rendered frame.
+     * @deprecated counters live per screen now; use {@link UIScreen#getRenderStats()} and
+     * {@link UIRenderStats#requestSnapshot()}. Calling this keeps a snapshot requested every frame.
      */
+    @Deprecated
     public static List<String> getCulledElementNames() {
-        return culledElementNames;
+        return UIRenderStats.pollLegacySnapshot().culled();
     }
 
     /**
      * Track a culled element's name for debug visualization.
+     * @deprecated names are only kept while a {@link UIRenderStats} snapshot is being captured
      */
+    @Deprecated
     public static void trackCulledElement(String name) {
-        if (!culledElementNames.contains(name)) {
-            culledElementNames.add(name);
-        }
+        UIRenderStats.addLegacyName(name, true);
     }
 
     /**
-     * Clear the tracked culled elements (for debug visualization).
+     * Clear the tracked culled elements.
+     * @deprecated every snapshot starts empty; there is nothing to clear
      */
+    @Deprecated
     public static void clearCulledElements() {
-        culledElementNames.clear();
     }
 
     /**
-     * Get the list of names for rendered elements (static, for debug visualization).
+     * Get the list of names for rendered elements in the last rendered frame.
+     * @deprecated counters live per screen now; use {@link UIScreen#getRenderStats()} and
+     * {@link UIRenderStats#requestSnapshot()}. Calling this keeps a snapshot requested every frame.
      */
+    @Deprecated
     public static List<String> getRenderedElementNames() {
-        return renderedElementNames;
+        return UIRenderStats.pollLegacySnapshot().rendered();
     }
 
     /**
      * Track a rendered element's name for debug visualization.
+     * @deprecated names are only kept while a {@link UIRenderStats} snapshot is being captured
      */
+    @Deprecated
     public static void trackRenderedElement(String name) {
-        if (!renderedElementNames.contains(name)) {
-            renderedElementNames.add(name);
-        }
+        UIRenderStats.addLegacyName(name, false);
     }
 
     /**
-     * Clear the tracked rendered elements (for debug visualization).
+     * Clear the tracked rendered elements.
+     * @deprecated every snapshot starts empty; there is nothing to clear
      */
+    @Deprecated
     public static void clearRenderedElements() {
-        renderedElementNames.clear();
+    }
+
+    /**
+     * Restore the state of a freshly constructed element so {@link UIElementPool} can hand this instance out again.
+     * Drops listeners, actions, effects and animations, detaches from the parent and marks the element dirty.
+     * Subclasses with their own state override this and call super.
+     */
+    protected void resetForReuse() {
+        debugName = null;
+        parent = null;
+        position.zero();
+        size.zero();
+        targetPosition.zero();
+        currentScale = 1.0f;
+        targetScale = 1.0f;
+        effectScale = 1.0f;
+        visible = true;
+        effectsAffectLayout = false;
+        // Cleared here rather than through clearAnimations/clearEffects, which subclasses may override
+        for (io.github.currenj.gelatinui.gui.animation.Animation a : animations) {
+            a.cancel();
+        }
+        animations.clear();
+        for (io.github.currenj.gelatinui.gui.effects.Effect e : effects) {
+            e.cancel();
+        }
+        effects.clear();
+        isAnimating = false;
+        combinedEffectDelta = io.github.currenj.gelatinui.gui.effects.TransformDelta.IDENTITY;
+        isDirty = true;
+        dirtyFlags.clear();
+        cachedBounds = null;
+        boundsValid = false;
+        eventListeners.clear();
+        onClickActions.clear();
+        onMouseEnterActions.clear();
+        onMouseExitActions.clear();
+        cachedTooltip = null;
     }
 
     protected abstract T self();
@@ -0,0 +1,151 @@
+package io.github.currenj.gelatinui.gui;
+
+import io.github.currenj.gelatinui.gui.components.HBox;
+import io.github.currenj.gelatinui.gui.components.Label;
+import io.github.currenj.gelatinui.gui.components.Panel;
+import io.github.currenj.gelatinui.gui.components.Rectangle;
+import io.github.currenj.gelatinui.gui.components.VBox;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Recycle pool for UI elements, keyed by exact element class.
+ *
+ * Screens that rebuild their tree (e.g. GelatinUIScreen on init) release the old tree here, and the builder
+ * methods in {@link UI} take instances back out instead of allocating. Released elements are reset through
+ * {@link UIElement#resetForReuse()}, so nothing from the previous screen (listeners, effects, animations,
+ * layout caches) leaks into the next one.
+ *
+ * Only classes registered as poolable are accepted; by default the stateless building blocks VBox, HBox,
+ * Panel, Rectangle and Label. Subclasses are never pooled under their parent class.
+ *
+ * Render thread only, like the rest of the UI.
+ */
+public final class UIElementPool {
+    private static final Map<Class<?>, ArrayDeque<UIElement<?>>> pools = new HashMap<>();
+    private static boolean enabled = true;
+    private static int maxPerClass = 1024;
+
+    static {
+        registerPoolable(VBox.class);
+        registerPoolable(HBox.class);
+        registerPoolable(Panel.class);
+        registerPoolable(Rectangle.class);
+        registerPoolable(Label.class);
+    }
+
+    private UIElementPool() {
+    }
+
+    /**
+     * Allow instances of exactly this class to be pooled. The class must restore all of its own state in
+     * {@link UIElement#resetForReuse()}.
+     */
+    public static void registerPoolable(Class<? extends UIElement<?>> type) {
+        pools.computeIfAbsent(type, t -> new ArrayDeque<>());
+    }
+
+    public static boolean isPoolable(Class<?> type) {
+        return pools.containsKey(type);
+    }
+
+    /**
+     * Take a recycled instance of the given class, or create one with the factory when none is pooled.
+     */
+    public static <E extends UIElement<?>> E obtain(Class<E> type, Supplier<E> factory) {
+        ArrayDeque<UIElement<?>> pool = enabled ? pools.get(type) : null;
+        UIElement<?> element = pool != null ? pool.pollLast() : null;
+        if (element == null) {
+            return factory.get();
+        }
+        element.pooled = false;
+        return type.cast(element);
+    }
+
+    /**
+     * Reset a single element and return it to the pool. Its children are detached but not released.
+     * The element must no longer be referenced by a live tree.
+     * @return true if the element was pooled
+     */
+    public static boolean release(IUIElement element) {
+        if (!enabled || !(element instanceof UIElement<?> uiElement) || uiElement.pooled) {
+            return false;
+        }
+        ArrayDeque<UIElement<?>> pool = pools.get(element.getClass());
+        if (pool == null || pool.size() >= maxPerClass) {
+            return false;
+        }
+        uiElement.resetForReuse();
+        uiElement.pooled = true;
+        uiElement.reuseCount++;
+        pool.addLast(uiElement);
+        return true;
+    }
+
+    /**
+     * Release a detached tree: the root and every descendant reachable through poolable containers.
+     * Subtrees under non-poolable elements are left to the garbage collector, since those elements may
+     * still hold references into them.
+     * @return number of elements pooled
+     */
+    public static int releaseTree(IUIElement root) {
+        if (!enabled || root == null || !isPoolable(root.getClass())) {
+            return 0;
+        }
+        int released = 0;
+        if (root instanceof UIContainer<?> container) {
+            for (IUIElement child : container.getChildren()) {
+                released += releaseTree(child);
+            }
+        }
+        if (release(root)) {
+            released++;
+        }
+        return released;
+    }
+
+    /**
+     * Number of idle instances of the given class.
+     */
+    public static int getPooledCount(Class<?> type) {
+        ArrayDeque<UIElement<?>> pool = pools.get(type);
+        return pool != null ? pool.size() : 0;
+    }
+
+    /**
+     * Drop every pooled instance.
+     */
+    public static void clear() {
+        for (ArrayDeque<UIElement<?>> pool : pools.values()) {
+            for (UIElement<?> element : pool) {
+                element.pooled = false;
+            }
+            pool.clear();
+        }
+    }
+
+    public static void setEnabled(boolean enabled) {
+        UIElementPool.enabled = enabled;
+        if (!enabled) {
+            clear();
+        }
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Cap on idle instances kept per class; releases beyond it are left to the garbage collector.
+     */
+    public static void setMaxPerClass(int max) {
+        maxPerClass = Math.max(0, max);
+    }
+
+    public static int getMaxPerClass() {
+        return maxPerClass;
+    }
+}
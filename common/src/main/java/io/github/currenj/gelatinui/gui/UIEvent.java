@@ -3,6 +3,9 @@ package io.github.currenj.gelatinui.gui;
 /**
  * Represents a UI event such as click, hover, scroll, etc.
  * Events can be dispatched, consumed, and bubbled through the UI tree.
+ *
+ * Events dispatched by a UIScreen come from its {@link UIEventDispatcher} pool and are reused once dispatch
+ * returns. Call {@link #copy()} to keep one beyond its handler.
  */
 public class UIEvent {
     /**
@@ -22,12 +25,24 @@ public class UIEvent {
         KEY_RELEASE
     }
 
-    private final Type type;
-    private final IUIElement target;
-    private final int mouseX;
-    private final int mouseY;
-    private final float scrollDelta;
+    /**
+     * Dispatch phase: ancestors see the event on the way down (capture), then the target, then the
+     * ancestors again on the way up (bubble).
+     */
+    public enum Phase {
+        CAPTURE,
+        TARGET,
+        BUBBLE
+    }
+
+    private Type type;
+    private IUIElement target;
+    private int mouseX;
+    private int mouseY;
+    private float scrollDelta;
     private boolean consumed = false;
+    private Phase phase = Phase.TARGET;
+    private IUIElement currentTarget = null;
 
     public UIEvent(Type type, IUIElement target, int mouseX, int mouseY) {
         this(type, target, mouseX, mouseY, 0);
@@ -41,6 +56,37 @@ public class UIEvent {
         this.scrollDelta = scrollDelta;
     }
 
+    /**
+     * Reinitialize a pooled event for a new dispatch.
+     */
+    UIEvent reset(Type type, IUIElement target, int mouseX, int mouseY, float scrollDelta) {
+        this.type = type;
+        this.target = target;
+        this.mouseX = mouseX;
+        this.mouseY = mouseY;
+        this.scrollDelta = scrollDelta;
+        this.consumed = false;
+        this.phase = Phase.TARGET;
+        this.currentTarget = null;
+        return this;
+    }
+
+    void setPhase(Phase phase, IUIElement currentTarget) {
+        this.phase = phase;
+        this.currentTarget = currentTarget;
+    }
+
+    /**
+     * Detached copy that stays valid after dispatch.
+     */
+    public UIEvent copy() {
+        UIEvent copy = new UIEvent(type, target, mouseX, mouseY, scrollDelta);
+        copy.consumed = consumed;
+        copy.phase = phase;
+        copy.currentTarget = currentTarget;
+        return copy;
+    }
+
     public Type getType() {
         return type;
     }
@@ -61,6 +107,27 @@ public class UIEvent {
         return scrollDelta;
     }
 
+    public Phase getPhase() {
+        return phase;
+    }
+
+    /**
+     * Element whose handler is running: an ancestor during capture and bubble, the target otherwise.
+     */
+    public IUIElement getCurrentTarget() {
+        return currentTarget != null ? currentTarget : target;
+    }
+
+    /**
+     * Whether the event is tied to a pointer position, so only elements under the pointer may receive it.
+     */
+    public boolean isPointerEvent() {
+        return switch (type) {
+            case CLICK, HOVER_ENTER, HOVER_EXIT, SCROLL, DRAG_START, DRAG, DRAG_END -> true;
+            default -> false;
+        };
+    }
+
     public boolean isConsumed() {
         return consumed;
     }
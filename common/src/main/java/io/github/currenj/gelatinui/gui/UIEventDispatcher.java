@@ -0,0 +1,198 @@
+package io.github.currenj.gelatinui.gui;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Routes pointer events along the hit path of a UIScreen and recycles the event objects.
+ *
+ * {@link #hitTest} walks from the root to the topmost leaf under the pointer, descending only into children
+ * whose bounds contain it, and remembers that path. {@link #dispatch} then runs three phases over the path
+ * alone: capture on each ancestor from the root down, the target itself, and bubble on each ancestor from the
+ * target's parent up to the root. Consuming the event in any phase stops it. Cost is proportional to the tree
+ * depth, not its size.
+ *
+ * Events handed to handlers come from a small pool and are reused when dispatch returns. Render thread only.
+ */
+public class UIEventDispatcher {
+    private final ArrayList<IUIElement> path = new ArrayList<>();
+    private final ArrayDeque<UIEvent> pool = new ArrayDeque<>();
+    private int allocatedEvents = 0;
+    private IUIElement lastConsumer = null;
+
+    // Per nesting level copies of the path, so handlers can dispatch again without disturbing the outer pass
+    private IUIElement[][] frames = new IUIElement[2][16];
+    private int depth = 0;
+
+    /**
+     * Find the topmost visible leaf under the point (or a container that is a hit target, when none of its
+     * children is) and record the path from root to it.
+     * @return the leaf, or null (with an empty path) when nothing is hit
+     */
+    public IUIElement hitTest(IUIElement root, int x, int y) {
+        path.clear();
+        if (root == null || !appendHit(root, x, y)) {
+            return null;
+        }
+        return path.get(path.size() - 1);
+    }
+
+    private boolean appendHit(IUIElement element, int x, int y) {
+        if (!element.isVisible() || !element.getBounds().contains(x, y)) {
+            return false;
+        }
+        path.add(element);
+        if (element instanceof UIContainer<?> container) {
+            List<IUIElement> children = container.getChildren();
+            for (int i = children.size() - 1; i >= 0; i--) {
+                if (appendHit(children.get(i), x, y)) {
+                    return true;
+                }
+            }
+            // Containers are only targets when they ask to be
+            if (container.isHitTarget()) {
+                return true;
+            }
+            path.remove(path.size() - 1);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Record the path from the outermost ancestor to the given element, without hit-testing.
+     */
+    public void setPathTo(IUIElement target) {
+        path.clear();
+        for (IUIElement e = target; e != null; e = e.getParent()) {
+            path.add(e);
+        }
+        Collections.reverse(path);
+    }
+
+    /**
+     * Current path, root first and target last. Valid until the next hitTest or setPathTo; do not modify.
+     */
+    public List<IUIElement> getPath() {
+        return path;
+    }
+
+    /**
+     * Element the current path leads to, or null.
+     */
+    public IUIElement getTarget() {
+        return path.isEmpty() ? null : path.get(path.size() - 1);
+    }
+
+    /**
+     * Run capture, target and bubble phases for a new event along the current path.
+     * @return true if any element consumed the event
+     */
+    public boolean dispatch(UIEvent.Type type, int x, int y, float scrollDelta) {
+        int length = path.size();
+        if (length == 0) {
+            return false;
+        }
+        IUIElement[] frame = frame(length);
+        UIEvent event = obtain(type, frame[length - 1], x, y, scrollDelta);
+        depth++;
+        try {
+            int consumedAt = dispatch(event, frame, length);
+            lastConsumer = consumedAt >= 0 ? frame[consumedAt] : null;
+            return consumedAt >= 0;
+        } finally {
+            depth--;
+            Arrays.fill(frame, 0, length, null);
+            release(event);
+        }
+    }
+
+    /**
+     * @return index in the frame of the element that consumed the event, or -1
+     */
+    private static int dispatch(UIEvent event, IUIElement[] frame, int length) {
+        int targetIndex = length - 1;
+        for (int i = 0; i < targetIndex; i++) {
+            event.setPhase(UIEvent.Phase.CAPTURE, frame[i]);
+            if (frame[i].captureEvent(event) || event.isConsumed()) {
+                return i;
+            }
+        }
+
+        event.setPhase(UIEvent.Phase.TARGET, frame[targetIndex]);
+        if (frame[targetIndex].handleLocalEvent(event) || event.isConsumed()) {
+            return targetIndex;
+        }
+
+        for (int i = targetIndex - 1; i >= 0; i--) {
+            event.setPhase(UIEvent.Phase.BUBBLE, frame[i]);
+            if (frame[i].handleLocalEvent(event) || event.isConsumed()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Element that consumed the last {@link #dispatch}, or null if it went unconsumed.
+     */
+    public IUIElement getLastConsumer() {
+        return lastConsumer;
+    }
+
+    /**
+     * Deliver a pooled event to one element only, without capture or bubble (hover enter/exit, events for a
+     * pointer-captured element).
+     * @return true if the element consumed the event
+     */
+    public boolean dispatchTo(IUIElement target, UIEvent.Type type, int x, int y) {
+        UIEvent event = obtain(type, target, x, y, 0f);
+        try {
+            return target.handleLocalEvent(event);
+        } finally {
+            release(event);
+        }
+    }
+
+    /**
+     * Take an event from the pool. Return it with {@link #release} once dispatch is over.
+     */
+    public UIEvent obtain(UIEvent.Type type, IUIElement target, int x, int y, float scrollDelta) {
+        UIEvent event = pool.pollLast();
+        if (event == null) {
+            event = new UIEvent(type, target, x, y, scrollDelta);
+            allocatedEvents++;
+        }
+        return event.reset(type, target, x, y, scrollDelta);
+    }
+
+    public void release(UIEvent event) {
+        // Drop the target reference so pooled events don't keep discarded trees alive
+        pool.addLast(event.reset(event.getType(), null, 0, 0, 0f));
+    }
+
+    /**
+     * Number of event objects created by this dispatcher since it was constructed.
+     */
+    public int getAllocatedEvents() {
+        return allocatedEvents;
+    }
+
+    private IUIElement[] frame(int length) {
+        if (depth >= frames.length) {
+            frames = Arrays.copyOf(frames, frames.length * 2);
+        }
+        IUIElement[] frame = frames[depth];
+        if (frame == null || frame.length < length) {
+            frame = new IUIElement[Math.max(length, 16)];
+            frames[depth] = frame;
+        }
+        for (int i = 0; i < length; i++) {
+            frame[i] = path.get(i);
+        }
+        return frame;
+    }
+}
@@ -0,0 +1,281 @@
+package io.github.currenj.gelatinui.gui;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Global frame profiler for the UI core.
+ * Records nanosecond timings per phase into fixed-size ring buffers and per-element-type render totals,
+ * without allocating once warmed up. Disabled by default; when disabled every hook is a single flag check.
+ *
+ * Phases are inclusive: LAYOUT and EFFECTS run inside UPDATE. Nested calls of the same phase (a container
+ * laying out a child container) are only timed at the outermost level. A frame ends when UIScreen.render
+ * returns. Like the rest of the UI, this must only be used from the render thread.
+ */
+public class UIProfiler {
+    /**
+     * Profiled phases of a UI frame.
+     */
+    public enum Phase {
+        UPDATE("update"),
+        LAYOUT("layout"),
+        EFFECTS("effects"),
+        HOVER("hover"),
+        RENDER("render"),
+        TOOLTIP("tooltip");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    /** Number of frames kept per phase for percentile computation. */
+    public static final int WINDOW = 240;
+    /** Maximum number of distinct element classes tracked; further classes share the last slot. */
+    public static final int MAX_TYPES = 128;
+
+    private static final int PHASE_COUNT = Phase.values().length;
+    private static final Phase[] PHASES = Phase.values();
+    // Returned by begin() when profiling is off, or when the phase is already being timed further up the stack
+    private static final long DISABLED = Long.MIN_VALUE;
+    private static final long NESTED = Long.MIN_VALUE + 1;
+
+    private static boolean enabled = false;
+
+    // Per-phase ring buffers of per-frame totals
+    private static final long[][] samples = new long[PHASE_COUNT][WINDOW];
+    private static int sampleCursor = 0;
+    private static int sampleCount = 0;
+    private static final long[] currentFrame = new long[PHASE_COUNT];
+    private static final int[] depth = new int[PHASE_COUNT];
+    private static final long[] percentileScratch = new long[WINDOW];
+    private static long frameCount = 0;
+
+    // Per-element-type renderSelf totals
+    private static final Map<Class<?>, Integer> typeIndices = new IdentityHashMap<>();
+    private static final Class<?>[] typeClasses = new Class<?>[MAX_TYPES];
+    private static final long[] typeFrameNanos = new long[MAX_TYPES];
+    private static final int[] typeFrameCounts = new int[MAX_TYPES];
+    private static final long[] typeLastFrameNanos = new long[MAX_TYPES];
+    private static final int[] typeLastFrameCounts = new int[MAX_TYPES];
+    private static final long[] typeTotalNanos = new long[MAX_TYPES];
+    private static final long[] typeTotalCounts = new long[MAX_TYPES];
+    private static int typeCount = 0;
+
+    /**
+     * Enable or disable profiling. Enabling starts from an empty window.
+     */
+    public static void setEnabled(boolean enabled) {
+        if (enabled && !UIProfiler.enabled) {
+            reset();
+        }
+        UIProfiler.enabled = enabled;
+    }
+
+    /**
+     * Toggle profiling on or off.
+     */
+    public static void toggle() {
+        setEnabled(!enabled);
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Start timing a phase.
+     * @return a token to pass to {@link #end(Phase, long)}
+     */
+    public static long begin(Phase phase) {
+        if (!enabled) {
+            return DISABLED;
+        }
+        return depth[phase.ordinal()]++ == 0 ? System.nanoTime() : NESTED;
+    }
+
+    /**
+     * Stop timing a phase started with {@link #begin(Phase)}.
+     */
+    public static void end(Phase phase, long token) {
+        if (token == DISABLED) {
+            return;
+        }
+        int i = phase.ordinal();
+        depth[i] = Math.max(0, depth[i] - 1);
+        if (token != NESTED) {
+            currentFrame[i] += System.nanoTime() - token;
+        }
+    }
+
+    /**
+     * Start timing one element's own render work.
+     * @return a token to pass to {@link #endElement(Class, long)}
+     */
+    public static long beginElement() {
+        return enabled ? System.nanoTime() : DISABLED;
+    }
+
+    /**
+     * Stop timing one element's own render work and add it to the totals for its class.
+     */
+    public static void endElement(Class<?> type, long token) {
+        if (token == DISABLED) {
+            return;
+        }
+        int index = typeIndex(type);
+        long nanos = System.nanoTime() - token;
+        typeFrameNanos[index] += nanos;
+        typeFrameCounts[index]++;
+    }
+
+    /**
+     * Close the current frame: push phase totals into the ring buffers and roll the per-type counters.
+     * Called by UIScreen at the end of render.
+     */
+    public static void endFrame() {
+        if (!enabled) {
+            return;
+        }
+        for (int i = 0; i < PHASE_COUNT; i++) {
+            samples[i][sampleCursor] = currentFrame[i];
+            currentFrame[i] = 0L;
+            depth[i] = 0;
+        }
+        sampleCursor = (sampleCursor + 1) % WINDOW;
+        sampleCount = Math.min(WINDOW, sampleCount + 1);
+
+        for (int t = 0; t < typeCount; t++) {
+            typeLastFrameNanos[t] = typeFrameNanos[t];
+            typeLastFrameCounts[t] = typeFrameCounts[t];
+            typeTotalNanos[t] += typeFrameNanos[t];
+            typeTotalCounts[t] += typeFrameCounts[t];
+            typeFrameNanos[t] = 0L;
+            typeFrameCounts[t] = 0;
+        }
+        frameCount++;
+    }
+
+    /**
+     * Clear all recorded samples and type totals.
+     */
+    public static void reset() {
+        for (int i = 0; i < PHASE_COUNT; i++) {
+            Arrays.fill(samples[i], 0L);
+            currentFrame[i] = 0L;
+            depth[i] = 0;
+        }
+        sampleCursor = 0;
+        sampleCount = 0;
+        frameCount = 0;
+        typeIndices.clear();
+        Arrays.fill(typeClasses, null);
+        Arrays.fill(typeFrameNanos, 0L);
+        Arrays.fill(typeFrameCounts, 0);
+        Arrays.fill(typeLastFrameNanos, 0L);
+        Arrays.fill(typeLastFrameCounts, 0);
+        Arrays.fill(typeTotalNanos, 0L);
+        Arrays.fill(typeTotalCounts, 0L);
+        typeCount = 0;
+    }
+
+    /**
+     * Frames closed since profiling was enabled or reset.
+     */
+    public static long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Number of frames currently held in the window (at most {@link #WINDOW}).
+     */
+    public static int getSampleCount() {
+        return sampleCount;
+    }
+
+    /**
+     * Time spent in a phase during the most recently closed frame, in nanoseconds.
+     */
+    public static long getLastNanos(Phase phase) {
+        if (sampleCount == 0) {
+            return 0L;
+        }
+        return samples[phase.ordinal()][(sampleCursor - 1 + WINDOW) % WINDOW];
+    }
+
+    /**
+     * Percentile of the per-frame time of a phase over the window, in nanoseconds.
+     * @param percentile in [0, 100], e.g. 50 or 99
+     */
+    public static long getPercentileNanos(Phase phase, float percentile) {
+        if (sampleCount == 0) {
+            return 0L;
+        }
+        System.arraycopy(samples[phase.ordinal()], 0, percentileScratch, 0, sampleCount);
+        Arrays.sort(percentileScratch, 0, sampleCount);
+        float p = Math.max(0f, Math.min(100f, percentile));
+        int index = (int) Math.ceil(p / 100f * sampleCount) - 1;
+        return percentileScratch[Math.max(0, Math.min(sampleCount - 1, index))];
+    }
+
+    /**
+     * Phases in declaration order, without cloning.
+     */
+    public static Phase[] getPhases() {
+        return PHASES;
+    }
+
+    /**
+     * Number of element classes seen so far. Indices below this are valid for the type getters.
+     */
+    public static int getTypeCount() {
+        return typeCount;
+    }
+
+    public static Class<?> getType(int index) {
+        return typeClasses[index];
+    }
+
+    /**
+     * renderSelf time of a class during the most recently closed frame, in nanoseconds.
+     */
+    public static long getTypeLastFrameNanos(int index) {
+        return typeLastFrameNanos[index];
+    }
+
+    /**
+     * renderSelf calls of a class during the most recently closed frame.
+     */
+    public static int getTypeLastFrameCount(int index) {
+        return typeLastFrameCounts[index];
+    }
+
+    public static long getTypeTotalNanos(int index) {
+        return typeTotalNanos[index];
+    }
+
+    public static long getTypeTotalCount(int index) {
+        return typeTotalCounts[index];
+    }
+
+    private static int typeIndex(Class<?> type) {
+        Integer index = typeIndices.get(type);
+        if (index != null) {
+            return index;
+        }
+        if (typeCount == MAX_TYPES) {
+            return MAX_TYPES - 1;
+        }
+        int created = typeCount++;
+        typeClasses[created] = type;
+        typeIndices.put(type, created);
+        return created;
+    }
+}
@@ -0,0 +1,273 @@
+package io.github.currenj.gelatinui.gui;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-screen culled/rendered counters for the culled-elements debug mode.
+ *
+ * Counts are kept in primitive arrays per element class and per top-level subtree (each direct child of the
+ * root), so collecting them costs a few array increments per element and no strings. Element names are only
+ * built when a snapshot is requested, for the single frame that follows.
+ *
+ * Owned by UIScreen; elements report into the stats of the screen currently rendering. Containers tell it the
+ * index of each child of the root as they render it, so attributing an element to its subtree needs no search.
+ */
+public class UIRenderStats {
+    /**
+     * Names of culled and rendered elements captured during one frame.
+     */
+    public record Snapshot(List<String> culled, List<String> rendered) {
+        public static final Snapshot EMPTY = new Snapshot(List.of(), List.of());
+    }
+
+    // Stats of the screen whose render pass is in progress; render thread only
+    private static UIRenderStats active = null;
+    // Stats that most recently finished a render pass, for the deprecated UIElement name lists
+    private static UIRenderStats lastFinished = null;
+
+    private final Map<Class<?>, Integer> typeIndices = new IdentityHashMap<>();
+    private Class<?>[] types = new Class<?>[16];
+    private int[] culledByType = new int[16];
+    private int[] renderedByType = new int[16];
+    private int typeCount = 0;
+
+    private int[] culledBySubtree = new int[16];
+    private int[] renderedBySubtree = new int[16];
+    private int subtreeCount = 0;
+
+    private int culledTotal = 0;
+    private int renderedTotal = 0;
+
+    // Traversal state
+    private IUIElement root;
+    private int depth = 0;
+    private int currentSubtree = -1;
+
+    // Snapshot capture
+    private boolean snapshotRequested = false;
+    private List<String> snapshotCulled = null;
+    private List<String> snapshotRendered = null;
+    private Snapshot lastSnapshot = Snapshot.EMPTY;
+
+    /**
+     * Stats currently collecting, or null when no instrumented render pass is running.
+     */
+    public static UIRenderStats active() {
+        return active;
+    }
+
+    /**
+     * Reset counters and start collecting for a render pass over the given root.
+     */
+    public void beginFrame(IUIElement root) {
+        Arrays.fill(culledByType, 0, typeCount, 0);
+        Arrays.fill(renderedByType, 0, typeCount, 0);
+        int children = root instanceof UIContainer<?> container ? container.getChildCount() : 0;
+        ensureSubtreeCapacity(children);
+        Arrays.fill(culledBySubtree, 0, children, 0);
+        Arrays.fill(renderedBySubtree, 0, children, 0);
+        subtreeCount = children;
+        culledTotal = 0;
+        renderedTotal = 0;
+        this.root = root;
+        depth = 0;
+        currentSubtree = -1;
+
+        if (snapshotRequested) {
+            snapshotRequested = false;
+            snapshotCulled = new ArrayList<>();
+            snapshotRendered = new ArrayList<>();
+        }
+        active = this;
+    }
+
+    /**
+     * Stop collecting. Publishes the snapshot if one was being captured.
+     */
+    public void endFrame() {
+        if (active == this) {
+            active = null;
+        }
+        lastFinished = this;
+        if (snapshotCulled != null) {
+            lastSnapshot = new Snapshot(Collections.unmodifiableList(snapshotCulled), Collections.unmodifiableList(snapshotRendered));
+            snapshotCulled = null;
+            snapshotRendered = null;
+        }
+        root = null;
+    }
+
+    /**
+     * Record an element skipped by viewport culling.
+     */
+    public void recordCulled(UIElement<?> element) {
+        culledByType[typeIndex(element.getClass())]++;
+        if (currentSubtree >= 0) {
+            culledBySubtree[currentSubtree]++;
+        }
+        if (depth == 1) {
+            // A culled child of the root ends its subtree at once
+            currentSubtree = -1;
+        }
+        culledTotal++;
+        if (snapshotCulled != null) {
+            snapshotCulled.add(nameOf(element));
+        }
+    }
+
+    /**
+     * Called by a container right before it renders the child at the given index of its child list.
+     * Only the root's children start a subtree; other calls are ignored.
+     */
+    public void beginChild(IUIElement parent, int index) {
+        if (parent == root && depth == 1) {
+            currentSubtree = index < subtreeCount ? index : -1;
+        }
+    }
+
+    /**
+     * Called when an element passes culling and starts rendering.
+     */
+    public void enter(UIElement<?> element) {
+        depth++;
+    }
+
+    /**
+     * Called when an element that passed culling has finished rendering, including its children.
+     */
+    public void exitRendered(UIElement<?> element) {
+        renderedByType[typeIndex(element.getClass())]++;
+        if (currentSubtree >= 0) {
+            renderedBySubtree[currentSubtree]++;
+        }
+        renderedTotal++;
+        if (snapshotRendered != null) {
+            snapshotRendered.add(nameOf(element));
+        }
+        if (depth == 2) {
+            currentSubtree = -1;
+        }
+        depth = Math.max(0, depth - 1);
+    }
+
+    /**
+     * Capture element names during the next frame. Read the result with {@link #getLastSnapshot()}.
+     */
+    public void requestSnapshot() {
+        snapshotRequested = true;
+    }
+
+    /**
+     * Names captured by the most recent requested snapshot, or an empty snapshot.
+     */
+    public Snapshot getLastSnapshot() {
+        return lastSnapshot;
+    }
+
+    public int getCulledTotal() {
+        return culledTotal;
+    }
+
+    public int getRenderedTotal() {
+        return renderedTotal;
+    }
+
+    /**
+     * Number of element classes seen. Indices below this are valid for the per-type getters.
+     */
+    public int getTypeCount() {
+        return typeCount;
+    }
+
+    public Class<?> getType(int index) {
+        return types[index];
+    }
+
+    public int getCulledCount(int typeIndex) {
+        return culledByType[typeIndex];
+    }
+
+    public int getRenderedCount(int typeIndex) {
+        return renderedByType[typeIndex];
+    }
+
+    /**
+     * Number of top-level subtrees (children of the root) in the last frame.
+     */
+    public int getSubtreeCount() {
+        return subtreeCount;
+    }
+
+    /**
+     * Culled elements within the root's child at the given index, including the child itself.
+     */
+    public int getSubtreeCulledCount(int childIndex) {
+        return culledBySubtree[childIndex];
+    }
+
+    /**
+     * Rendered elements within the root's child at the given index, including the child itself.
+     */
+    public int getSubtreeRenderedCount(int childIndex) {
+        return renderedBySubtree[childIndex];
+    }
+
+    /**
+     * Names of the last finished frame's snapshot, for the deprecated static name lists on UIElement. Asks for
+     * another snapshot so a caller polling every frame keeps getting fresh names.
+     */
+    static Snapshot pollLegacySnapshot() {
+        UIRenderStats stats = lastFinished;
+        if (stats == null) {
+            return Snapshot.EMPTY;
+        }
+        stats.requestSnapshot();
+        return stats.lastSnapshot;
+    }
+
+    /**
+     * Add a name to the snapshot being captured by the active render pass, if any.
+     */
+    static void addLegacyName(String name, boolean culled) {
+        UIRenderStats stats = active;
+        List<String> names = stats == null ? null : culled ? stats.snapshotCulled : stats.snapshotRendered;
+        if (names != null) {
+            names.add(name);
+        }
+    }
+
+    private int typeIndex(Class<?> type) {
+        Integer index = typeIndices.get(type);
+        if (index != null) {
+            return index;
+        }
+        if (typeCount == types.length) {
+            int capacity = types.length * 2;
+            types = Arrays.copyOf(types, capacity);
+            culledByType = Arrays.copyOf(culledByType, capacity);
+            renderedByType = Arrays.copyOf(renderedByType, capacity);
+        }
+        int created = typeCount++;
+        types[created] = type;
+        typeIndices.put(type, created);
+        return created;
+    }
+
+    private void ensureSubtreeCapacity(int count) {
+        if (count > culledBySubtree.length) {
+            int capacity = Math.max(count, culledBySubtree.length * 2);
+            culledBySubtree = Arrays.copyOf(culledBySubtree, capacity);
+            renderedBySubtree = Arrays.copyOf(renderedBySubtree, capacity);
+        }
+    }
+
+    private static String nameOf(UIElement<?> element) {
+        String name = element.getDebugName();
+        return name != null ? name : element.getDefaultDebugName();
+    }
+}
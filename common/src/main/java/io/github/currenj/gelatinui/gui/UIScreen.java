@@ -2,6 +2,7 @@ package io.github.currenj.gelatinui.gui;
 
 import java.awt.*;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import io.github.currenj.gelatinui.gui.animation.Easing;
@@ -9,17 +10,37 @@ import io.github.currenj.gelatinui.gui.animation.FloatKeyframeAnimation;
 import io.github.currenj.gelatinui.gui.components.HBox;
 import io.github.currenj.gelatinui.gui.components.VBox;
 import io.github.currenj.gelatinui.gui.components.VerticalScrollBar;
+import io.github.currenj.gelatinui.gui.jfr.UIFlightRecorder;
+import io.github.currenj.gelatinui.gui.jfr.UIRenderEvent;
+import io.github.currenj.gelatinui.gui.jfr.UIUpdateEvent;
 import java.awt.geom.Rectangle2D;
 
 import io.github.currenj.gelatinui.gui.minecraft.MinecraftRenderContext;
 import net.minecraft.client.gui.GuiGraphics;
 import org.joml.Vector2f;
+import org.lwjgl.glfw.GLFW;
 
 /**
  * Root UI manager that handles the main update and render loop.
  * Manages event dispatching and viewport setup.
  */
-public class UIScreen {
+public class UIScreen implements Scrollable {
+    /**
+     * Receives queued key presses the UI did not use, once the events queued before them have been handled.
+     */
+    @FunctionalInterface
+    public interface UnusedKeyListener {
+        void onUnusedKey(int keyCode, int scanCode, int modifiers);
+    }
+
+    /**
+     * Receives each queued press just before it is dispatched, in content coordinates (see {@link #toContentY}).
+     */
+    @FunctionalInterface
+    public interface PressListener {
+        void onPress(int mouseX, int mouseY, int button);
+    }
+
     private IUIElement root;
     private final List<IUIElement> dirtyElements = new ArrayList<>();
     private Rectangle2D viewport;
@@ -27,38 +48,88 @@ public class UIScreen {
     private final VerticalScrollBar vscroll;
     private int scrollbarMargin = 6; // pixels from right edge
 
+    // Culled/rendered counters for the culled-elements debug mode
+    private final UIRenderStats renderStats = new UIRenderStats();
+
+    // Work postponed by budgeted updates
+    private final DeferredWorkQueue deferredWork = new DeferredWorkQueue();
+    // Hit path and pooled events for pointer dispatch
+    private final UIEventDispatcher dispatcher = new UIEventDispatcher();
+
+    // Keyboard focus and tab order
+    private final FocusManager focusManager = new FocusManager(dispatcher);
+    private boolean tabNavigationEnabled = true;
+    private UnusedKeyListener unusedKeyListener = null;
+    private PressListener pressListener = null;
+
+    // Raw input handled in one batch per update, and the hit-test shared within that batch
+    private final InputQueue inputQueue = new InputQueue();
+    private boolean sharedHitValid = false;
+    private int sharedHitX = 0;
+    private int sharedHitY = 0;
+    private int sharedHitScroll = 0;
+    private int sharedHitVersion = 0;
+    private int sharedHitGeometry = 0;
+    private IUIElement sharedHitTarget = null;
+
     // Global tooltip system
     private IUIElement tooltipElement = null;
     private Vector2f tooltipOffset = new Vector2f(10, 10); // Default offset from mouse cursor
     private boolean tooltipAnimationsEnabled = true; // Enable scaling animations for tooltips
+    // Placement in screen coordinates and the in/out animation scale, both applied as a render transform so
+    // the tooltip element itself is never moved or rescaled. Placement is redone only when invalidated.
+    private final Vector2f tooltipPlacement = new Vector2f();
+    private boolean tooltipPlacementValid = false;
+    private float tooltipScale = 1f;
+    private final Rectangle2D.Float tooltipViewport = new Rectangle2D.Float();
 
     // Mouse state for event handling
     private int lastMouseX = 0;
     private int lastMouseY = 0;
-    private IUIElement hoveredElement = null;
 
-    // Hover cooldown state: enforce a minimum time between enter/exit events.
-    // Use monotonic nanosecond timing for correctness across system time jumps.
-    private long lastHoverEventTimeNanos = 0L; // monotonic nanos
-    private final long hoverCooldownNanos = 80_000_000L; // 80 ms in nanos
-    private IUIElement pendingHover = null; // scheduled hover target
-    private long pendingHoverFireTimeNanos = 0L; // nanos timestamp when pendingHover should be applied
+    // Seconds of update time this screen has seen; hover timing is scheduled against it rather than polled
+    private double frameClock = 0.0;
+
+    // Hover state: the hover stack holds the hit path the pointer is in (root first, hovered leaf last).
+    // IDLE transitions fire at once and start a cooldown; while COOLING, a changed path is kept as PENDING
+    // and applied when the cooldown ends on the frame clock. Only the changed suffix of the stack receives
+    // HOVER_EXIT (innermost first) and HOVER_ENTER (outermost first). Entries that were detached or recycled
+    // through UIElementPool since they were entered are dropped without an exit event.
+    private enum HoverState { IDLE, COOLING, PENDING }
+    private HoverState hoverState = HoverState.IDLE;
+    private IUIElement[] hoverStack = new IUIElement[16];
+    private int[] hoverStamps = new int[16]; // reuse count of each entry when it was entered
+    private int hoverDepth = 0;
+    private IUIElement[] pendingHoverStack = new IUIElement[16];
+    private int pendingHoverDepth = 0;
+    private float hoverCooldown = 0.08f; // seconds between hover transitions
+    private double hoverCooldownEnd = 0.0;
+
+    // Drag state: a press becomes a drag once the pointer moves past the threshold and an element on the
+    // press path consumes DRAG_START. That element then captures the pointer until release.
+    private IUIElement pressTarget = null;
+    private int pressButton = -1;
+    private int pressX = 0;
+    private int pressY = 0;
+    private IUIElement dragCapture = null;
+    private boolean dragPending = false; // raw motion received since the last flush
+    private int dragX = 0;
+    private int dragY = 0;
+    private int dragThreshold = 3; // pixels
 
     // Auto-centering: if enabled, UIScreen will center the root element in the viewport when its size changes
     private boolean autoCenterRoot = false;
     private Vector2f lastRootSize = null;
     private float autoCenterThreshold = 0.5f; // minimum size delta to trigger re-centering (pixels)
 
-    // Vertical scroll state (in pixels)
-    private float scrollY = 0f;            // positive -> content scrolled up (root moved up)
+    // Vertical scroll state (in pixels). The offset is applied as a render translation; the root's layout
+    // position never changes with scrolling. Positive offset -> content scrolled up.
+    private final ScrollController scroller = new ScrollController();
     private float maxScrollY = 0f;
     private boolean scrollEnabled = true;  // allow screens to scroll by default
-    private float scrollSensitivity = 0.125f; // pixels per scroll unit
-    private float scrollVelocity = 0f;     // for inertia
-    private float inertiaDecay = 0.95f;    // slight inertia decay factor
-
-    // Base root position (before scroll offset applied). Auto-centering updates this.
-    private Vector2f baseRootPosition = new Vector2f(0, 0);
+    private float scrollSensitivity = 24f; // pixels travelled per scroll unit
+    // Visible region in content coordinates, refreshed from the viewport and scroll offset on use
+    private final Rectangle2D.Float contentViewport = new Rectangle2D.Float();
 
     public UIScreen(int screenWidth, int screenHeight) {
         this.viewport = new Rectangle2D.Float(0, 0, screenWidth, screenHeight);
@@ -90,7 +161,7 @@ public class UIScreen {
     }
 
     /**
-     * Set scroll sensitivity in pixels per scroll unit.
+     * Set scroll sensitivity: distance in pixels one scroll unit (one wheel notch) travels once inertia settles.
      */
     public void setScrollSensitivity(float pixelsPerUnit) {
         this.scrollSensitivity = Math.max(1f, pixelsPerUnit);
@@ -100,15 +171,13 @@ public class UIScreen {
      * Set the root element of this screen.
      */
     public void setRoot(IUIElement root) {
+        cancelDrag();
+        // The previous tree is about to be dropped or recycled; it gets no HOVER_EXIT
+        clearHover();
         this.root = root;
+        sharedHitValid = false;
+        focusManager.setRoot(root);
         if (root != null) {
-            // Initialize base root position from the element's current position
-            Vector2f rp = root.getPosition();
-            baseRootPosition.set(rp.x, rp.y);
-
-            // Apply scroll offset on top
-            applyScrollToRoot();
-
             root.markDirty(DirtyFlag.LAYOUT);
             // reset lastRootSize so auto-centering will apply on next update if enabled
             lastRootSize = null;
@@ -138,15 +207,57 @@ public class UIScreen {
         return root;
     }
 
+    /**
+     * Update the UI tree within a time budget.
+     * On-screen work always completes. Dirty container subtrees lying entirely outside the viewport are
+     * postponed to the deferred work queue, which is then drained in priority order until the budget is spent.
+     *
+     * @param budgetNanos time allowed for this call, in nanoseconds; 0 runs no deferred work this frame
+     */
+    public void update(float deltaTime, long budgetNanos) {
+        long start = System.nanoTime();
+        long deadline = start + Math.max(0L, budgetNanos);
+        if (deadline < start) {
+            deadline = Long.MAX_VALUE; // overflow: unlimited budget
+        }
+
+        deferredWork.activate(getContentViewport());
+        update(deltaTime);
+        deferredWork.deactivate();
+
+        deferredWork.drain(getContentViewport(), deadline);
+    }
+
+    /**
+     * Queue of work postponed to later frames, drained by {@link #update(float, long)}. Screens can enqueue
+     * their own deferrable work here, e.g. populating sections that start off screen.
+     */
+    public DeferredWorkQueue getDeferredWork() {
+        return deferredWork;
+    }
+
     /**
      * Update the UI tree.
      */
     public void update(float deltaTime) {
+        long updateToken = UIProfiler.begin(UIProfiler.Phase.UPDATE);
+        UIUpdateEvent updateEvent = UIFlightRecorder.beginUpdate();
         // Apply global time control (timescale and pause/step logic)
         float adjustedDeltaTime = UITimeControl.processDeltaTime(deltaTime);
 
-        // Process any pending hover transitions that were deferred due to cooldown
-        processPendingHover();
+        // Advance the frame clock (real time, not the debug timescale) and apply a hover transition whose
+        // cooldown has ended
+        frameClock += Math.max(0f, deltaTime);
+
+        // Input recorded since the last frame, in order, against the layout of the last frame
+        processInput();
+
+        long hoverToken = UIProfiler.begin(UIProfiler.Phase.HOVER);
+        tickHover();
+        UIProfiler.end(UIProfiler.Phase.HOVER, hoverToken);
+
+        // Deliver the drag motion gathered since the last frame as a single event
+        flushDrag();
 
         if (root != null) {
             root.update(adjustedDeltaTime);
@@ -167,111 +278,169 @@ public class UIScreen {
                 if (shouldCenter) {
                     float centerX = (float) viewport.getWidth() / 2f - rootSize.x / 2f;
                     float centerY = (float) viewport.getHeight() / 2f - rootSize.y / 2f;
-                    // Update base position; scroll offset is applied on top
-                    baseRootPosition.set(centerX, centerY);
-                    root.setPosition(new Vector2f(baseRootPosition.x, baseRootPosition.y - scrollY));
+                    root.setPosition(new Vector2f(centerX, centerY));
                     lastRootSize = new Vector2f(rootSize);
                     // Reset scroll when auto-centering
-                    scrollY = 0f;
-                    scrollVelocity = 0f;
+                    scroller.scrollTo(0f);
                 }
             }
 
-            // Recompute scroll bounds after layout pass and clamp scroll position
+            // Recompute scroll bounds after layout pass; an offset left outside them springs back
             recomputeScrollBounds();
-            clampScroll();
-
-            // Apply inertia
-            scrollY += scrollVelocity;
-            clampScroll();
-            scrollVelocity *= inertiaDecay;
-            if (Math.abs(scrollVelocity) < 0.1f) scrollVelocity = 0f;
 
-            // Apply scroll by positioning the root relative to baseRootPosition
-            applyScrollToRoot();
+            // Time-based inertia and overscroll on real time, so scrolling still works while UI time is paused
+            // or scaled. Only the render translation changes, so nothing below the root is invalidated.
+            scroller.update(Math.max(0f, deltaTime));
 
             // update scrollbar position/size each frame in case viewport/root sizes changed
             positionScrollbar();
         }
 
-        // Update tooltip if present
-        if (tooltipElement != null) {
+        // Update tooltip if present; its size may change, so place it again
+        if (tooltipElement != null && tooltipElement.needsUpdate()) {
             tooltipElement.update(adjustedDeltaTime);
+            tooltipPlacementValid = false;
         }
+        UIFlightRecorder.endUpdate(updateEvent, adjustedDeltaTime);
+        UIProfiler.end(UIProfiler.Phase.UPDATE, updateToken);
     }
 
     /**
      * Render the UI tree.
      */
     public void render(IRenderContext context) {
+        long renderToken = UIProfiler.begin(UIProfiler.Phase.RENDER);
+        UIRenderEvent renderEvent = UIFlightRecorder.beginRender();
         if (root != null) {
-            // Clear culled and rendered elements lists before rendering
-            UIElement.clearCulledElements();
-            UIElement.clearRenderedElements();
+            boolean collectStats = UIElement.isDebugCulledEnabled();
+            if (collectStats) {
+                renderStats.beginFrame(root);
+            }
+
+            renderScrolledRoot(context);
+
+            if (collectStats) {
+                renderStats.endFrame();
+            }
 
-            root.render(context, viewport);
             // draw scrollbar on top
             vscroll.render(context, viewport);
 
             // Render debug overlay for culled elements if enabled
-            if (UIElement.isDebugCulledEnabled()) {
+            if (collectStats) {
                 renderCulledElementsOverlay(context);
             }
         }
 
+        UIProfiler.end(UIProfiler.Phase.RENDER, renderToken);
+
         // Render tooltip on top of everything
+        long tooltipToken = UIProfiler.begin(UIProfiler.Phase.TOOLTIP);
         renderTooltip(context);
+        UIProfiler.end(UIProfiler.Phase.TOOLTIP, tooltipToken);
+        UIFlightRecorder.endRender(renderEvent);
+
+        // A frame ends once everything has been drawn
+        UIProfiler.endFrame();
+    }
+
+    /**
+     * Render the root translated by the scroll offset, culling against the viewport in content coordinates.
+     */
+    private void renderScrolledRoot(IRenderContext context) {
+        int offset = scrollPixels();
+        if (offset != 0) {
+            context.pushTranslation(0, -offset);
+            root.render(context, getContentViewport());
+            context.popTranslation();
+        } else {
+            root.render(context, getContentViewport());
+        }
     }
 
     /**
      * Render the global tooltip at the mouse position.
      */
     private void renderTooltip(IRenderContext context) {
-        if (tooltipElement != null && tooltipElement.isVisible()) {
-            // Position tooltip at mouse cursor with offset
-            float tooltipX = lastMouseX + tooltipOffset.x;
-            float tooltipY = lastMouseY + tooltipOffset.y;
-
-            // Clamp tooltip to viewport bounds
-            Vector2f tooltipSize = tooltipElement.getSize();
-            float maxX = (float) viewport.getWidth() - tooltipSize.x;
-            float maxY = (float) viewport.getHeight() - tooltipSize.y;
-
-            if (tooltipX > maxX) {
-                tooltipX = lastMouseX - tooltipSize.x - tooltipOffset.x;
-            }
-            if (tooltipY > maxY) {
-                tooltipY = lastMouseY - tooltipSize.y - tooltipOffset.y;
+        if (tooltipElement != null && tooltipElement.isVisible() && tooltipScale > 0f) {
+            if (!tooltipPlacementValid) {
+                placeTooltip();
             }
+            float x = tooltipPlacement.x;
+            float y = tooltipPlacement.y;
+            // Cull in the tooltip's own coordinates
+            tooltipViewport.setRect(viewport.getX() - x, viewport.getY() - y, viewport.getWidth(), viewport.getHeight());
 
-            // Ensure tooltip stays within bounds
-            tooltipX = Math.max(0, Math.min(tooltipX, maxX));
-            tooltipY = Math.max(0, Math.min(tooltipY, maxY));
-
-            tooltipElement.setPosition(new Vector2f(tooltipX, tooltipY));
-
+            context.pushTranslation(x, y);
             if (context instanceof MinecraftRenderContext ctx) {
                 GuiGraphics graphics = ctx.getGraphics();
 
                 final int zOffset = 500; // ensure tooltip renders on top
+                graphics.pose().pushPose();
                 graphics.pose().translate(0, 0, zOffset);
-                tooltipElement.render(context, viewport);
-                graphics.pose().translate(0, 0, -zOffset);
+                if (tooltipScale != 1f) {
+                    graphics.pose().scale(tooltipScale, tooltipScale, 1f);
+                }
+                tooltipElement.render(context, tooltipViewport);
+                graphics.pose().popPose();
+            } else {
+                tooltipElement.render(context, tooltipViewport);
             }
+            context.popTranslation();
         }
     }
 
     /**
-     * Render a debug overlay showing the list of culled and rendered elements.
+     * Place the tooltip next to the cursor, flipped to the other side of it where it would leave the viewport.
      */
-    private void renderCulledElementsOverlay(IRenderContext context) {
-        List<String> culledNames = UIElement.getCulledElementNames();
-        List<String> renderedNames = UIElement.getRenderedElementNames();
+    private void placeTooltip() {
+        float tooltipX = lastMouseX + tooltipOffset.x;
+        float tooltipY = lastMouseY + tooltipOffset.y;
+
+        // Clamp tooltip to viewport bounds
+        Vector2f tooltipSize = tooltipElement.getSize();
+        float maxX = (float) viewport.getWidth() - tooltipSize.x;
+        float maxY = (float) viewport.getHeight() - tooltipSize.y;
+
+        if (tooltipX > maxX) {
+            tooltipX = lastMouseX - tooltipSize.x - tooltipOffset.x;
+        }
+        if (tooltipY > maxY) {
+            tooltipY = lastMouseY - tooltipSize.y - tooltipOffset.y;
+        }
+
+        // Ensure tooltip stays within bounds
+        tooltipX = Math.max(0, Math.min(tooltipX, maxX));
+        tooltipY = Math.max(0, Math.min(tooltipY, maxY));
+
+        tooltipPlacement.set(tooltipX, tooltipY);
+        tooltipPlacementValid = true;
+    }
+
+    /**
+     * Where the tooltip is drawn, in screen coordinates, as of the last frame it was rendered.
+     */
+    public Vector2f getTooltipPlacement() {
+        return new Vector2f(tooltipPlacement);
+    }
 
+    /**
+     * Get the culled/rendered counters collected while the culled-elements debug mode is on.
+     * Call requestSnapshot() on the result to capture element names for the next frame.
+     */
+    public UIRenderStats getRenderStats() {
+        return renderStats;
+    }
+
+    /**
+     * Render a debug overlay with culled and rendered counts per element class and per top-level subtree.
+     */
+    private void renderCulledElementsOverlay(IRenderContext context) {
         // Use Minecraft render context to draw text
         if (context instanceof io.github.currenj.gelatinui.gui.minecraft.MinecraftRenderContext) {
             io.github.currenj.gelatinui.gui.minecraft.MinecraftRenderContext mc = (io.github.currenj.gelatinui.gui.minecraft.MinecraftRenderContext) context;
 
+            final int maxSubtreeLines = 8;
             int x = 10;
             int y = 10;
             int lineHeight = 10;
@@ -279,37 +448,41 @@ public class UIScreen {
             int culledTextColor = 0xFFFF5555; // Red text for culled
             int renderedTextColor = 0xFF55FF55; // Green text for rendered
 
-            // Calculate overlay size based on both lists
+            int typeCount = renderStats.getTypeCount();
+            int subtreeLines = Math.min(maxSubtreeLines, renderStats.getSubtreeCount());
             int maxWidth = 250;
-            int totalLines = 1 + (culledNames.isEmpty() ? 0 : culledNames.size() + 1) + (renderedNames.isEmpty() ? 0 : renderedNames.size() + 1);
+            int totalLines = 2 + typeCount + (subtreeLines > 0 ? subtreeLines + 1 : 0);
             int height = totalLines * lineHeight + 10;
 
             // Draw background
             context.fill(x - 5, y - 5, x + maxWidth + 5, y + height, backgroundColor);
 
-            // Draw title
+            // Draw title with totals
             mc.drawString("Debug Elements:", x, y, 0xFFFFFFFF);
             y += lineHeight;
+            mc.drawString("Rendered " + renderStats.getRenderedTotal() + ", culled " + renderStats.getCulledTotal(), x, y, 0xFFFFFFFF);
+            y += lineHeight;
 
-            // Draw culled elements
-            if (!culledNames.isEmpty()) {
-                mc.drawString("Culled (" + culledNames.size() + "):", x, y, 0xFFFFAAAA);
+            // Per element class
+            for (int i = 0; i < typeCount; i++) {
+                int culled = renderStats.getCulledCount(i);
+                int rendered = renderStats.getRenderedCount(i);
+                String typeName = renderStats.getType(i).getSimpleName();
+                mc.drawString("  " + typeName + ": ", x, y, 0xFFFFFFFF);
+                int cx = x + context.getStringWidth("  " + typeName + ": ");
+                String renderedText = rendered + " rendered";
+                mc.drawString(renderedText, cx, y, renderedTextColor);
+                mc.drawString(culled + " culled", cx + context.getStringWidth(renderedText) + 6, y, culledTextColor);
                 y += lineHeight;
-                for (String name : culledNames) {
-                    mc.drawString("  - " + name, x, y, culledTextColor);
-                    y += lineHeight;
-                }
             }
 
-            // Draw rendered elements
-            if (!renderedNames.isEmpty()) {
-                if (!culledNames.isEmpty()) {
-                    y += lineHeight / 2; // Add small gap between sections
-                }
-                mc.drawString("Rendered (" + renderedNames.size() + "):", x, y, 0xFFAAFFAA);
+            // Per top-level subtree
+            if (subtreeLines > 0) {
+                mc.drawString("Subtrees:", x, y, 0xFFAAAAFF);
                 y += lineHeight;
-                for (String name : renderedNames) {
-                    mc.drawString("  - " + name, x, y, renderedTextColor);
+                for (int i = 0; i < subtreeLines; i++) {
+                    mc.drawString("  #" + i + ": " + renderStats.getSubtreeRenderedCount(i) + " rendered, "
+                            + renderStats.getSubtreeCulledCount(i) + " culled", x, y, 0xFFCCCCCC);
                     y += lineHeight;
                 }
             }
@@ -320,75 +493,515 @@ public class UIScreen {
      * Handle mouse movement and hover events.
      */
     public void onMouseMove(int mouseX, int mouseY) {
+        if (mouseX != lastMouseX || mouseY != lastMouseY) {
+            tooltipPlacementValid = false;
+        }
         lastMouseX = mouseX;
         lastMouseY = mouseY;
 
-        if (root != null) {
-            // If mouse is over scrollbar, prefer it as the hovered element
-            IUIElement newHover = null;
-            if (isPointInScrollbar(mouseX, mouseY)) {
-                newHover = vscroll;
-            } else {
-                newHover = findElementAt(root, mouseX, mouseY);
+        long hoverToken = UIProfiler.begin(UIProfiler.Phase.HOVER);
+        resolveHover(mouseX, mouseY);
+        UIProfiler.end(UIProfiler.Phase.HOVER, hoverToken);
+    }
+
+    /**
+     * Hit-test the pointer and move the hover stack to its path, honoring the hover cooldown.
+     */
+    private void resolveHover(int mouseX, int mouseY) {
+        if (root == null) {
+            return;
+        }
+        hitPath(mouseX, mouseY);
+        List<IUIElement> path = dispatcher.getPath();
+        pruneHoverStack();
+        if (sameAsHoverStack(path)) {
+            // Back where we are: nothing to fire, and any scheduled transition is moot
+            if (hoverState == HoverState.PENDING) {
+                hoverState = HoverState.COOLING;
             }
+            return;
+        }
 
-            // If hover hasn't changed, cancel any pending transition and return
-            if (newHover == hoveredElement) {
-                pendingHover = null;
-                return;
+        pendingHoverStack = copyPath(path, pendingHoverStack);
+        pendingHoverDepth = path.size();
+        if (hoverState == HoverState.IDLE) {
+            applyPendingHover();
+        } else {
+            hoverState = HoverState.PENDING;
+        }
+    }
+
+    /**
+     * Advance the hover state machine to the current frame clock.
+     */
+    private void tickHover() {
+        if (hoverState == HoverState.IDLE || frameClock < hoverCooldownEnd) {
+            return;
+        }
+        if (hoverState == HoverState.PENDING) {
+            applyPendingHover();
+        } else {
+            hoverState = HoverState.IDLE;
+        }
+    }
+
+    /**
+     * Move the hover stack to the pending path, firing exit/enter for the elements that differ, and start the
+     * cooldown.
+     */
+    private void applyPendingHover() {
+        pruneHoverStack();
+        // The pending path was recorded up to a cooldown ago; only its still attached prefix is entered
+        int depth = attachedPrefix(pendingHoverStack, null, pendingHoverDepth);
+        Arrays.fill(pendingHoverStack, depth, pendingHoverDepth, null);
+        int common = 0;
+        while (common < hoverDepth && common < depth && hoverStack[common] == pendingHoverStack[common]) {
+            common++;
+        }
+
+        for (int i = hoverDepth - 1; i >= common; i--) {
+            IUIElement exited = hoverStack[i];
+            hoverStack[i] = null;
+            hoverDepth = i;
+            dispatcher.dispatchTo(exited, UIEvent.Type.HOVER_EXIT, lastMouseX, pointerY(exited, lastMouseY));
+        }
+
+        if (hoverStack.length < depth) {
+            hoverStack = Arrays.copyOf(hoverStack, Math.max(depth, hoverStack.length * 2));
+            hoverStamps = Arrays.copyOf(hoverStamps, hoverStack.length);
+        }
+        for (int i = common; i < depth; i++) {
+            IUIElement entered = pendingHoverStack[i];
+            pendingHoverStack[i] = null;
+            hoverStack[i] = entered;
+            hoverStamps[i] = reuseCount(entered);
+            hoverDepth = i + 1;
+            dispatcher.dispatchTo(entered, UIEvent.Type.HOVER_ENTER, lastMouseX, pointerY(entered, lastMouseY));
+        }
+        Arrays.fill(pendingHoverStack, 0, common, null);
+        pendingHoverDepth = 0;
+
+        hoverState = HoverState.COOLING;
+        hoverCooldownEnd = frameClock + hoverCooldown;
+    }
+
+    /**
+     * Drop the hover state without firing events.
+     */
+    private void clearHover() {
+        Arrays.fill(hoverStack, 0, hoverDepth, null);
+        hoverDepth = 0;
+        Arrays.fill(pendingHoverStack, 0, pendingHoverDepth, null);
+        pendingHoverDepth = 0;
+        hoverState = HoverState.IDLE;
+    }
+
+    /**
+     * Cut the hover stack at the first entry that is no longer where it was entered, i.e. detached from the
+     * tree or recycled through UIElementPool. Those entries and everything below them get no HOVER_EXIT.
+     */
+    private void pruneHoverStack() {
+        int valid = attachedPrefix(hoverStack, hoverStamps, hoverDepth);
+        if (valid < hoverDepth) {
+            Arrays.fill(hoverStack, valid, hoverDepth, null);
+            hoverDepth = valid;
+        }
+    }
+
+    /**
+     * Length of the leading part of a root-first path that still hangs off the current root, parent by parent.
+     * @param stamps reuse counts recorded with the entries, or null to skip that check
+     */
+    private int attachedPrefix(IUIElement[] stack, int[] stamps, int depth) {
+        for (int i = 0; i < depth; i++) {
+            IUIElement e = stack[i];
+            boolean attached = i == 0 ? e == root : e.getParent() == stack[i - 1];
+            if (!attached || (e instanceof UIElement<?> u && u.pooled)
+                    || (stamps != null && stamps[i] != reuseCount(e))) {
+                return i;
             }
+        }
+        return depth;
+    }
 
-            long now = System.nanoTime();
-            long elapsed = now - lastHoverEventTimeNanos;
+    private static int reuseCount(IUIElement element) {
+        return element instanceof UIElement<?> u ? u.reuseCount : 0;
+    }
 
-            // If enough time has passed since the last hover event, fire immediately.
-            if (elapsed >= hoverCooldownNanos && pendingHover == null) {
-                // Exit previous hover
-                if (hoveredElement != null) {
-                    UIEvent exitEvent = new UIEvent(UIEvent.Type.HOVER_EXIT, hoveredElement, mouseX, mouseY);
-                    hoveredElement.handleEvent(exitEvent);
-                }
+    private boolean sameAsHoverStack(List<IUIElement> path) {
+        if (path.size() != hoverDepth) {
+            return false;
+        }
+        for (int i = 0; i < hoverDepth; i++) {
+            if (path.get(i) != hoverStack[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-                // Enter new hover
-                if (newHover != null) {
-                    UIEvent enterEvent = new UIEvent(UIEvent.Type.HOVER_ENTER, newHover, mouseX, mouseY);
-                    newHover.handleEvent(enterEvent);
-                }
+    private static IUIElement[] copyPath(List<IUIElement> path, IUIElement[] into) {
+        int size = path.size();
+        if (into.length < size) {
+            into = new IUIElement[Math.max(size, into.length * 2)];
+        }
+        for (int i = 0; i < size; i++) {
+            into[i] = path.get(i);
+        }
+        return into;
+    }
 
-                hoveredElement = newHover;
-                lastHoverEventTimeNanos = now;
-                pendingHover = null; // clear any previously scheduled
-            } else {
-                // Within cooldown: schedule the transition to happen after the remaining cooldown.
-                pendingHover = newHover;
-                long fireTime = lastHoverEventTimeNanos + hoverCooldownNanos;
-                if (fireTime < now) {
-                    fireTime = now; // defensive: ensure not in past
-                }
-                pendingHoverFireTimeNanos = fireTime;
+    /**
+     * Element the pointer is hovering (the innermost entry of the hover stack), or null.
+     */
+    public IUIElement getHoveredElement() {
+        pruneHoverStack();
+        return hoverDepth > 0 ? hoverStack[hoverDepth - 1] : null;
+    }
+
+    /**
+     * Whether the element is on the hover stack: hovered itself or an ancestor of the hovered element.
+     */
+    public boolean isInHoverStack(IUIElement element) {
+        pruneHoverStack();
+        for (int i = 0; i < hoverDepth; i++) {
+            if (hoverStack[i] == element) {
+                return true;
             }
         }
+        return false;
     }
 
     /**
-     * Handle mouse click.
+     * Set the minimum time between hover transitions, in seconds. Changes during the cooldown are collapsed
+     * into one transition when it ends.
+     */
+    public void setHoverCooldown(float seconds) {
+        this.hoverCooldown = Math.max(0f, seconds);
+    }
+
+    public float getHoverCooldown() {
+        return hoverCooldown;
+    }
+
+    /**
+     * Seconds of update time this screen has seen, the clock hover timing is scheduled against.
+     */
+    public double getFrameClock() {
+        return frameClock;
+    }
+
+    /**
+     * Handle mouse click: capture and bubble along the path to the leaf under the pointer.
      */
     public boolean onMouseClick(int mouseX, int mouseY, int button) {
-        if (root != null) {
-            // If click hits scrollbar, dispatch there first
-            if (isPointInScrollbar(mouseX, mouseY)) {
-                UIEvent evt = new UIEvent(UIEvent.Type.CLICK, vscroll, mouseX, mouseY);
-                return vscroll.handleEvent(evt);
-            }
-            IUIElement target = findElementAt(root, mouseX, mouseY);
-            if (target != null) {
-                UIEvent event = new UIEvent(UIEvent.Type.CLICK, target, mouseX, mouseY);
-                return target.handleEvent(event);
+        cancelDrag();
+        IUIElement target = root != null ? hitPath(mouseX, mouseY) : null;
+        if (target != null) {
+            // Remember the press so later motion can turn it into a drag
+            pressTarget = target;
+            pressButton = button;
+            pressX = mouseX;
+            pressY = pointerY(target, mouseY);
+            // Focus follows the press, before the click is delivered
+            focusManager.focusFromPath(dispatcher.getPath());
+            return dispatcher.dispatch(UIEvent.Type.CLICK, mouseX, pressY, 0f);
+        }
+        focusManager.blur();
+        return false;
+    }
+
+    /**
+     * Handle a key press: the focused element gets it first; an unhandled Tab (Shift+Tab backwards) then
+     * moves focus along the tab order.
+     * @return true if the key was used
+     */
+    public boolean onKeyPressed(int keyCode, int scanCode, int modifiers) {
+        if (focusManager.keyPressed(keyCode, scanCode, modifiers)) {
+            return true;
+        }
+        if (keyCode == GLFW.GLFW_KEY_TAB && tabNavigationEnabled) {
+            return (modifiers & GLFW.GLFW_MOD_SHIFT) != 0 ? focusManager.focusPrevious() : focusManager.focusNext();
+        }
+        return false;
+    }
+
+    /**
+     * Handle a typed character, delivered to the focused element only.
+     * @return true if the focused element used it
+     */
+    public boolean onCharTyped(char character, int modifiers) {
+        return focusManager.charTyped(character, modifiers);
+    }
+
+    /**
+     * Whether a point in screen coordinates is over the scrollbar or a visible element, i.e. whether a click
+     * there would reach the UI. Nothing is dispatched.
+     */
+    public boolean isOverUI(int mouseX, int mouseY) {
+        return isPointInScrollbar(mouseX, mouseY) || findElementAt(mouseX, toContentY(mouseY)) != null;
+    }
+
+    /**
+     * Set who gets the queued key presses the UI did not use, e.g. the host screen's own key bindings. While
+     * something has focus, printable and editing keys count as used, since they type into it.
+     */
+    public void setUnusedKeyListener(UnusedKeyListener listener) {
+        this.unusedKeyListener = listener;
+    }
+
+    /**
+     * Set who is told about each queued press, in order with the rest of the batch, before the UI handles it.
+     */
+    public void setPressListener(PressListener listener) {
+        this.pressListener = listener;
+    }
+
+    /**
+     * Queue for raw input that should be handled at the start of the next {@link #update(float)} instead of
+     * immediately. See {@link InputQueue} for the ordering rules.
+     */
+    public InputQueue getInputQueue() {
+        return inputQueue;
+    }
+
+    /**
+     * Handle the queued input as one batch. Events at the same pointer position share a hit-test.
+     */
+    private void processInput() {
+        if (inputQueue.isEmpty() || inputQueue.isProcessing()) {
+            return; // nothing queued, or update() called from a handler
+        }
+        int count = inputQueue.beginBatch();
+        sharedHitValid = false;
+        try {
+            for (int i = 0; i < count; i++) {
+                InputQueue.Entry e = inputQueue.get(i);
+                switch (e.kind) {
+                    case MOVE -> onMouseMove(e.x, e.y);
+                    case PRESS -> {
+                        onMouseMove(e.x, e.y);
+                        if (pressListener != null) {
+                            pressListener.onPress(e.x, toContentY(e.y), e.code);
+                        }
+                        onMouseClick(e.x, e.y, e.code);
+                    }
+                    case RELEASE -> onMouseRelease(e.x, e.y, e.code);
+                    case DRAG -> onMouseDrag(e.x, e.y, e.code);
+                    case SCROLL -> onMouseScroll(e.x, e.y, e.delta);
+                    case KEY -> {
+                        // Focus is decided by the events before this one, so the key goes where the user expects
+                        boolean used = onKeyPressed(e.code, e.scanCode, e.modifiers)
+                                || (focusManager.hasFocus() && isTypingKey(e.code));
+                        if (!used && unusedKeyListener != null) {
+                            unusedKeyListener.onUnusedKey(e.code, e.scanCode, e.modifiers);
+                        }
+                    }
+                    case CHAR -> onCharTyped((char) e.code, e.modifiers);
+                }
             }
+        } finally {
+            sharedHitValid = false;
+            sharedHitTarget = null;
+            inputQueue.endBatch();
+        }
+    }
+
+    /**
+     * Keyboard focus and tab order for this screen.
+     */
+    public FocusManager getFocusManager() {
+        return focusManager;
+    }
+
+    /**
+     * Enable or disable moving focus with Tab and Shift+Tab.
+     */
+    public void setTabNavigationEnabled(boolean enabled) {
+        this.tabNavigationEnabled = enabled;
+    }
+
+    /**
+     * Handle mouse motion with a button held. Motion is only recorded here; {@link #update(float)} delivers
+     * the latest position once per frame, so any number of raw events costs one dispatch.
+     * @return true if the motion belongs to a press that started on this UI
+     */
+    public boolean onMouseDrag(int mouseX, int mouseY, int button) {
+        lastMouseX = mouseX;
+        lastMouseY = mouseY;
+        if (pressTarget == null || button != pressButton) {
+            return false;
+        }
+        dragX = mouseX;
+        dragY = mouseY;
+        dragPending = true;
+        return true;
+    }
+
+    /**
+     * Handle mouse button release: deliver any pending motion, then DRAG_END to the capturing element.
+     * @return true if a drag was in progress
+     */
+    public boolean onMouseRelease(int mouseX, int mouseY, int button) {
+        if (pressTarget == null || button != pressButton) {
+            return false;
+        }
+        dragX = mouseX;
+        dragY = mouseY;
+        dragPending = true;
+        flushDrag();
+
+        IUIElement capture = dragCapture;
+        clearDrag();
+        if (capture != null) {
+            dispatcher.dispatchTo(capture, UIEvent.Type.DRAG_END, mouseX, pointerY(capture, mouseY));
+            return true;
         }
         return false;
     }
 
+    /**
+     * Abort any press or drag in progress. The capturing element, if any, receives DRAG_END at the last
+     * known pointer position.
+     */
+    public void cancelDrag() {
+        IUIElement capture = dragCapture;
+        clearDrag();
+        if (capture != null) {
+            dispatcher.dispatchTo(capture, UIEvent.Type.DRAG_END, dragX, pointerY(capture, dragY));
+        }
+    }
+
+    /**
+     * Element that currently holds the pointer capture, or null when no drag is in progress.
+     */
+    public IUIElement getDragCapture() {
+        return dragCapture;
+    }
+
+    public boolean isDragging() {
+        return dragCapture != null;
+    }
+
+    /**
+     * Set the distance in pixels the pointer must travel from the press before a drag starts.
+     */
+    public void setDragThreshold(int pixels) {
+        this.dragThreshold = Math.max(0, pixels);
+    }
+
+    public int getDragThreshold() {
+        return dragThreshold;
+    }
+
+    /**
+     * Deliver the latest drag position. The first motion past the threshold dispatches DRAG_START along the
+     * press path, and whichever element consumes it captures the pointer: later DRAG events go straight to
+     * it, without hit-testing, wherever the pointer is.
+     */
+    private void flushDrag() {
+        if (!dragPending) {
+            return;
+        }
+        dragPending = false;
+
+        if (dragCapture == null) {
+            int dx = dragX - pressX;
+            int dy = pointerY(pressTarget, dragY) - pressY;
+            if (pressTarget == null || dx * dx + dy * dy < dragThreshold * dragThreshold) {
+                return;
+            }
+            dispatcher.setPathTo(pressTarget);
+            if (!dispatcher.dispatch(UIEvent.Type.DRAG_START, pressX, pressY, 0f)) {
+                // Nothing on the path wants to be dragged; ignore the rest of this press
+                pressTarget = null;
+                return;
+            }
+            dragCapture = dispatcher.getLastConsumer();
+        }
+        dispatcher.dispatchTo(dragCapture, UIEvent.Type.DRAG, dragX, pointerY(dragCapture, dragY));
+    }
+
+    private void clearDrag() {
+        pressTarget = null;
+        pressButton = -1;
+        dragCapture = null;
+        dragPending = false;
+    }
+
+    /**
+     * Record the dispatch path for the pointer, preferring the scrollbar when over it.
+     * Takes screen coordinates; dispatch along the path with {@link #pointerY} of the target.
+     * @return the target leaf, or null
+     */
+    private IUIElement hitPath(int mouseX, int mouseY) {
+        if (inputQueue.isProcessing()) {
+            return sharedHitPath(mouseX, mouseY);
+        }
+        if (isPointInScrollbar(mouseX, mouseY)) {
+            dispatcher.setPathTo(vscroll);
+            return vscroll;
+        }
+        return dispatcher.hitTest(root, mouseX, toContentY(mouseY));
+    }
+
+    /**
+     * Hit path while handling an input batch: reuses the previous result for the same position unless the
+     * scroll offset changed or something in the tree was added, removed, moved, resized, laid out or shown or
+     * hidden since.
+     */
+    private IUIElement sharedHitPath(int mouseX, int mouseY) {
+        int scroll = scrollPixels();
+        int version = UIElement.getStructureVersion(root);
+        int geometry = UIElement.getGeometryVersion();
+        if (sharedHitValid && mouseX == sharedHitX && mouseY == sharedHitY && scroll == sharedHitScroll
+                && version == sharedHitVersion && geometry == sharedHitGeometry) {
+            dispatcher.setPathTo(sharedHitTarget);
+            return sharedHitTarget;
+        }
+        inputQueue.noteHitTest();
+        IUIElement target;
+        if (isPointInScrollbar(mouseX, mouseY)) {
+            dispatcher.setPathTo(vscroll);
+            target = vscroll;
+        } else {
+            target = dispatcher.hitTest(root, mouseX, toContentY(mouseY));
+        }
+        sharedHitValid = true;
+        sharedHitX = mouseX;
+        sharedHitY = mouseY;
+        sharedHitScroll = scroll;
+        sharedHitVersion = version;
+        sharedHitGeometry = geometry;
+        sharedHitTarget = target;
+        return target;
+    }
+
+    /**
+     * Convert a screen Y coordinate into content coordinates, the space the root and its descendants are laid
+     * out (and report their bounds) in.
+     */
+    public int toContentY(int screenY) {
+        return screenY + scrollPixels();
+    }
+
+    // Pointer Y in the space of the given element: the scrollbar is drawn over the content and never scrolls
+    private int pointerY(IUIElement element, int screenY) {
+        return element == vscroll ? screenY : toContentY(screenY);
+    }
+
+    // Scroll translation actually applied when rendering, in whole pixels so hit-testing matches what is drawn
+    private int scrollPixels() {
+        return Math.round(scroller.getOffset());
+    }
+
+    /**
+     * Dispatcher routing this screen's pointer events.
+     */
+    public UIEventDispatcher getEventDispatcher() {
+        return dispatcher;
+    }
+
     /**
      * Handle mouse scroll.
      * If a child under the pointer handles the scroll (consumes the event) we return true.
@@ -396,16 +1009,10 @@ public class UIScreen {
      */
     public boolean onMouseScroll(int mouseX, int mouseY, float scrollDelta) {
         if (root != null) {
-            // If over scrollbar, let it be the target first
-            IUIElement target = null;
-            if (isPointInScrollbar(mouseX, mouseY)) {
-                target = vscroll;
-            } else {
-                target = findElementAt(root, mouseX, mouseY);
-            }
+            // If over scrollbar, let it be the target first; otherwise the leaf under the pointer and its ancestors
+             IUIElement target = hitPath(mouseX, mouseY);
              if (target != null) {
-                 UIEvent event = new UIEvent(UIEvent.Type.SCROLL, target, mouseX, mouseY, scrollDelta);
-                 boolean consumed = target.handleEvent(event);
+                 boolean consumed = dispatcher.dispatch(UIEvent.Type.SCROLL, mouseX, pointerY(target, mouseY), scrollDelta);
                  if (consumed) return true;
              }
 
@@ -419,13 +1026,23 @@ public class UIScreen {
 
                  // scrollDelta is typically 1.0/-1.0 per notch; positive should scroll up.
                  float dy = -scrollDelta * scrollSensitivity; // invert so positive scroll moves content down visually
-                 scrollVelocity += dy;
+                 scroller.fling(dy);
                  return true;
              }
          }
          return false;
      }
 
+    /**
+     * Printable keys and the keys that edit text: Enter, Backspace, Delete, the arrows, Home and End.
+     */
+    private static boolean isTypingKey(int keyCode) {
+        return (keyCode >= GLFW.GLFW_KEY_SPACE && keyCode <= GLFW.GLFW_KEY_GRAVE_ACCENT)
+                || keyCode == GLFW.GLFW_KEY_ENTER || keyCode == GLFW.GLFW_KEY_BACKSPACE
+                || (keyCode >= GLFW.GLFW_KEY_DELETE && keyCode <= GLFW.GLFW_KEY_UP)
+                || keyCode == GLFW.GLFW_KEY_HOME || keyCode == GLFW.GLFW_KEY_END;
+    }
+
     private boolean isPointInScrollbar(int mouseX, int mouseY) {
         if (vscroll == null) return false;
         // Use scrollbar bounds in global coordinates
@@ -443,16 +1060,26 @@ public class UIScreen {
         vscroll.setTrackSize(w, h);
     }
 
+    /**
+     * The screen's own vertical scrollbar.
+     */
+    public VerticalScrollBar getScrollBar() {
+        return vscroll;
+    }
+
     // Expose helpers for VerticalScrollBar
+    @Override
     public float getContentHeight() {
         if (root == null) return 0f;
         return root.getSize().y;
     }
 
+    @Override
     public float getViewHeight() {
         return (float) viewport.getHeight();
     }
 
+    @Override
     public float getMaxScrollY() {
         return maxScrollY;
     }
@@ -462,10 +1089,11 @@ public class UIScreen {
      */
     public void resize(int width, int height) {
         this.viewport = new Rectangle2D.Float(0, 0, width, height);
+        tooltipPlacementValid = false;
         if (root != null) {
-            root.markDirty(DirtyFlag.LAYOUT);
             lastRootSize = null; // force re-center next update if enabled
-            // propagate new viewport size to root containers that support it
+            // propagate new viewport size to root containers that support it; they only re-layout
+            // when fillWidth/fillHeight make their size depend on the viewport
             if (root instanceof VBox vroot) {
                 vroot.setScreenWidth((float) width);
                 vroot.setScreenHeight((float) height);
@@ -476,9 +1104,16 @@ public class UIScreen {
 
             // Recompute scroll bounds when viewport changes
             recomputeScrollBounds();
-            clampScroll();
-            applyScrollToRoot();
+            scroller.stop();
         }
+        positionScrollbar();
+    }
+
+    /**
+     * Find the topmost leaf element under the given content coordinates (see {@link #toContentY}), or null.
+     */
+    public IUIElement findElementAt(int x, int y) {
+        return root != null ? findElementAt(root, x, y) : null;
     }
 
     /**
@@ -518,45 +1153,6 @@ public class UIScreen {
         return viewport;
     }
 
-    /**
-     * Process any scheduled hover transition that was deferred due to cooldown.
-     * This should be called frequently (e.g., from update) so delayed enter/exit events fire promptly.
-     */
-    private void processPendingHover() {
-        if (pendingHover == null) {
-            return;
-        }
-
-        long now = System.nanoTime();
-        if (now < pendingHoverFireTimeNanos) {
-            return; // not ready yet
-        }
-
-        IUIElement newHover = pendingHover;
-        pendingHover = null;
-
-        // If the scheduled target matches the current hovered element, nothing to do
-        if (newHover == hoveredElement) {
-            lastHoverEventTimeNanos = now;
-            return;
-        }
-
-        // Exit previous hover
-        if (hoveredElement != null) {
-            UIEvent exitEvent = new UIEvent(UIEvent.Type.HOVER_EXIT, hoveredElement, lastMouseX, lastMouseY);
-            hoveredElement.handleEvent(exitEvent);
-        }
-
-        // Enter new hover
-        if (newHover != null) {
-            UIEvent enterEvent = new UIEvent(UIEvent.Type.HOVER_ENTER, newHover, lastMouseX, lastMouseY);
-            newHover.handleEvent(enterEvent);
-        }
-
-        hoveredElement = newHover;
-        lastHoverEventTimeNanos = now;
-    }
-
     // ----- Scrolling helpers -----
     private void recomputeScrollBounds() {
         if (root == null) {
@@ -566,32 +1162,40 @@ public class UIScreen {
         float contentHeight = root.getSize().y;
         float viewH = (float) viewport.getHeight();
         maxScrollY = Math.max(0f, contentHeight - viewH);
+        scroller.setBounds(0f, maxScrollY);
     }
 
-    private void clampScroll() {
-        if (scrollY < 0f) scrollY = 0f;
-        if (scrollY > maxScrollY) scrollY = maxScrollY;
+    /**
+     * Jump to a scroll position, clamped to the scrollable range, stopping any inertia.
+     */
+    @Override
+    public void setScrollY(float y) {
+        recomputeScrollBounds();
+        scroller.scrollTo(y);
     }
 
-    private void applyScrollToRoot() {
-        if (root == null) return;
-        float x = baseRootPosition.x;
-        float y = baseRootPosition.y - scrollY; // root positioned as base minus scroll so content moves up when scrollY positive
-        Vector2f pos = root.getPosition();
-        if (Math.abs(pos.x - x) > 0.001f || Math.abs(pos.y - y) > 0.001f) {
-            root.setPosition(new Vector2f(x, y));
-        }
+    /**
+     * Current scroll offset in pixels. Briefly lies outside [0, getMaxScrollY()] while overscroll springs back.
+     */
+    @Override
+    public float getScrollY() {
+        return scroller.getOffset();
     }
 
-    public void setScrollY(float y) {
-        this.scrollY = y;
-        scrollVelocity = 0f; // Reset velocity when scroll is set directly
-        clampScroll();
-        applyScrollToRoot();
+    /**
+     * Physics behind the content scroll, for tuning friction and overscroll.
+     */
+    public ScrollController getScrollController() {
+        return scroller;
     }
 
-    public float getScrollY() {
-        return scrollY;
+    /**
+     * Visible region in content coordinates: the viewport shifted by the applied scroll offset.
+     * The returned rectangle is reused; copy it to keep it.
+     */
+    public Rectangle2D getContentViewport() {
+        contentViewport.setRect(viewport.getX(), viewport.getY() + scrollPixels(), viewport.getWidth(), viewport.getHeight());
+        return contentViewport;
     }
 
     // ----- Tooltip API -----
@@ -608,8 +1212,11 @@ public class UIScreen {
             animateTooltipOut(current);
         } else {
             this.tooltipElement = tooltip;
+            tooltipPlacementValid = false;
+            tooltipScale = 1f;
             if (tooltip != null) {
-                tooltip.markDirty(DirtyFlag.LAYOUT);
+                // Drawn at the placement by a render translation; a tooltip that is already laid out stays clean
+                tooltip.setPosition(new Vector2f());
                 if (tooltipAnimationsEnabled && tooltip instanceof UIElement<?> uiTooltip) {
                     // Animate in the new tooltip
                     animateTooltipIn(uiTooltip);
@@ -635,6 +1242,7 @@ public class UIScreen {
      */
     public void setTooltipOffset(float offsetX, float offsetY) {
         this.tooltipOffset.set(offsetX, offsetY);
+        tooltipPlacementValid = false;
     }
 
     /**
@@ -672,23 +1280,32 @@ public class UIScreen {
     }
 
     /**
-     * Animate a tooltip scaling in from 0 to 1.
+     * Scale the tooltip is currently drawn at by its in/out animation (1 when not animating).
+     */
+    public float getTooltipScale() {
+        return tooltipScale;
+    }
+
+    /**
+     * Animate a tooltip scaling in from 0 to 1. Only the render scale changes, so the tooltip is not re-laid out.
      */
     private void animateTooltipIn(UIElement<?> tooltip) {
-        tooltip.setTargetScale(0f, false); // Start at 0
+        tooltipScale = 0f; // Start at 0
         java.util.List<io.github.currenj.gelatinui.gui.animation.Keyframe> keys = new java.util.ArrayList<>();
         keys.add(new io.github.currenj.gelatinui.gui.animation.Keyframe(0.0f, 0.0f));
         keys.add(new io.github.currenj.gelatinui.gui.animation.Keyframe(0.15f, 1.0f, io.github.currenj.gelatinui.gui.animation.Easing.EASE_OUT_BACK));
         FloatKeyframeAnimation anim = new FloatKeyframeAnimation(
-                "tooltipIn",
+                "tooltipScale",
                 keys,
                 v -> {
-                    tooltip.setTargetScale(v, false);
-                    tooltip.markDirty(DirtyFlag.SIZE);
+                    if (tooltipElement == tooltip) {
+                        tooltipScale = v;
+                    }
                 },
                 () -> {
-                    tooltip.setTargetScale(1.0f, false);
-                    tooltip.markDirty(DirtyFlag.SIZE);
+                    if (tooltipElement == tooltip) {
+                        tooltipScale = 1.0f;
+                    }
                 }
         );
         tooltip.playAnimation(anim);
@@ -699,14 +1316,21 @@ public class UIScreen {
      */
     private void animateTooltipOut(UIElement<?> tooltip) {
         java.util.List<io.github.currenj.gelatinui.gui.animation.Keyframe> keys = new java.util.ArrayList<>();
-        keys.add(new io.github.currenj.gelatinui.gui.animation.Keyframe(0.0f, 1.0f));
+        keys.add(new io.github.currenj.gelatinui.gui.animation.Keyframe(0.0f, tooltipScale));
         keys.add(new io.github.currenj.gelatinui.gui.animation.Keyframe(0.15f, 0.0f, Easing.EASE_IN_CUBIC));
         FloatKeyframeAnimation anim = new FloatKeyframeAnimation(
-                "tooltipOut",
+                "tooltipScale",
                 keys,
                 v -> {
-                    tooltip.setTargetScale(v, false);
-                    tooltip.markDirty(DirtyFlag.SIZE);
+                    if (tooltipElement == tooltip) {
+                        tooltipScale = v;
+                    }
+                },
+                () -> {
+                    if (tooltipElement == tooltip) {
+                        tooltipElement = null;
+                        tooltipScale = 1f;
+                    }
                 }
         );
         tooltip.playAnimation(anim);
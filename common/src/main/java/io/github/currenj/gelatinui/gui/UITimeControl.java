@@ -15,6 +15,9 @@ public class UITimeControl {
     private static int stepsRequested = 0;
     private static float stepSize = 0.016f; // Default to ~60fps step (1/60 second)
 
+    // Unscaled delta of the update in progress
+    private static float realDeltaTime = 0.0f;
+
     /**
      * Set the global timescale for all UI animations and updates.
      * @param scale The timescale multiplier (1.0 = normal, 0.5 = half speed, 2.0 = double speed)
@@ -103,6 +106,7 @@ public class UITimeControl {
      * @return The adjusted delta time to use for updates (0 if paused, scaled otherwise)
      */
     public static float processDeltaTime(float deltaTime) {
+        realDeltaTime = Math.max(0.0f, deltaTime);
         if (isPaused) {
             // In pause mode, only advance if steps are requested
             if (stepsRequested > 0) {
@@ -116,6 +120,14 @@ public class UITimeControl {
         return deltaTime * globalTimescale;
     }
 
+    /**
+     * Get the raw delta time last passed to {@link #processDeltaTime}, i.e. of the update in progress, ignoring
+     * pause and timescale. For motion that should follow wall-clock time, such as scrolling.
+     */
+    public static float getRealDeltaTime() {
+        return realDeltaTime;
+    }
+
     /**
      * Reset time control to default state.
      */
@@ -124,6 +136,7 @@ public class UITimeControl {
         isPaused = false;
         stepsRequested = 0;
         stepSize = 0.016f;
+        realDeltaTime = 0.0f;
     }
 
     /**
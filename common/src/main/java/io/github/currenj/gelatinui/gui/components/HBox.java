@@ -50,6 +50,22 @@ public class HBox extends PanelBase<HBox> {
         this.size.set(0, 0);
     }
 
+    @Override
+    protected void resetForReuse() {
+        super.resetForReuse();
+        alignment = Alignment.TOP;
+        spacing = 0;
+        padding = 0;
+        fillWidth = false;
+        screenWidth = 0;
+        fillHeight = false;
+        screenHeight = 0;
+        scaleToWidth = 0;
+        scaleToHeight = 0;
+        layoutDirty = true;
+        animatePositions = false;
+    }
+
     public HBox spacing(float spacing) {
         if (this.spacing != spacing) {
             this.spacing = spacing;
@@ -97,7 +97,7 @@ public class ItemButton extends ItemRenderer<ItemButton> {
         graphics.pose().scale(effectiveScale, effectiveScale, 1.0f);
 
         // Render at origin after scaling
-        graphics.renderItem(getItemStack(), 0, 0);
+        mcContext.renderItem(getItemStack(), 0, 0);
 
         if (isShowCount() && getItemStack().getCount() > 1) {
             graphics.renderItemDecorations(font, getItemStack(), 0, 0);
@@ -139,7 +139,7 @@ public abstract class ItemRenderer<T extends ItemRenderer<T>> extends UIElement<
             graphics.pose().scale(itemScale, itemScale, 1.0f);
 
             // Render at origin after scaling
-            graphics.renderItem(itemStack, 0, 0);
+            mcContext.renderItem(itemStack, 0, 0);
 
             if (showCount && itemStack.getCount() > 1) {
                 graphics.renderItemDecorations(font, itemStack, 0, 0);
@@ -148,7 +148,7 @@ public abstract class ItemRenderer<T extends ItemRenderer<T>> extends UIElement<
             graphics.pose().popPose();
         } else {
             // No scaling, render directly
-            graphics.renderItem(itemStack, x, y);
+            mcContext.renderItem(itemStack, x, y);
 
             if (showCount && itemStack.getCount() > 1) {
                 graphics.renderItemDecorations(font, itemStack, x, y);
@@ -7,6 +7,7 @@ import net.minecraft.world.item.ItemStack;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * MASSIVELY SIMPLIFIED ItemTabs for debugging: A VBox with a tab bar (HBox of SpriteButtons) and content area.
@@ -18,6 +19,9 @@ public class ItemTabs extends VBox {
     private Consumer<Integer> onSelectionChanged = null;
     private final HBox tabBar;
     private IUIElement currentContent = null;
+    // Built lazy tabs, least recently selected first; capped by maxCachedTabs
+    private final List<Tab> builtLazyTabs = new ArrayList<>();
+    private int maxCachedTabs = 0;
 
     // Simple colors for debugging
     private static final int NORMAL_COLOR = 0xFF888888;
@@ -37,10 +41,34 @@ public class ItemTabs extends VBox {
     public ItemTabs sizes(float slotW, float slotH, float iconW, float iconH) { return this; }
     public ItemTabs tabSpacing(float spacing) { this.spacing(spacing); return this; }
 
+    /**
+     * Limit how many lazily built tab subtrees are kept. When more are built, the least recently selected
+     * one (never the selected tab) is discarded and rebuilt from its supplier on its next selection.
+     * Tabs added with ready-made content are always kept.
+     *
+     * @param maxCachedTabs maximum kept lazy subtrees, or 0 for no limit (default)
+     */
+    public ItemTabs maxCachedTabs(int maxCachedTabs) {
+        this.maxCachedTabs = Math.max(0, maxCachedTabs);
+        evictLazyTabs();
+        return this;
+    }
+
     /**
      * Add a simple SpriteButton tab.
      */
     public UIElement<?> addTab(ItemStack icon, IUIElement content) {
+        return addTab(icon, new Tab(content, null));
+    }
+
+    /**
+     * Add a tab whose content is built by the supplier the first time the tab is selected.
+     */
+    public UIElement<?> addTab(ItemStack icon, Supplier<IUIElement> contentSupplier) {
+        return addTab(icon, new Tab(null, contentSupplier));
+    }
+
+    private UIElement<?> addTab(ItemStack icon, Tab tab) {
         int index = tabs.size();
 
         // Create a simple SpriteButton (20x20 colored rectangle with number)
@@ -54,8 +82,8 @@ public class ItemTabs extends VBox {
 
         btn.onClick(e -> select(index));
 
-
-        tabs.add(new Tab(btn, content));
+        tab.button = btn;
+        tabs.add(tab);
         tabBar.addChild(btn);
         tabBar.recalculateLayout();
 
@@ -92,7 +120,7 @@ public class ItemTabs extends VBox {
         if (currentContent != null) {
             this.removeChild(currentContent);
         }
-        currentContent = tabs.get(selectedIndex).content;
+        currentContent = contentOf(tabs.get(selectedIndex));
         this.addChild(currentContent);
         // Ensure the new content recalculates its layout in the new context
         currentContent.markDirty(DirtyFlag.LAYOUT);
@@ -113,6 +141,46 @@ public class ItemTabs extends VBox {
         return selectedIndex;
     }
 
+    /**
+     * Whether the content of the tab at the given index currently exists (always true for eager tabs).
+     */
+    public boolean isTabBuilt(int index) {
+        return index >= 0 && index < tabs.size() && tabs.get(index).content != null;
+    }
+
+    /**
+     * Get the tab's content, building it from its supplier if needed.
+     */
+    private IUIElement contentOf(Tab tab) {
+        if (tab.supplier == null) {
+            return tab.content;
+        }
+        if (tab.content == null) {
+            tab.content = tab.supplier.get();
+        }
+        // Most recently selected goes last
+        builtLazyTabs.remove(tab);
+        builtLazyTabs.add(tab);
+        evictLazyTabs();
+        return tab.content;
+    }
+
+    private void evictLazyTabs() {
+        if (maxCachedTabs <= 0) {
+            return;
+        }
+        IUIElement selected = selectedIndex >= 0 ? tabs.get(selectedIndex).content : null;
+        for (int i = 0; i < builtLazyTabs.size() && builtLazyTabs.size() > maxCachedTabs; ) {
+            Tab oldest = builtLazyTabs.get(i);
+            if (oldest.content == selected) {
+                i++;
+                continue;
+            }
+            oldest.content = null;
+            builtLazyTabs.remove(i);
+        }
+    }
+
     public ItemTabs onSelectionChanged(Consumer<Integer> listener) {
         this.onSelectionChanged = listener;
         return this;
@@ -121,13 +189,14 @@ public class ItemTabs extends VBox {
     // Remove the custom onEvent since SpriteButton handles its own events
     // Remove the ItemTabButton class entirely
 
-    // Simple holder for tab data
+    // Simple holder for tab data; content is null for lazy tabs not built yet (or evicted)
     private static class Tab {
-        final IUIElement button;
-        final IUIElement content;
-        Tab(IUIElement button, IUIElement content) {
-            this.button = button;
+        IUIElement button;
+        IUIElement content;
+        final Supplier<IUIElement> supplier;
+        Tab(IUIElement content, Supplier<IUIElement> supplier) {
             this.content = content;
+            this.supplier = supplier;
         }
     }
 }
@@ -36,6 +36,18 @@ public class Label extends UIElement<Label> {
         markDirty(DirtyFlag.CONTENT, DirtyFlag.SIZE);
     }
 
+    @Override
+    protected void resetForReuse() {
+        super.resetForReuse();
+        text = null;
+        color = 0xFFFFFFFF;
+        centered = false;
+        baseWidth = 0f;
+        baseHeight = 0f;
+        needsSizeUpdate = true;
+        markDirty(DirtyFlag.CONTENT, DirtyFlag.SIZE);
+    }
+
     public Label text(String text) {
         if (this.text == null || !this.text.equals(text)) {
             this.text = text;
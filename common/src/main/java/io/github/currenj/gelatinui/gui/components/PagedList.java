@@ -0,0 +1,419 @@
+package io.github.currenj.gelatinui.gui.components;
+
+import io.github.currenj.gelatinui.gui.DirtyFlag;
+import io.github.currenj.gelatinui.gui.IUIElement;
+import io.github.currenj.gelatinui.gui.Scrollable;
+import io.github.currenj.gelatinui.gui.UIElementPool;
+import org.joml.Vector2f;
+
+import java.awt.geom.Rectangle2D;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Vertical list of fixed-height rows whose data is loaded page by page from a {@link DataSource} as it scrolls
+ * into view, for catalogs too large to build up front.
+ *
+ * The list watches the nearest {@link Scrollable} above it (a ScrollPane, or the UIScreen passed to
+ * {@link #scrollSource}). Pages overlapping the visible part plus {@link #prefetchDistance} are requested, and
+ * the next unknown page is requested once the scroll position comes within that distance of
+ * {@code getMaxScrollY()}. Pages further than {@link #keepPages} pages from that window are dropped, rows and
+ * items both, and requested again when scrolled back to.
+ *
+ * Rows are built from loaded items a few per update ({@link #rowsPerUpdate}) and placed directly at
+ * {@code index * rowHeight}, so nothing is laid out. The list's height is an estimate (rows known so far, or
+ * {@link DataSource#estimatedCount()} when larger) and is the only thing reported to the parent when it changes;
+ * changes inside rows stay inside the list.
+ */
+public class PagedList<T> extends PanelBase<PagedList<T>> {
+
+    /**
+     * Supplies the list's items a page at a time.
+     */
+    public interface DataSource<T> {
+        /**
+         * Number of items per page. Must not change while a list is using the source.
+         */
+        int pageSize();
+
+        /**
+         * Load a page and pass its items to {@code sink}, either immediately or later on the render thread.
+         * A page with fewer than {@link #pageSize()} items is taken to be the last one.
+         */
+        void requestPage(int page, Consumer<List<T>> sink);
+
+        /**
+         * Total number of items if known before loading them, used for the height estimate; -1 if unknown.
+         */
+        default int estimatedCount() {
+            return -1;
+        }
+    }
+
+    private final class Page {
+        final List<T> items;
+        final IUIElement[] rows;
+        int built = 0;
+
+        Page(List<T> items) {
+            this.items = items;
+            this.rows = new IUIElement[items.size()];
+        }
+    }
+
+    private final DataSource<T> source;
+    private final Function<T, IUIElement> rowFactory;
+    private final float rowHeight;
+    private final int pageSize;
+
+    private final Map<Integer, Page> pages = new HashMap<>();
+    private final Set<Integer> pending = new HashSet<>();
+    private int generation = 0; // bumped by reload() so late pages from before it are ignored
+    private int knownRows = 0;
+    private boolean exhausted = false;
+    private int unbuiltRows = 0;
+
+    private Scrollable scrollSource = null;
+    private float prefetchDistance = -1f; // default: one view height
+    private int keepPages = 1;
+    private int rowsPerUpdate = 16;
+
+    // Window of wanted pages as of the last update, and the scroll state it was computed from
+    private int firstPage = 0;
+    private int lastPage = -1;
+    private float lastScrollY = 0f;
+    private float lastViewHeight = 0f;
+    private boolean windowStale = true;
+
+    private boolean markingSelf = false;
+
+    public PagedList(float width, float rowHeight, DataSource<T> source, Function<T, IUIElement> rowFactory) {
+        if (rowHeight <= 0f) {
+            throw new IllegalArgumentException("Row height must be > 0");
+        }
+        if (source.pageSize() <= 0) {
+            throw new IllegalArgumentException("Page size must be > 0");
+        }
+        this.source = source;
+        this.rowFactory = rowFactory;
+        this.rowHeight = rowHeight;
+        this.pageSize = source.pageSize();
+        setSize(width, 0f);
+        updateEstimate();
+    }
+
+    /**
+     * Scroll container to follow. Defaults to the nearest Scrollable ancestor; set it explicitly when the list
+     * sits directly in a UIScreen.
+     */
+    public PagedList<T> scrollSource(Scrollable scrollSource) {
+        this.scrollSource = scrollSource;
+        windowStale = true;
+        return this;
+    }
+
+    /**
+     * How far beyond the visible part, in pixels, pages are loaded ahead of time. Defaults to one view height.
+     */
+    public PagedList<T> prefetchDistance(float pixels) {
+        this.prefetchDistance = Math.max(0f, pixels);
+        windowStale = true;
+        return this;
+    }
+
+    /**
+     * Number of pages on each side of the wanted window that stay loaded before being released.
+     */
+    public PagedList<T> keepPages(int pages) {
+        this.keepPages = Math.max(0, pages);
+        return this;
+    }
+
+    /**
+     * Maximum number of rows built per update, so a page arriving doesn't stall a frame.
+     */
+    public PagedList<T> rowsPerUpdate(int rows) {
+        this.rowsPerUpdate = Math.max(1, rows);
+        return this;
+    }
+
+    /**
+     * Drop everything loaded and start over from the first page, e.g. after the underlying data changed.
+     * Pages still in flight are ignored when they arrive.
+     */
+    public void reload() {
+        generation++;
+        for (Iterator<Page> it = pages.values().iterator(); it.hasNext(); ) {
+            releasePage(it.next());
+            it.remove();
+        }
+        pending.clear();
+        knownRows = 0;
+        exhausted = false;
+        windowStale = true;
+        updateEstimate();
+    }
+
+    /**
+     * Number of items known to exist: those loaded so far, including pages since released.
+     */
+    public int getKnownRowCount() {
+        return knownRows;
+    }
+
+    /**
+     * True once the last page has been loaded.
+     */
+    public boolean isExhausted() {
+        return exhausted;
+    }
+
+    public int getLoadedPageCount() {
+        return pages.size();
+    }
+
+    public boolean isPageLoaded(int page) {
+        return pages.containsKey(page);
+    }
+
+    public int getPendingPageCount() {
+        return pending.size();
+    }
+
+    public float getRowHeight() {
+        return rowHeight;
+    }
+
+    /**
+     * The row element for an item index, or null if its page isn't loaded or the row isn't built yet.
+     */
+    public IUIElement getRow(int index) {
+        Page page = pages.get(index / pageSize);
+        int i = index % pageSize;
+        return page != null && i < page.rows.length ? page.rows[i] : null;
+    }
+
+    @Override
+    public boolean needsUpdate() {
+        if (super.needsUpdate() || unbuiltRows > 0 || windowStale) {
+            return true;
+        }
+        Scrollable src = resolveScrollSource();
+        return src != null && (src.getScrollY() != lastScrollY || src.getViewHeight() != lastViewHeight);
+    }
+
+    @Override
+    protected void performLayout() {
+        // Rows are placed when built; nothing to lay out
+    }
+
+    @Override
+    protected void onUpdate(float deltaTime) {
+        windowStale = false;
+        computeWindow();
+
+        for (int p = firstPage; p <= lastPage; p++) {
+            if (!pages.containsKey(p) && !pending.contains(p)) {
+                request(p);
+            }
+        }
+
+        // Release pages that fell out of the kept range
+        for (Iterator<Map.Entry<Integer, Page>> it = pages.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Integer, Page> entry = it.next();
+            if (!isKept(entry.getKey())) {
+                releasePage(entry.getValue());
+                it.remove();
+            }
+        }
+
+        buildRows();
+    }
+
+    private void computeWindow() {
+        Scrollable src = resolveScrollSource();
+        float top;
+        float view;
+        float prefetch;
+        if (src != null) {
+            lastScrollY = src.getScrollY();
+            lastViewHeight = src.getViewHeight();
+            top = lastScrollY - contentTop(src);
+            view = lastViewHeight;
+        } else {
+            top = 0f;
+            view = pageSize * rowHeight;
+        }
+        prefetch = prefetchDistance >= 0f ? prefetchDistance : view;
+
+        float pageHeight = pageSize * rowHeight;
+        firstPage = Math.max(0, (int) Math.floor((top - prefetch) / pageHeight));
+        int last = (int) Math.floor((top + view + prefetch) / pageHeight);
+
+        // Only one page past what is known (or estimated) to exist may be asked for
+        int knownPages = (knownRows + pageSize - 1) / pageSize;
+        if (exhausted) {
+            last = Math.min(last, knownPages - 1);
+        } else {
+            int estimatedPages = (source.estimatedCount() + pageSize - 1) / pageSize;
+            last = Math.min(last, Math.max(knownPages, estimatedPages - 1));
+            // Close to the end of the scroll range: fetch the next page before it is reached
+            if (src != null && src.getMaxScrollY() - src.getScrollY() <= prefetch) {
+                last = Math.max(last, knownPages);
+            }
+        }
+        lastPage = last;
+    }
+
+    /**
+     * This list's top edge in the scroll source's content coordinates.
+     */
+    private float contentTop(Scrollable src) {
+        float y = 0f;
+        IUIElement e = this;
+        while (e != null && e != src) {
+            y += e.getPosition().y;
+            e = e.getParent();
+        }
+        return y;
+    }
+
+    private Scrollable resolveScrollSource() {
+        if (scrollSource != null) {
+            return scrollSource;
+        }
+        for (IUIElement e = getParent(); e != null; e = e.getParent()) {
+            if (e instanceof Scrollable s) {
+                return s;
+            }
+        }
+        return null;
+    }
+
+    private boolean isKept(int page) {
+        return page >= firstPage - keepPages && page <= lastPage + keepPages;
+    }
+
+    private void request(int page) {
+        pending.add(page);
+        int requestGeneration = generation;
+        source.requestPage(page, items -> accept(requestGeneration, page, items));
+    }
+
+    private void accept(int requestGeneration, int page, List<T> items) {
+        if (requestGeneration != generation || !pending.remove(page)) {
+            return;
+        }
+        int count = items != null ? Math.min(items.size(), pageSize) : 0;
+        int end = page * pageSize + count;
+        if (count < pageSize) {
+            exhausted = true;
+            knownRows = end;
+        } else {
+            knownRows = Math.max(knownRows, end);
+        }
+        if (count > 0 && isKept(page)) {
+            pages.put(page, new Page(count < items.size() ? items.subList(0, count) : items));
+            unbuiltRows += count;
+        }
+        updateEstimate();
+    }
+
+    private void buildRows() {
+        int budget = rowsPerUpdate;
+        // Pages in the wanted window first, nearest the top first
+        for (int p = firstPage; p <= lastPage && budget > 0; p++) {
+            budget = buildPage(p, pages.get(p), budget);
+        }
+        if (budget > 0 && unbuiltRows > 0) {
+            for (Map.Entry<Integer, Page> entry : pages.entrySet()) {
+                budget = buildPage(entry.getKey(), entry.getValue(), budget);
+                if (budget == 0) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private int buildPage(int index, Page page, int budget) {
+        if (page == null) {
+            return budget;
+        }
+        boolean added = false;
+        while (budget > 0 && page.built < page.rows.length) {
+            int i = page.built;
+            IUIElement row = rowFactory.apply(page.items.get(i));
+            // Positioned before it is attached, so nothing propagates
+            row.setPosition(new Vector2f(0f, (index * pageSize + i) * rowHeight));
+            children.add(row);
+            row.setParent(this);
+            page.rows[i] = row;
+            page.built++;
+            unbuiltRows--;
+            budget--;
+            added = true;
+        }
+        if (added) {
+            invalidateLayoutCache();
+            noteStructureChanged();
+        }
+        return budget;
+    }
+
+    private void releasePage(Page page) {
+        unbuiltRows -= page.rows.length - page.built;
+        for (int i = 0; i < page.built; i++) {
+            IUIElement row = page.rows[i];
+            children.remove(row);
+            row.setParent(null);
+            UIElementPool.releaseTree(row);
+        }
+        invalidateLayoutCache();
+        noteStructureChanged();
+    }
+
+    private void updateEstimate() {
+        int rows = exhausted ? knownRows : Math.max(knownRows, source.estimatedCount());
+        setSize(size.x, rows * rowHeight);
+    }
+
+    @Override
+    public void markDirty(DirtyFlag... flags) {
+        boolean wasMarkingSelf = markingSelf;
+        markingSelf = true;
+        try {
+            super.markDirty(flags);
+        } finally {
+            markingSelf = wasMarkingSelf;
+        }
+    }
+
+    @Override
+    protected void onChildDirty(DirtyFlag... flags) {
+        if (markingSelf) {
+            super.onChildDirty(flags);
+            return;
+        }
+        // A row changed: rows sit in fixed slots, so neither this list nor its ancestors need a layout pass
+        invalidateLayoutCache();
+    }
+
+    @Override
+    protected Rectangle2D calculateBounds() {
+        // The estimated extent, not the union of whichever rows happen to be built
+        Vector2f gp = getGlobalPosition();
+        float gs = getGlobalScale();
+        return new Rectangle2D.Float(gp.x, gp.y, size.x * gs, size.y * gs);
+    }
+
+    @Override
+    protected PagedList<T> self() {
+        return this;
+    }
+}
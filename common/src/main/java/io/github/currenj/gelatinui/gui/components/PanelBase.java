@@ -17,11 +17,23 @@ public abstract class PanelBase<T extends PanelBase<T>> extends UIContainer<T> {
     private int backgroundColor = 0x00000000; // Transparent by default
     private boolean drawBackground = false;
     private SpriteData backgroundSprite = null;
+    // Compiled quads for the background at the last rendered size
+    private SpriteGeometry backgroundGeometry = null;
     private boolean autoSizeToChildren = false;
 
     public PanelBase() {
     }
 
+    @Override
+    protected void resetForReuse() {
+        super.resetForReuse();
+        backgroundColor = 0x00000000;
+        drawBackground = false;
+        backgroundSprite = null;
+        backgroundGeometry = null;
+        autoSizeToChildren = false;
+    }
+
     public T backgroundColor(int color) {
         this.backgroundColor = color;
         this.drawBackground = true;
@@ -105,10 +117,12 @@ public abstract class PanelBase<T extends PanelBase<T>> extends UIContainer<T> {
 
             // Render sprite if available using unified drawSprite method
             if (backgroundSprite != null && backgroundSprite.texture() != null) {
-                // Update the background sprite's actual size to match the panel's current size
-                SpriteData sizedSprite = backgroundSprite.actualSize(w, h);
+                // Recompile only when the sprite or panel size changes
+                if (backgroundGeometry == null || !backgroundGeometry.matches(backgroundSprite, w, h)) {
+                    backgroundGeometry = SpriteGeometry.compile(backgroundSprite, w, h);
+                }
                 context.enableBlend();
-                context.drawSprite(sizedSprite, 0, 0, w, h);
+                context.drawSpriteGeometry(backgroundGeometry, 0, 0);
                 context.disableBlend();
             }
             // Fall back to solid color
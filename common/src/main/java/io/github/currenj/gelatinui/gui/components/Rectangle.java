@@ -22,6 +22,12 @@ public class Rectangle extends UIElement<Rectangle> {
         this.color = color;
     }
 
+    @Override
+    protected void resetForReuse() {
+        super.resetForReuse();
+        color = 0;
+    }
+
     public Rectangle color(int color) {
         if (this.color != color) {
             this.color = color;
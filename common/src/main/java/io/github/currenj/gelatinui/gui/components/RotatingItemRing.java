@@ -6,9 +6,12 @@ import io.github.currenj.gelatinui.gui.IRenderContext;
 import io.github.currenj.gelatinui.gui.UIContainer;
 import io.github.currenj.gelatinui.gui.UIElement;
 import io.github.currenj.gelatinui.gui.UIEvent;
+import io.github.currenj.gelatinui.gui.minecraft.MinecraftRenderContext;
 import net.minecraft.world.item.ItemStack;
 import org.joml.Vector2f;
 
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -49,6 +52,10 @@ public class RotatingItemRing extends UIContainer<RotatingItemRing> {
     // Internal: track if layout/positions should be recomputed
     private boolean layoutDirty = true;
 
+    // Scratch state for batched item rendering, reused across frames
+    private final List<ItemStack> batchStacks = new ArrayList<>();
+    private int[] batchPositions = new int[0];
+
     public RotatingItemRing() {
         // Provide a sensible default container size so it can render standalone
         this.size.set(160, 160);
@@ -277,6 +284,46 @@ public class RotatingItemRing extends UIContainer<RotatingItemRing> {
         // Optional: could render a subtle circle/guide if desired.
     }
 
+    @Override
+    protected void renderChildren(IRenderContext context, Rectangle2D viewport) {
+        if (!(context instanceof MinecraftRenderContext) || isDebugBoundsEnabled() || isDebugGridEnabled()
+                || isDebugPaddingEnabled() || isDebugCulledEnabled()) {
+            super.renderChildren(context, viewport);
+            return;
+        }
+
+        // Items resting at the default ring scale share one batch; hovered/selected/animating ones render individually
+        batchStacks.clear();
+        if (batchPositions.length < children.size() * 2) {
+            batchPositions = new int[children.size() * 2];
+        }
+        for (IUIElement child : children) {
+            if (!child.isVisible() || !child.isInViewport(viewport)) {
+                continue;
+            }
+            if (child instanceof ItemRenderer.ItemRendererImpl item && isBatchable(item)) {
+                Vector2f pos = item.getEffectivePosition();
+                int n = batchStacks.size();
+                batchPositions[n * 2] = Math.round(pos.x);
+                batchPositions[n * 2 + 1] = Math.round(pos.y);
+                batchStacks.add(item.getItemStack());
+            } else {
+                child.render(context, viewport);
+            }
+        }
+
+        if (!batchStacks.isEmpty()) {
+            context.renderItems(batchStacks, batchPositions, defaultItemScale);
+        }
+    }
+
+    private boolean isBatchable(ItemRenderer.ItemRendererImpl item) {
+        return Math.abs(item.getEffectiveScale() - defaultItemScale) < 1e-3f
+                && item.getItemScale() == 1.0f
+                && item.getSize().x == 16 && item.getSize().y == 16
+                && !(item.isShowCount() && item.getItemStack().getCount() > 1);
+    }
+
     // ----- Event handling -----
 
     @Override
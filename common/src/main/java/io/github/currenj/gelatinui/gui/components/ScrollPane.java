@@ -0,0 +1,217 @@
+package io.github.currenj.gelatinui.gui.components;
+
+import io.github.currenj.gelatinui.gui.DirtyFlag;
+import io.github.currenj.gelatinui.gui.IRenderContext;
+import io.github.currenj.gelatinui.gui.IUIElement;
+import io.github.currenj.gelatinui.gui.ScrollController;
+import io.github.currenj.gelatinui.gui.Scrollable;
+import io.github.currenj.gelatinui.gui.UIEvent;
+import io.github.currenj.gelatinui.gui.UIRenderStats;
+import io.github.currenj.gelatinui.gui.UITimeControl;
+import org.joml.Vector2f;
+
+import java.awt.geom.Rectangle2D;
+
+/**
+ * Fixed-size container that scrolls its children vertically inside its own bounds, with its own
+ * VerticalScrollBar.
+ *
+ * Children are placed in the pane's content space from (0, 0), usually as a single VBox; the content height is
+ * the lowest child edge. As with the UIScreen root, the scroll offset is a render translation plus a scissor
+ * clip, so scrolling re-lays out nothing: only cached global bounds below the pane are dropped, to be
+ * recomputed when next asked for. Culling and hit-testing of the children are confined to the pane's bounds.
+ *
+ * SCROLL events bubble from the element under the pointer, so the innermost pane with overflow consumes them.
+ */
+public class ScrollPane extends PanelBase<ScrollPane> implements Scrollable {
+    private final ScrollController scroller = new ScrollController();
+    private final VerticalScrollBar scrollBar;
+    private float contentHeight = 0f;
+    private float scrollSensitivity = 24f; // pixels per scroll unit
+    private int appliedOffset = 0;         // whole pixels, as used by rendering and bounds
+    private final Rectangle2D.Float clip = new Rectangle2D.Float();
+
+    public ScrollPane(float width, float height) {
+        scrollBar = new VerticalScrollBar(this);
+        scrollBar.setBarWidth(6);
+        scrollBar.setVisible(false);
+        children.add(scrollBar);
+        scrollBar.setParent(this);
+        setSize(width, height);
+    }
+
+    @Override
+    public void addChild(IUIElement child) {
+        super.addChild(child);
+        // Keep the scrollbar last so it is drawn and hit-tested above the content
+        children.remove(scrollBar);
+        children.add(scrollBar);
+    }
+
+    @Override
+    public void removeChild(IUIElement child) {
+        if (child != scrollBar) {
+            super.removeChild(child);
+        }
+    }
+
+    @Override
+    public void clearChildren() {
+        super.clearChildren();
+        children.add(scrollBar);
+        scrollBar.setParent(this);
+    }
+
+    public ScrollPane scrollSensitivity(float pixelsPerUnit) {
+        this.scrollSensitivity = Math.max(1f, pixelsPerUnit);
+        return this;
+    }
+
+    public VerticalScrollBar getScrollBar() {
+        return scrollBar;
+    }
+
+    /**
+     * Physics behind this pane's scroll, for tuning friction and overscroll.
+     */
+    public ScrollController getScrollController() {
+        return scroller;
+    }
+
+    @Override
+    protected void performLayout() {
+        // Children keep their own positions; only measure them
+        float bottom = 0f;
+        for (IUIElement child : children) {
+            if (child != scrollBar && child.isVisible()) {
+                bottom = Math.max(bottom, child.getPosition().y + child.getSize().y);
+            }
+        }
+        contentHeight = bottom;
+        scroller.setBounds(0f, getMaxScrollY());
+
+        scrollBar.setPosition(new Vector2f(size.x - scrollBar.getBarWidth(), 0f));
+        scrollBar.setTrackSize(scrollBar.getBarWidth(), size.y);
+        scrollBar.setVisible(getMaxScrollY() > 0f);
+    }
+
+    @Override
+    protected void onSizeChanged() {
+        super.onSizeChanged();
+        markDirty(DirtyFlag.LAYOUT);
+    }
+
+    @Override
+    public boolean needsUpdate() {
+        return super.needsUpdate() || !scroller.isSettled();
+    }
+
+    @Override
+    protected void onUpdate(float deltaTime) {
+        // Real time, like the screen's own scrolling; deltaTime stops while UI time is paused
+        if (scroller.update(UITimeControl.getRealDeltaTime())) {
+            applyOffset();
+        }
+    }
+
+    private void applyOffset() {
+        int offset = Math.round(scroller.getOffset());
+        if (offset != appliedOffset) {
+            appliedOffset = offset;
+            // Descendants' global bounds moved; layout did not
+            invalidateChildBounds();
+        }
+    }
+
+    @Override
+    protected float getChildScrollOffset(IUIElement child) {
+        return child == scrollBar ? 0f : appliedOffset;
+    }
+
+    @Override
+    protected Rectangle2D calculateBounds() {
+        // The pane's own viewport, not the union of its partly hidden children
+        Vector2f gp = getGlobalPosition();
+        float gs = getGlobalScale();
+        return new Rectangle2D.Float(gp.x, gp.y, size.x * gs, size.y * gs);
+    }
+
+    @Override
+    protected boolean isHitTarget() {
+        return true;
+    }
+
+    @Override
+    protected void renderChildren(IRenderContext context, Rectangle2D viewport) {
+        // Children outside the part of the pane that is on screen are culled
+        Rectangle2D.intersect(viewport, getBounds(), clip);
+        if (clip.getWidth() > 0 && clip.getHeight() > 0) {
+            context.pushLocalScissor(0, 0, (int) Math.ceil(size.x), (int) Math.ceil(size.y));
+            if (appliedOffset != 0) {
+                context.pushTranslation(0, -appliedOffset);
+                renderContent(context, clip);
+                context.popTranslation();
+            } else {
+                renderContent(context, clip);
+            }
+            context.popScissor();
+        }
+
+        if (scrollBar.isVisible()) {
+            scrollBar.render(context, viewport);
+        }
+    }
+
+    private void renderContent(IRenderContext context, Rectangle2D visible) {
+        UIRenderStats stats = UIRenderStats.active();
+        for (int i = 0; i < children.size(); i++) {
+            IUIElement child = children.get(i);
+            if (child != scrollBar && child.isVisible()) {
+                if (stats != null) {
+                    stats.beginChild(this, i);
+                }
+                child.render(context, visible);
+            }
+        }
+    }
+
+    @Override
+    protected boolean onEvent(UIEvent event) {
+        if (event.getType() == UIEvent.Type.SCROLL && getMaxScrollY() > 0f) {
+            scroller.fling(-event.getScrollDelta() * scrollSensitivity);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public float getContentHeight() {
+        return contentHeight;
+    }
+
+    @Override
+    public float getViewHeight() {
+        return size.y;
+    }
+
+    @Override
+    public float getMaxScrollY() {
+        return Math.max(0f, contentHeight - size.y);
+    }
+
+    @Override
+    public float getScrollY() {
+        return scroller.getOffset();
+    }
+
+    @Override
+    public void setScrollY(float y) {
+        scroller.scrollTo(y);
+        applyOffset();
+    }
+
+    @Override
+    protected ScrollPane self() {
+        return this;
+    }
+}
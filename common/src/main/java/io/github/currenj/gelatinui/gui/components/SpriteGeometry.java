@@ -0,0 +1,221 @@
+package io.github.currenj.gelatinui.gui.components;
+
+import io.github.currenj.gelatinui.gui.IRenderContext;
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.Arrays;
+
+/**
+ * Precomputed quad list for drawing a sprite at a fixed destination size.
+ *
+ * Slice rectangles, tile counts and UVs are resolved once by {@link #compile(SpriteData, int, int)} and reused
+ * every frame until the sprite or size changes. Quads are stored relative to (0,0); draw with
+ * {@link IRenderContext#drawSpriteGeometry(SpriteGeometry, int, int)}.
+ *
+ * Tiled regions (REPEAT mode, TILE edges and center) are kept as one quad with a destination tile size
+ * rather than expanded per tile, so contexts with repeat-capable sampling can draw them in a single quad.
+ *
+ * Elements memoize one instance and check {@link #matches(Object, int, int)} before recompiling.
+ */
+public final class SpriteGeometry {
+    /** Ints stored per quad: x, y, width, height, u, v, regionWidth, regionHeight, tileWidth, tileHeight. */
+    public static final int QUAD_STRIDE = 10;
+
+    private static final SpriteGeometry EMPTY = new SpriteGeometry(null, 0, 0, null, 256, 256, new int[0], new float[0], 0);
+
+    private final Object source;
+    private final int width;
+    private final int height;
+    private final ResourceLocation texture;
+    private final int textureWidth;
+    private final int textureHeight;
+    private final int[] quads;
+    private final float[] uvs;
+    private final int quadCount;
+
+    private SpriteGeometry(Object source, int width, int height, ResourceLocation texture,
+                           int textureWidth, int textureHeight, int[] quads, float[] uvs, int quadCount) {
+        this.source = source;
+        this.width = width;
+        this.height = height;
+        this.texture = texture;
+        this.textureWidth = textureWidth;
+        this.textureHeight = textureHeight;
+        this.quads = quads;
+        this.uvs = uvs;
+        this.quadCount = quadCount;
+    }
+
+    /**
+     * Compile the quads {@link IRenderContext#drawSprite} would emit for this sprite and size.
+     */
+    public static SpriteGeometry compile(SpriteData sprite, int width, int height) {
+        if (sprite == null || sprite.texture() == null) {
+            return EMPTY;
+        }
+        Recorder recorder = new Recorder();
+        recorder.drawSprite(sprite, 0, 0, width, height);
+        return recorder.build(sprite, width, height);
+    }
+
+    /**
+     * Compile the quads {@link IRenderContext#drawSlicedSprite} would emit for this sprite and size.
+     */
+    public static SpriteGeometry compile(SlicedSpriteData sprite, int width, int height) {
+        if (sprite == null || sprite.texture() == null) {
+            return EMPTY;
+        }
+        Recorder recorder = new Recorder();
+        recorder.drawSlicedSprite(sprite, 0, 0, width, height);
+        return recorder.build(sprite, width, height);
+    }
+
+    /**
+     * Whether this geometry was compiled from the given sprite at the given size.
+     */
+    public boolean matches(Object sprite, int width, int height) {
+        return this.width == width && this.height == height
+                && (this.source == sprite || (this.source != null && this.source.equals(sprite)));
+    }
+
+    /**
+     * Whether the quad at the given offset repeats (or partially shows) its region rather than stretching it.
+     */
+    public static boolean isTiled(int[] quads, int offset) {
+        return quads[offset + 8] != quads[offset + 2] || quads[offset + 9] != quads[offset + 3];
+    }
+
+    public ResourceLocation getTexture() {
+        return texture;
+    }
+
+    public int getTextureWidth() {
+        return textureWidth;
+    }
+
+    public int getTextureHeight() {
+        return textureHeight;
+    }
+
+    public int getQuadCount() {
+        return quadCount;
+    }
+
+    /**
+     * Raw quad data, {@link #QUAD_STRIDE} ints per quad. Do not modify.
+     */
+    public int[] getQuads() {
+        return quads;
+    }
+
+    /**
+     * Normalized texture coordinates, four floats per quad (u0, v0, u1, v1). Do not modify.
+     */
+    public float[] getUVs() {
+        return uvs;
+    }
+
+    /**
+     * Captures drawTexture calls made by the default sprite drawing methods.
+     */
+    private static final class Recorder implements IRenderContext {
+        private ResourceLocation texture;
+        private int textureWidth = 256;
+        private int textureHeight = 256;
+        private int[] quads = new int[9 * QUAD_STRIDE];
+        private int quadCount = 0;
+
+        @Override
+        public void drawTexture(ResourceLocation texture, int x, int y, int width, int height, int u, int v,
+                                int regionWidth, int regionHeight, int textureWidth, int textureHeight) {
+            record(texture, x, y, width, height, u, v, regionWidth, regionHeight, textureWidth, textureHeight, width, height);
+        }
+
+        @Override
+        public void drawTiledRegion(ResourceLocation texture, int x, int y, int width, int height, int u, int v,
+                                    int regionW, int regionH, int textureW, int textureH, int tileW, int tileH) {
+            if (tileW <= 0 || tileH <= 0) {
+                return;
+            }
+            record(texture, x, y, width, height, u, v, regionW, regionH, textureW, textureH, tileW, tileH);
+        }
+
+        private void record(ResourceLocation texture, int x, int y, int width, int height, int u, int v,
+                            int regionWidth, int regionHeight, int textureWidth, int textureHeight, int tileW, int tileH) {
+            if (width <= 0 || height <= 0) {
+                return;
+            }
+            if (this.texture == null) {
+                this.texture = texture;
+                this.textureWidth = textureWidth;
+                this.textureHeight = textureHeight;
+            }
+            int offset = quadCount * QUAD_STRIDE;
+            if (offset + QUAD_STRIDE > quads.length) {
+                quads = Arrays.copyOf(quads, quads.length * 2);
+            }
+            quads[offset] = x;
+            quads[offset + 1] = y;
+            quads[offset + 2] = width;
+            quads[offset + 3] = height;
+            quads[offset + 4] = u;
+            quads[offset + 5] = v;
+            quads[offset + 6] = regionWidth;
+            quads[offset + 7] = regionHeight;
+            quads[offset + 8] = tileW;
+            quads[offset + 9] = tileH;
+            quadCount++;
+        }
+
+        SpriteGeometry build(Object source, int width, int height) {
+            int[] packed = Arrays.copyOf(quads, quadCount * QUAD_STRIDE);
+            float[] uvs = new float[quadCount * 4];
+            for (int i = 0; i < quadCount; i++) {
+                int q = i * QUAD_STRIDE;
+                uvs[i * 4] = packed[q + 4] / (float) textureWidth;
+                uvs[i * 4 + 1] = packed[q + 5] / (float) textureHeight;
+                uvs[i * 4 + 2] = (packed[q + 4] + packed[q + 6]) / (float) textureWidth;
+                uvs[i * 4 + 3] = (packed[q + 5] + packed[q + 7]) / (float) textureHeight;
+            }
+            return new SpriteGeometry(source, width, height, texture, textureWidth, textureHeight, packed, uvs, quadCount);
+        }
+
+        @Override
+        public void fill(int x1, int y1, int x2, int y2, int color) {
+        }
+
+        @Override
+        public void drawString(String text, int x, int y, int color) {
+        }
+
+        @Override
+        public void drawCenteredString(String text, int x, int y, int color) {
+        }
+
+        @Override
+        public int getStringWidth(String text) {
+            return 0;
+        }
+
+        @Override
+        public int getFontHeight() {
+            return 0;
+        }
+
+        @Override
+        public void pushScissor(int x, int y, int width, int height) {
+        }
+
+        @Override
+        public void popScissor() {
+        }
+
+        @Override
+        public void enableBlend() {
+        }
+
+        @Override
+        public void disableBlend() {
+        }
+    }
+}
@@ -16,6 +16,8 @@ public abstract class SpriteRectangle<T extends SpriteRectangle<T>> extends UIEl
     private SpriteData sprite = null;
     private SpriteData hoverSprite = null;
     private SpriteData pressedSprite = null;
+    // Compiled quads for the last drawn sprite and size
+    private SpriteGeometry spriteGeometry = null;
 
     private String text = null;
     private int textColor = 0xFFFFFFFF;
@@ -125,6 +127,13 @@ public abstract class SpriteRectangle<T extends SpriteRectangle<T>> extends UIEl
         return text;
     }
 
+    /**
+     * Get the primary sprite, or null when drawn as a solid color.
+     */
+    public SpriteData getSprite() {
+        return sprite;
+    }
+
     /**
      * Enable or disable auto-sizing to fit the text.
      */
@@ -234,10 +243,13 @@ public abstract class SpriteRectangle<T extends SpriteRectangle<T>> extends UIEl
             chosen = sprite;
         }
 
-        // Render sprite using the unified drawSprite method that handles all modes
+        // Render sprite from geometry compiled for the current state and size
         if (chosen != null && chosen.texture() != null) {
+            if (spriteGeometry == null || !spriteGeometry.matches(chosen, w, h)) {
+                spriteGeometry = SpriteGeometry.compile(chosen, w, h);
+            }
             context.enableBlend();
-            context.drawSprite(chosen, x1, y1, w, h);
+            context.drawSpriteGeometry(spriteGeometry, x1, y1);
             context.disableBlend();
         } else {
             // Fall back to solid color
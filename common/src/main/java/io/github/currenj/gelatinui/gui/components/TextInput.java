@@ -2,6 +2,8 @@ package io.github.currenj.gelatinui.gui.components;
 
 import io.github.currenj.gelatinui.GelatinUIScreen;
 import io.github.currenj.gelatinui.gui.DirtyFlag;
+import io.github.currenj.gelatinui.gui.FocusManager;
+import io.github.currenj.gelatinui.gui.Focusable;
 import io.github.currenj.gelatinui.gui.IRenderContext;
 import io.github.currenj.gelatinui.gui.UIElement;
 import io.github.currenj.gelatinui.gui.UIEvent;
@@ -11,8 +13,11 @@ import org.joml.Vector2f;
 /**
  * A text input field component for user text entry.
  * Supports placeholder text, character limits, focus states, and validation.
+ *
+ * Inside a UIScreen the input takes focus when clicked or reached with Tab, and receives keys and characters
+ * from the screen's {@link io.github.currenj.gelatinui.gui.FocusManager} while focused.
  */
-public class TextInput extends UIElement<TextInput> {
+public class TextInput extends UIElement<TextInput> implements Focusable {
     private String text = "";
     private String placeholder = "";
     private int maxLength = 32;
@@ -195,9 +200,22 @@ public class TextInput extends UIElement<TextInput> {
     }
 
     /**
-     * Set focused state.
+     * Give or take focus. Inside a UIScreen this goes through the screen's {@link FocusManager}, so the
+     * previously focused element is blurred and FOCUS/BLUR are delivered.
      */
     public TextInput setFocused(boolean focused) {
+        FocusManager manager = FocusManager.of(this);
+        if (manager == null) {
+            applyFocused(focused);
+        } else if (focused) {
+            manager.focus(this);
+        } else if (manager.isFocused(this)) {
+            manager.blur();
+        }
+        return this;
+    }
+
+    private void applyFocused(boolean focused) {
         if (this.focused != focused) {
             this.focused = focused;
             if (focused) {
@@ -205,13 +223,16 @@ public class TextInput extends UIElement<TextInput> {
             }
             markDirty(DirtyFlag.CONTENT);
         }
-        return this;
     }
 
     /**
      * Register a global click listener with the given screen to handle focus management.
      * This allows the TextInput to respond to clicks anywhere on the screen.
+     *
+     * @deprecated focus now follows clicks through the UIScreen's FocusManager; this only adds a listener
+     * that runs on every click.
      */
+    @Deprecated
     public TextInput registerGlobalClickListener(GelatinUIScreen screen) {
         screen.addGlobalClickListener((mouseX, mouseY, button) -> {
             java.awt.geom.Rectangle2D bounds = getBounds();
@@ -289,6 +310,31 @@ public class TextInput extends UIElement<TextInput> {
         }
     }
 
+    @Override
+    public void onFocusChanged(boolean focused) {
+        applyFocused(focused);
+    }
+
+    @Override
+    public boolean onKeyPressed(int keyCode, int scanCode, int modifiers) {
+        return switch (keyCode) {
+            case 259, 261, 263, 262, 268, 269 -> {
+                keyPressed(keyCode);
+                yield true;
+            }
+            default -> false;
+        };
+    }
+
+    @Override
+    public boolean onCharTyped(char character, int modifiers) {
+        if (character < 32 || character == 127) {
+            return false;
+        }
+        charTyped(character);
+        return true;
+    }
+
     @Override
     protected void onUpdate(float deltaTime) {
         if (focused) {
@@ -378,7 +424,7 @@ public class TextInput extends UIElement<TextInput> {
                     event.consume();
                     return true;
                 }
-                // Focus management is now handled by global click listener
+                // Focus follows the press through the screen's FocusManager
             }
             case HOVER_ENTER -> {
                 markDirty(DirtyFlag.CONTENT);
@@ -50,6 +50,22 @@ public class VBox extends PanelBase<VBox> {
         this.size.set(0, 0);
     }
 
+    @Override
+    protected void resetForReuse() {
+        super.resetForReuse();
+        alignment = Alignment.LEFT;
+        spacing = 0;
+        padding = 0;
+        fillWidth = false;
+        screenWidth = 0;
+        fillHeight = false;
+        screenHeight = 0;
+        scaleToWidth = 0;
+        scaleToHeight = 0;
+        layoutDirty = true;
+        animatePositions = false;
+    }
+
     public VBox spacing(float spacing) {
         if (this.spacing != spacing) {
             this.spacing = spacing;
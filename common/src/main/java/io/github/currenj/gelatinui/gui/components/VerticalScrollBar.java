@@ -3,16 +3,18 @@ package io.github.currenj.gelatinui.gui.components;
 import io.github.currenj.gelatinui.gui.IRenderContext;
 import io.github.currenj.gelatinui.gui.UIElement;
 import io.github.currenj.gelatinui.gui.UIEvent;
-import io.github.currenj.gelatinui.gui.UIScreen;
+import io.github.currenj.gelatinui.gui.Scrollable;
 import org.joml.Vector2f;
 
 /**
- * Simple vertical scrollbar that can render a track and a thumb and allow clicking on the track
- * to jump the scroll position. This implementation intentionally keeps interaction minimal
- * (click-to-jump) to avoid adding drag state to UIScreen; it can be extended later.
+ * Simple vertical scrollbar that renders a track and a thumb. Clicking the track jumps the scroll
+ * position there; dragging the thumb (or the track after a jump) follows the pointer. Drag motion arrives
+ * at most once per frame through the UIScreen pointer capture.
+ *
+ * Drives any {@link Scrollable}: the UIScreen root content or a ScrollPane.
  */
 public class VerticalScrollBar extends UIElement<VerticalScrollBar> {
-    private final UIScreen screen;
+    private final Scrollable screen;
     private int barWidth = 12;
     private int padding = 2;
 
@@ -22,7 +24,10 @@ public class VerticalScrollBar extends UIElement<VerticalScrollBar> {
 
     private boolean hovered = false;
 
-    public VerticalScrollBar(UIScreen screen) {
+    // Distance from the top of the thumb to the point it was grabbed at, or -1 when not dragging
+    private float grabOffset = -1f;
+
+    public VerticalScrollBar(Scrollable screen) {
         this.screen = screen;
         // default size; UIScreen will set actual size/position
         this.size.set(barWidth, 100f);
@@ -60,19 +65,13 @@ public class VerticalScrollBar extends UIElement<VerticalScrollBar> {
         context.enableBlend();
         context.fill(x1, y1, x2, y2, trackColor);
 
-        float visibleFraction = Math.min(1f, viewH / contentH);
-        int trackH = y2 - y1 - padding * 2;
-        int minThumb = 16;
-        int thumbH = Math.max(minThumb, (int) Math.round(trackH * visibleFraction));
-
-        float maxScroll = screen.getMaxScrollY();
-        float scroll = screen.getScrollY();
-        float tRange = Math.max(1f, trackH - thumbH);
-        int thumbTop = y1 + padding + (int) Math.round((scroll / Math.max(1f, maxScroll)) * tRange);
+        int thumbH = thumbHeight(y2 - y1);
+        int thumbTop = thumbTop(y2 - y1, thumbH);
         int thumbLeft = x1 + padding;
         int thumbRight = x2 - padding;
 
-        context.fill(thumbLeft, thumbTop, thumbRight, thumbTop + thumbH, hovered ? thumbHoverColor : thumbColor);
+        boolean highlight = hovered || grabOffset >= 0f;
+        context.fill(thumbLeft, thumbTop, thumbRight, thumbTop + thumbH, highlight ? thumbHoverColor : thumbColor);
         context.disableBlend();
     }
 
@@ -88,35 +87,84 @@ public class VerticalScrollBar extends UIElement<VerticalScrollBar> {
                 return true;
             }
             case CLICK -> {
-                // Convert global mouse Y to local coordinate relative to this element
-                Vector2f gp = getGlobalPosition();
-                float localY = event.getMouseY() - gp.y;
+                if (!canScroll()) return true; // nothing to do
                 int h = Math.max(1, (int) Math.round(size.y));
-
-                // Compute thumb height similar to render
-                float contentH = screen.getContentHeight();
-                float viewH = screen.getViewHeight();
-                if (contentH <= 0f || viewH <= 0f || contentH <= viewH) return true; // nothing to do
-
-                float visibleFraction = Math.min(1f, viewH / contentH);
-                int trackH = h - padding * 2;
-                int minThumb = 16;
-                int thumbH = Math.max(minThumb, (int) Math.round(trackH * visibleFraction));
-
-                // Map click Y into scroll position: center the thumb on click position
-                float clickPos = localY - padding - thumbH * 0.5f;
-                float tRange = Math.max(1f, trackH - thumbH);
-                float frac = clickPos / tRange;
-                if (Float.isNaN(frac)) frac = 0f;
-                frac = Math.max(0f, Math.min(1f, frac));
-                float newScroll = frac * screen.getMaxScrollY();
-                screen.setScrollY(newScroll);
+                int thumbH = thumbHeight(h);
+                float localY = localY(event);
+                int thumbTop = thumbTop(h, thumbH);
+
+                // Clicking the thumb itself only grabs it; clicking the track centers the thumb there
+                if (localY < thumbTop || localY >= thumbTop + thumbH) {
+                    scrollToThumbTop(localY - thumbH * 0.5f, h, thumbH);
+                }
+                return true;
+            }
+            case DRAG_START -> {
+                if (!canScroll()) return false;
+                int h = Math.max(1, (int) Math.round(size.y));
+                int thumbH = thumbHeight(h);
+                float localY = localY(event);
+                int thumbTop = thumbTop(h, thumbH);
+                grabOffset = localY >= thumbTop && localY < thumbTop + thumbH ? localY - thumbTop : thumbH * 0.5f;
+                return true;
+            }
+            case DRAG -> {
+                if (grabOffset < 0f) return false;
+                if (canScroll()) {
+                    int h = Math.max(1, (int) Math.round(size.y));
+                    scrollToThumbTop(localY(event) - grabOffset, h, thumbHeight(h));
+                }
+                return true;
+            }
+            case DRAG_END -> {
+                grabOffset = -1f;
                 return true;
             }
         }
         return false;
     }
 
+    public boolean isDragging() {
+        return grabOffset >= 0f;
+    }
+
+    private boolean canScroll() {
+        float contentH = screen.getContentHeight();
+        float viewH = screen.getViewHeight();
+        return contentH > 0f && viewH > 0f && contentH > viewH;
+    }
+
+    // Convert global mouse Y to local coordinate relative to this element
+    private float localY(UIEvent event) {
+        Vector2f gp = getGlobalPosition();
+        return event.getMouseY() - gp.y;
+    }
+
+    private int thumbHeight(int height) {
+        float visibleFraction = Math.min(1f, screen.getViewHeight() / Math.max(1f, screen.getContentHeight()));
+        int trackH = height - padding * 2;
+        int minThumb = 16;
+        return Math.max(minThumb, (int) Math.round(trackH * visibleFraction));
+    }
+
+    private int thumbTop(int height, int thumbH) {
+        float tRange = Math.max(1f, height - padding * 2 - thumbH);
+        // Overscroll moves the content, not the thumb
+        float frac = Math.max(0f, Math.min(1f, screen.getScrollY() / Math.max(1f, screen.getMaxScrollY())));
+        return padding + (int) Math.round(frac * tRange);
+    }
+
+    /**
+     * Map a local thumb top position into a scroll position.
+     */
+    private void scrollToThumbTop(float top, int height, int thumbH) {
+        float tRange = Math.max(1f, height - padding * 2 - thumbH);
+        float frac = (top - padding) / tRange;
+        if (Float.isNaN(frac)) frac = 0f;
+        frac = Math.max(0f, Math.min(1f, frac));
+        screen.setScrollY(frac * screen.getMaxScrollY());
+    }
+
     @Override
     protected VerticalScrollBar self() {
         return this;
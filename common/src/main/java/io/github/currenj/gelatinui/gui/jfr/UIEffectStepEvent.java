@@ -0,0 +1,28 @@
+package io.github.currenj.gelatinui.gui.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * An effect step on one element that took longer than the threshold.
+ */
+@Name("gelatinui.EffectStep")
+@Label("UI Effect Step")
+@Category({"GelatinUI"})
+@Description("Stepping and combining the effects of one element")
+@Enabled(false)
+@StackTrace(false)
+@Threshold("1 ms")
+public class UIEffectStepEvent extends Event {
+    @Label("Element Type")
+    public String elementType;
+
+    @Label("Effect Count")
+    public int effectCount;
+}
@@ -0,0 +1,178 @@
+package io.github.currenj.gelatinui.gui.jfr;
+
+import jdk.jfr.EventType;
+
+/**
+ * Entry points for the UI's JDK Flight Recorder events.
+ *
+ * Every event type is disabled by default. Enable them in a recording settings file or on the command line,
+ * e.g. {@code jcmd <pid> JFR.start settings=profile +gelatinui.Update#enabled=true}. While a type is disabled
+ * its begin method returns null without allocating, and the matching end method returns immediately.
+ *
+ * Render thread only, like the rest of the UI.
+ */
+public final class UIFlightRecorder {
+    private static final EventType UPDATE = typeOf(UIUpdateEvent.class);
+    private static final EventType RENDER = typeOf(UIRenderEvent.class);
+    private static final EventType LAYOUT = typeOf(UILayoutEvent.class);
+    private static final EventType EFFECT_STEP = typeOf(UIEffectStepEvent.class);
+
+    // Element counters for the update/render pass being recorded
+    private static boolean countingUpdate = false;
+    private static int updatedElements = 0;
+    private static int dirtyElements = 0;
+    private static boolean countingRender = false;
+    private static int renderedElements = 0;
+    private static int culledElements = 0;
+
+    private UIFlightRecorder() {
+    }
+
+    /**
+     * Start recording a UIScreen.update call.
+     * @return the event to pass to {@link #endUpdate}, or null when the event type is disabled
+     */
+    public static UIUpdateEvent beginUpdate() {
+        if (!isEnabled(UPDATE)) {
+            return null;
+        }
+        UIUpdateEvent event = new UIUpdateEvent();
+        updatedElements = 0;
+        dirtyElements = 0;
+        countingUpdate = true;
+        event.begin();
+        return event;
+    }
+
+    public static void endUpdate(UIUpdateEvent event, float deltaTime) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        countingUpdate = false;
+        if (event.shouldCommit()) {
+            event.updatedElements = updatedElements;
+            event.dirtyElements = dirtyElements;
+            event.deltaTime = deltaTime;
+            event.commit();
+        }
+    }
+
+    /**
+     * Count one element whose update ran. No-op unless an update event is being recorded.
+     */
+    public static void countUpdate(boolean dirty) {
+        if (countingUpdate) {
+            updatedElements++;
+            if (dirty) {
+                dirtyElements++;
+            }
+        }
+    }
+
+    /**
+     * Start recording a UIScreen.render call.
+     * @return the event to pass to {@link #endRender}, or null when the event type is disabled
+     */
+    public static UIRenderEvent beginRender() {
+        if (!isEnabled(RENDER)) {
+            return null;
+        }
+        UIRenderEvent event = new UIRenderEvent();
+        renderedElements = 0;
+        culledElements = 0;
+        countingRender = true;
+        event.begin();
+        return event;
+    }
+
+    public static void endRender(UIRenderEvent event) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        countingRender = false;
+        if (event.shouldCommit()) {
+            event.renderedElements = renderedElements;
+            event.culledElements = culledElements;
+            event.commit();
+        }
+    }
+
+    /**
+     * Count one element that was rendered or culled. No-op unless a render event is being recorded.
+     */
+    public static void countRender(boolean culled) {
+        if (countingRender) {
+            if (culled) {
+                culledElements++;
+            } else {
+                renderedElements++;
+            }
+        }
+    }
+
+    /**
+     * Start recording a container layout pass.
+     * @return the event to pass to {@link #endLayout}, or null when the event type is disabled
+     */
+    public static UILayoutEvent beginLayout() {
+        if (!isEnabled(LAYOUT)) {
+            return null;
+        }
+        UILayoutEvent event = new UILayoutEvent();
+        event.begin();
+        return event;
+    }
+
+    public static void endLayout(UILayoutEvent event, Object container, int childCount) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.containerType = container.getClass().getName();
+            event.childCount = childCount;
+            event.commit();
+        }
+    }
+
+    /**
+     * Start recording an element's effect step.
+     * @return the event to pass to {@link #endEffectStep}, or null when the event type is disabled
+     */
+    public static UIEffectStepEvent beginEffectStep() {
+        if (!isEnabled(EFFECT_STEP)) {
+            return null;
+        }
+        UIEffectStepEvent event = new UIEffectStepEvent();
+        event.begin();
+        return event;
+    }
+
+    public static void endEffectStep(UIEffectStepEvent event, Object element, int effectCount) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        // Only committed when over the event's duration threshold
+        if (event.shouldCommit()) {
+            event.elementType = element.getClass().getName();
+            event.effectCount = effectCount;
+            event.commit();
+        }
+    }
+
+    private static boolean isEnabled(EventType type) {
+        return type != null && type.isEnabled();
+    }
+
+    private static EventType typeOf(Class<? extends jdk.jfr.Event> eventClass) {
+        try {
+            return EventType.getEventType(eventClass);
+        } catch (Throwable t) {
+            // Runtime without Flight Recorder support: every event stays off
+            return null;
+        }
+    }
+}
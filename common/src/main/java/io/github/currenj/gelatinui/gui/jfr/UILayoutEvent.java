@@ -0,0 +1,26 @@
+package io.github.currenj.gelatinui.gui.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One UIContainer.recalculateLayout pass.
+ */
+@Name("gelatinui.Layout")
+@Label("UI Layout")
+@Category({"GelatinUI"})
+@Description("Layout pass of a single container")
+@Enabled(false)
+@StackTrace(false)
+public class UILayoutEvent extends Event {
+    @Label("Container Type")
+    public String containerType;
+
+    @Label("Child Count")
+    public int childCount;
+}
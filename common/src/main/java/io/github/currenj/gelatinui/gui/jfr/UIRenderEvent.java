@@ -0,0 +1,26 @@
+package io.github.currenj.gelatinui.gui.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One UIScreen.render call, including the tooltip.
+ */
+@Name("gelatinui.Render")
+@Label("UI Render")
+@Category({"GelatinUI"})
+@Description("UIScreen.render: elements drawn and culled")
+@Enabled(false)
+@StackTrace(false)
+public class UIRenderEvent extends Event {
+    @Label("Rendered Elements")
+    public int renderedElements;
+
+    @Label("Culled Elements")
+    public int culledElements;
+}
@@ -0,0 +1,31 @@
+package io.github.currenj.gelatinui.gui.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One UIScreen.update call.
+ */
+@Name("gelatinui.Update")
+@Label("UI Update")
+@Category({"GelatinUI"})
+@Description("UIScreen.update: elements updated and how many of them were dirty")
+@Enabled(false)
+@StackTrace(false)
+public class UIUpdateEvent extends Event {
+    @Label("Updated Elements")
+    public int updatedElements;
+
+    @Label("Dirty Elements")
+    @Description("Updated elements that had dirty flags set")
+    public int dirtyElements;
+
+    @Label("Delta Time")
+    @Description("Frame delta in seconds after time control")
+    public float deltaTime;
+}
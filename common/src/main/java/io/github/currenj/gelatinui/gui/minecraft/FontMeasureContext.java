@@ -0,0 +1,64 @@
+package io.github.currenj.gelatinui.gui.minecraft;
+
+import io.github.currenj.gelatinui.gui.IRenderContext;
+import net.minecraft.client.gui.Font;
+import net.minecraft.resources.ResourceLocation;
+
+/**
+ * IRenderContext that only measures text with a Minecraft font; every draw call is ignored.
+ * Use it to size elements outside a render pass, e.g. while instantiating a template, without a GuiGraphics.
+ */
+public class FontMeasureContext implements IRenderContext {
+    private final Font font;
+
+    public FontMeasureContext(Font font) {
+        this.font = font;
+    }
+
+    public Font getFont() {
+        return font;
+    }
+
+    @Override
+    public void fill(int x1, int y1, int x2, int y2, int color) {
+    }
+
+    @Override
+    public void drawString(String text, int x, int y, int color) {
+    }
+
+    @Override
+    public void drawCenteredString(String text, int x, int y, int color) {
+    }
+
+    @Override
+    public int getStringWidth(String text) {
+        return font.width(text);
+    }
+
+    @Override
+    public int getFontHeight() {
+        return font.lineHeight;
+    }
+
+    @Override
+    public void pushScissor(int x, int y, int width, int height) {
+    }
+
+    @Override
+    public void popScissor() {
+    }
+
+    @Override
+    public void enableBlend() {
+    }
+
+    @Override
+    public void disableBlend() {
+    }
+
+    @Override
+    public void drawTexture(ResourceLocation texture, int x, int y, int width, int height, int u, int v,
+                            int regionWidth, int regionHeight, int textureWidth, int textureHeight) {
+    }
+}
@@ -0,0 +1,466 @@
+package io.github.currenj.gelatinui.gui.minecraft;
+
+import com.mojang.blaze3d.pipeline.RenderTarget;
+import com.mojang.blaze3d.pipeline.TextureTarget;
+import com.mojang.blaze3d.platform.GlStateManager;
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.BufferUploader;
+import com.mojang.blaze3d.vertex.ByteBufferBuilder;
+import com.mojang.blaze3d.vertex.DefaultVertexFormat;
+import com.mojang.blaze3d.vertex.MeshData;
+import com.mojang.blaze3d.vertex.VertexFormat;
+import com.mojang.blaze3d.vertex.VertexSorting;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.renderer.GameRenderer;
+import net.minecraft.core.component.DataComponentPatch;
+import net.minecraft.server.packs.resources.ReloadableResourceManager;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.joml.Matrix4f;
+import org.joml.Matrix4fStack;
+import org.lwjgl.opengl.GL11;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Caches rasterized item icons in shared off-screen texture atlases.
+ *
+ * Rendering an item through GuiGraphics.renderItem runs the full model pipeline every frame, which is
+ * expensive for 3D block models. This cache renders each distinct (item, components, pixel size) once into
+ * an atlas page and afterwards draws it as a single textured quad. Pages are grids of equally sized cells,
+ * one page per pixel size bucket, and cells are recycled in least-recently-used order when a page is full.
+ *
+ * Decorations (count, durability bar) are not cached; callers draw them live on top of the icon.
+ * Stacks matched by the bypass predicate (enchantment glint, time-dependent models) always render live.
+ *
+ * The raster budget and LRU protection count frames from {@link #beginFrame()}, called once per rendered frame
+ * by the game renderer. A resource reload drops every cached icon.
+ *
+ * All methods must be called on the render thread.
+ */
+public final class ItemIconCache {
+    private static final ItemIconCache INSTANCE = new ItemIconCache();
+
+    // Atlas page dimensions in pixels
+    private static final int PAGE_SIZE = 1024;
+
+    // Pixel size buckets; requests are rounded up to the nearest bucket so animated scales reuse cells
+    private static final int[] SIZE_BUCKETS = {16, 24, 32, 48, 64, 96, 128, 192, 256};
+
+    // Maximum number of new icons rasterized per frame; anything beyond renders live this frame
+    private static final int DEFAULT_RASTER_BUDGET = 32;
+
+    private static boolean enabled = true;
+    private static int rasterBudgetPerFrame = DEFAULT_RASTER_BUDGET;
+    private static Predicate<ItemStack> bypass = ItemIconCache::isTimeDependent;
+
+    private static final ResourceManagerReloadListener RELOAD_LISTENER = resourceManager -> INSTANCE.invalidateAll();
+    private static boolean listenerRegistered = false;
+
+    // One page per entry of SIZE_BUCKETS, created on first use
+    private final AtlasPage[] pages = new AtlasPage[SIZE_BUCKETS.length];
+    // Reused for lookups; only inserted icons get a key of their own
+    private final IconKey probe = new IconKey();
+
+    // Frame tracking for LRU protection and raster budget
+    private long frame = 0;
+    private int rastersThisFrame = 0;
+    // While set, atlas hits are collected per page and drawn by endBatch
+    private boolean batching = false;
+    private final SavedScissor savedScissor = new SavedScissor();
+
+    // Statistics
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    private ItemIconCache() {
+    }
+
+    public static ItemIconCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Enable or disable the icon cache globally. When disabled, all items render live.
+     */
+    public static void setEnabled(boolean enabled) {
+        ItemIconCache.enabled = enabled;
+        if (!enabled) {
+            INSTANCE.invalidateAll();
+        }
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Set the maximum number of icons rasterized per frame.
+     */
+    public static void setRasterBudgetPerFrame(int budget) {
+        rasterBudgetPerFrame = Math.max(1, budget);
+    }
+
+    /**
+     * Replace the predicate deciding which stacks must always render live.
+     */
+    public static void setBypass(Predicate<ItemStack> predicate) {
+        bypass = predicate != null ? predicate : stack -> false;
+    }
+
+    /**
+     * Render an item icon at the given position under the current pose, using the atlas when possible.
+     * Falls back to GuiGraphics.renderItem for bypassed stacks, over-budget frames or oversized icons.
+     */
+    public void renderItem(GuiGraphics graphics, ItemStack stack, int x, int y) {
+        if (!renderCached(graphics, stack, x, y) && !stack.isEmpty()) {
+            graphics.renderItem(stack, x, y);
+        }
+    }
+
+    /**
+     * Draw the icon from the atlas, rasterizing it first if needed.
+     * @return false if the stack cannot be served from the cache this frame and must be rendered live
+     */
+    public boolean renderCached(GuiGraphics graphics, ItemStack stack, int x, int y) {
+        if (stack.isEmpty() || !enabled || !RenderSystem.isOnRenderThread() || bypass.test(stack)) {
+            return false;
+        }
+
+        Matrix4f pose = graphics.pose().last().pose();
+        int bucket = bucketFor(16f * Math.abs(pose.m00()) * (float) Minecraft.getInstance().getWindow().getGuiScale());
+        if (bucket < 0) {
+            return false;
+        }
+
+        registerReloadListener();
+        AtlasPage page = pages[bucket];
+        if (page == null) {
+            page = pages[bucket] = new AtlasPage(SIZE_BUCKETS[bucket]);
+        }
+        probe.set(stack.getItem(), stack.getComponentsPatch(), page.cellSize);
+        Cell cell = page.cells.get(probe);
+
+        if (cell == null) {
+            if (rastersThisFrame >= rasterBudgetPerFrame) {
+                return false;
+            }
+            cell = page.allocate(probe.copy());
+            if (cell == null) {
+                // Every cell is in use this frame; render live rather than thrash
+                return false;
+            }
+            // Anything already batched must reach the main target before we switch framebuffers
+            graphics.flush();
+            page.rasterize(cell, stack);
+            rastersThisFrame++;
+            misses++;
+        } else {
+            hits++;
+        }
+
+        cell.lastUsedFrame = frame;
+        page.append(graphics.pose().last().pose(), cell, x, y);
+        if (!batching) {
+            // Drawn right away, so fills and text queued before it must go first
+            graphics.flush();
+            page.drawPending();
+        }
+        return true;
+    }
+
+    /**
+     * Collect the icons drawn by {@link #renderCached} until {@link #endBatch()} instead of drawing each one.
+     * Whatever the GuiGraphics has queued so far is flushed once here.
+     */
+    public void beginBatch(GuiGraphics graphics) {
+        graphics.flush();
+        batching = true;
+    }
+
+    /**
+     * Draw the icons collected since {@link #beginBatch}, one draw call per atlas page.
+     */
+    public void endBatch() {
+        batching = false;
+        for (AtlasPage page : pages) {
+            if (page != null) {
+                page.drawPending();
+            }
+        }
+    }
+
+    /**
+     * Drop every cached icon and release the atlas textures. Runs on every resource reload so icons pick up new
+     * models and textures.
+     */
+    public void invalidateAll() {
+        for (int i = 0; i < pages.length; i++) {
+            if (pages[i] != null) {
+                pages[i].destroy();
+                pages[i] = null;
+            }
+        }
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Number of icons currently held across all atlas pages.
+     */
+    public int getCachedIconCount() {
+        int count = 0;
+        for (AtlasPage page : pages) {
+            if (page != null) {
+                count += page.cells.size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Start a new frame: resets the raster budget and lets icons drawn last frame be evicted again.
+     */
+    public void beginFrame() {
+        frame++;
+        rastersThisFrame = 0;
+    }
+
+    private static void registerReloadListener() {
+        // Registered lazily, as UITemplates does; the client resource manager lives for the whole session
+        if (!listenerRegistered && Minecraft.getInstance().getResourceManager() instanceof ReloadableResourceManager reloadable) {
+            reloadable.registerReloadListener(RELOAD_LISTENER);
+            listenerRegistered = true;
+        }
+    }
+
+    /**
+     * Index of the smallest bucket that fits a requested pixel size, or -1 if it is too large to cache.
+     */
+    private static int bucketFor(float pixels) {
+        for (int i = 0; i < SIZE_BUCKETS.length; i++) {
+            if (pixels <= SIZE_BUCKETS[i] + 0.01f) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isTimeDependent(ItemStack stack) {
+        return stack.hasFoil()
+                || stack.is(Items.CLOCK)
+                || stack.is(Items.COMPASS)
+                || stack.is(Items.RECOVERY_COMPASS);
+    }
+
+    /**
+     * Identity of a rasterized icon. Mutable so lookups can reuse one probe instance; keys held by a page are
+     * copies and never change.
+     */
+    private static final class IconKey {
+        Item item;
+        DataComponentPatch components;
+        int pixelSize;
+
+        void set(Item item, DataComponentPatch components, int pixelSize) {
+            this.item = item;
+            this.components = components;
+            this.pixelSize = pixelSize;
+        }
+
+        IconKey copy() {
+            IconKey key = new IconKey();
+            key.set(item, components, pixelSize);
+            return key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof IconKey other && item == other.item && pixelSize == other.pixelSize
+                    && components.equals(other.components);
+        }
+
+        @Override
+        public int hashCode() {
+            return (item.hashCode() * 31 + components.hashCode()) * 31 + pixelSize;
+        }
+    }
+
+    /**
+     * A single icon slot inside an atlas page.
+     */
+    private static final class Cell {
+        final int x;
+        final int y;
+        long lastUsedFrame;
+
+        Cell(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    /**
+     * One off-screen render target divided into a grid of equally sized cells.
+     */
+    private final class AtlasPage {
+        final int cellSize;
+        final int columns;
+        final int capacity;
+        final RenderTarget target;
+        // Access-ordered so iteration starts at the least recently used icon
+        final LinkedHashMap<IconKey, Cell> cells = new LinkedHashMap<>(16, 0.75f, true);
+        int nextFree = 0;
+        // Quads waiting for drawPending; the byte buffer lives as long as the page and grows as needed
+        final ByteBufferBuilder pendingBytes = new ByteBufferBuilder(4096);
+        BufferBuilder pending = null;
+
+        AtlasPage(int cellSize) {
+            this.cellSize = cellSize;
+            this.columns = PAGE_SIZE / cellSize;
+            this.capacity = columns * columns;
+            this.target = new TextureTarget(PAGE_SIZE, PAGE_SIZE, true, Minecraft.ON_OSX);
+            this.target.setClearColor(0f, 0f, 0f, 0f);
+            this.target.clear(Minecraft.ON_OSX);
+        }
+
+        Cell allocate(IconKey key) {
+            Cell cell;
+            if (nextFree < capacity) {
+                int index = nextFree++;
+                cell = new Cell((index % columns) * cellSize, (index / columns) * cellSize);
+            } else {
+                cell = evictLeastRecentlyUsed();
+                if (cell == null) {
+                    return null;
+                }
+            }
+            cells.put(key, cell);
+            return cell;
+        }
+
+        Cell evictLeastRecentlyUsed() {
+            Iterator<Map.Entry<IconKey, Cell>> it = cells.entrySet().iterator();
+            if (!it.hasNext()) {
+                return null;
+            }
+            Map.Entry<IconKey, Cell> eldest = it.next();
+            if (eldest.getValue().lastUsedFrame == frame) {
+                return null;
+            }
+            it.remove();
+            evictions++;
+            return eldest.getValue();
+        }
+
+        void rasterize(Cell cell, ItemStack stack) {
+            Minecraft mc = Minecraft.getInstance();
+            RenderTarget main = mc.getMainRenderTarget();
+
+            Matrix4f savedProjection = RenderSystem.getProjectionMatrix();
+            VertexSorting savedSorting = RenderSystem.getVertexSorting();
+
+            // The caller's clip is in screen space and must not cut into the atlas
+            savedScissor.saveAndDisable();
+            target.bindWrite(true);
+
+            // Clear only this cell (scissor uses bottom-left origin)
+            GlStateManager._enableScissorTest();
+            GlStateManager._scissorBox(cell.x, PAGE_SIZE - cell.y - cellSize, cellSize, cellSize);
+            RenderSystem.clearColor(0f, 0f, 0f, 0f);
+            RenderSystem.clear(GL11.GL_COLOR_BUFFER_BIT | GL11.GL_DEPTH_BUFFER_BIT, Minecraft.ON_OSX);
+            GlStateManager._disableScissorTest();
+
+            // Same projection layout the GUI uses, but in atlas pixels
+            RenderSystem.setProjectionMatrix(new Matrix4f().setOrtho(0f, PAGE_SIZE, PAGE_SIZE, 0f, 1000f, 21000f), VertexSorting.ORTHOGRAPHIC_Z);
+            Matrix4fStack modelView = RenderSystem.getModelViewStack();
+            modelView.pushMatrix();
+            modelView.translation(0f, 0f, -11000f);
+            RenderSystem.applyModelViewMatrix();
+
+            GuiGraphics atlasGraphics = new GuiGraphics(mc, mc.renderBuffers().bufferSource());
+            atlasGraphics.pose().pushPose();
+            atlasGraphics.pose().translate(cell.x, cell.y, 0f);
+            float scale = cellSize / 16f;
+            atlasGraphics.pose().scale(scale, scale, 1f);
+            atlasGraphics.renderItem(stack, 0, 0);
+            atlasGraphics.pose().popPose();
+            atlasGraphics.flush();
+
+            modelView.popMatrix();
+            RenderSystem.applyModelViewMatrix();
+            RenderSystem.setProjectionMatrix(savedProjection, savedSorting);
+
+            main.bindWrite(true);
+            savedScissor.restore();
+        }
+
+        void append(Matrix4f matrix, Cell cell, int x, int y) {
+            float u0 = cell.x / (float) PAGE_SIZE;
+            float u1 = (cell.x + cellSize) / (float) PAGE_SIZE;
+            // Render target textures are stored bottom-up
+            float vTop = 1f - cell.y / (float) PAGE_SIZE;
+            float vBottom = 1f - (cell.y + cellSize) / (float) PAGE_SIZE;
+
+            // Match GuiGraphics.renderItem depth so decorations drawn afterwards still sit on top
+            float z = 150f;
+
+            if (pending == null) {
+                pending = new BufferBuilder(pendingBytes, VertexFormat.Mode.QUADS, DefaultVertexFormat.POSITION_TEX);
+            }
+            pending.addVertex(matrix, x, y, z).setUv(u0, vTop);
+            pending.addVertex(matrix, x, y + 16, z).setUv(u0, vBottom);
+            pending.addVertex(matrix, x + 16, y + 16, z).setUv(u1, vBottom);
+            pending.addVertex(matrix, x + 16, y, z).setUv(u1, vTop);
+        }
+
+        void drawPending() {
+            if (pending == null) {
+                return;
+            }
+            MeshData mesh = pending.build();
+            pending = null;
+            if (mesh == null) {
+                return;
+            }
+
+            RenderSystem.setShaderTexture(0, target.getColorTextureId());
+            RenderSystem.setShader(GameRenderer::getPositionTexShader);
+            RenderSystem.enableBlend();
+            // Atlas colors are premultiplied by the blend used while rasterizing
+            RenderSystem.blendFuncSeparate(
+                    GlStateManager.SourceFactor.ONE, GlStateManager.DestFactor.ONE_MINUS_SRC_ALPHA,
+                    GlStateManager.SourceFactor.ONE, GlStateManager.DestFactor.ONE_MINUS_SRC_ALPHA);
+
+            BufferUploader.drawWithShader(mesh);
+
+            RenderSystem.defaultBlendFunc();
+            RenderSystem.disableBlend();
+        }
+
+        void destroy() {
+            pending = null;
+            pendingBytes.close();
+            target.destroyBuffers();
+            cells.clear();
+        }
+    }
+}
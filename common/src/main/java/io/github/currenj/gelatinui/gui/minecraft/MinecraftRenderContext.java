@@ -1,26 +1,62 @@
 package io.github.currenj.gelatinui.gui.minecraft;
 
+import com.mojang.blaze3d.platform.Lighting;
 import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.BufferUploader;
+import com.mojang.blaze3d.vertex.DefaultVertexFormat;
+import com.mojang.blaze3d.vertex.MeshData;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.Tesselator;
+import com.mojang.blaze3d.vertex.VertexFormat;
 import io.github.currenj.gelatinui.gui.IRenderContext;
+import io.github.currenj.gelatinui.gui.components.SpriteGeometry;
+import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.Font;
 import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.renderer.GameRenderer;
+import net.minecraft.client.renderer.LightTexture;
 import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.entity.ItemRenderer;
+import net.minecraft.client.renderer.texture.OverlayTexture;
+import net.minecraft.client.resources.model.BakedModel;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.FastColor;
+import net.minecraft.world.item.ItemDisplayContext;
+import net.minecraft.world.item.ItemStack;
+import org.joml.Matrix4f;
+
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Minecraft-specific implementation of IRenderContext.
  * Adapts Minecraft's GuiGraphics to the GUI system's rendering interface.
  */
 public class MinecraftRenderContext implements IRenderContext {
-    private final GuiGraphics graphics;
-    private final Font font;
+    private GuiGraphics graphics;
+    private Font font;
+
+    // Scratch buffers for renderItems, grown on demand
+    private BakedModel[] batchModels = new BakedModel[0];
+    private int[] blockLitIndices = new int[0];
+    private int[] flatIndices = new int[0];
 
     public MinecraftRenderContext(GuiGraphics graphics, Font font) {
         this.graphics = graphics;
         this.font = font;
     }
 
+    /**
+     * Point this context at another frame's GuiGraphics, keeping its scratch buffers. Minecraft creates a new
+     * GuiGraphics every frame, so holders reuse one context this way instead of allocating one per frame.
+     */
+    public MinecraftRenderContext rebind(GuiGraphics graphics, Font font) {
+        this.graphics = graphics;
+        this.font = font;
+        return this;
+    }
+
     @Override
     public void fill(int x1, int y1, int x2, int y2, int color) {
         graphics.fill(x1, y1, x2, y2, color);
@@ -51,11 +87,33 @@ public class MinecraftRenderContext implements IRenderContext {
         graphics.enableScissor(x, y, x + width, y + height);
     }
 
+    @Override
+    public void pushLocalScissor(int x, int y, int width, int height) {
+        // Map through the pose (translation and uniform scale only in this UI) into screen coordinates
+        Matrix4f m = graphics.pose().last().pose();
+        int x1 = (int) Math.floor(m.m30() + x * m.m00());
+        int y1 = (int) Math.floor(m.m31() + y * m.m11());
+        int x2 = (int) Math.ceil(m.m30() + (x + width) * m.m00());
+        int y2 = (int) Math.ceil(m.m31() + (y + height) * m.m11());
+        graphics.enableScissor(x1, y1, x2, y2);
+    }
+
     @Override
     public void popScissor() {
         graphics.disableScissor();
     }
 
+    @Override
+    public void pushTranslation(float x, float y) {
+        graphics.pose().pushPose();
+        graphics.pose().translate(x, y, 0);
+    }
+
+    @Override
+    public void popTranslation() {
+        graphics.pose().popPose();
+    }
+
     @Override
     public void enableBlend() {
         RenderSystem.enableBlend();
@@ -80,6 +138,186 @@ public class MinecraftRenderContext implements IRenderContext {
         graphics.blit(texture, x, y, width, height, (float) u, (float) v, regionWidth, regionHeight, textureWidth, textureHeight);
     }
 
+    /**
+     * Submits every stretched quad of the geometry in a single draw with one texture bind,
+     * then draws each tiled region as one repeat-sampled quad.
+     */
+    @Override
+    public void drawSpriteGeometry(SpriteGeometry geometry, int x, int y) {
+        int quadCount = geometry.getQuadCount();
+        if (quadCount == 0) {
+            return;
+        }
+
+        int[] quads = geometry.getQuads();
+        float[] uvs = geometry.getUVs();
+        Matrix4f matrix = graphics.pose().last().pose();
+        int tiledCount = 0;
+
+        RenderSystem.setShaderTexture(0, geometry.getTexture());
+        RenderSystem.setShader(GameRenderer::getPositionTexShader);
+        BufferBuilder builder = Tesselator.getInstance().begin(VertexFormat.Mode.QUADS, DefaultVertexFormat.POSITION_TEX);
+        for (int i = 0; i < quadCount; i++) {
+            int q = i * SpriteGeometry.QUAD_STRIDE;
+            if (SpriteGeometry.isTiled(quads, q)) {
+                tiledCount++;
+                continue;
+            }
+            int t = i * 4;
+            float x1 = x + quads[q];
+            float y1 = y + quads[q + 1];
+            float x2 = x1 + quads[q + 2];
+            float y2 = y1 + quads[q + 3];
+            builder.addVertex(matrix, x1, y1, 0).setUv(uvs[t], uvs[t + 1]);
+            builder.addVertex(matrix, x1, y2, 0).setUv(uvs[t], uvs[t + 3]);
+            builder.addVertex(matrix, x2, y2, 0).setUv(uvs[t + 2], uvs[t + 3]);
+            builder.addVertex(matrix, x2, y1, 0).setUv(uvs[t + 2], uvs[t + 1]);
+        }
+        MeshData mesh = builder.build();
+        if (mesh != null) {
+            BufferUploader.drawWithShader(mesh);
+        }
+
+        if (tiledCount > 0) {
+            for (int i = 0; i < quadCount; i++) {
+                int q = i * SpriteGeometry.QUAD_STRIDE;
+                if (SpriteGeometry.isTiled(quads, q)) {
+                    drawTiledRegion(geometry.getTexture(), x + quads[q], y + quads[q + 1], quads[q + 2], quads[q + 3],
+                            quads[q + 4], quads[q + 5], quads[q + 6], quads[q + 7],
+                            geometry.getTextureWidth(), geometry.getTextureHeight(), quads[q + 8], quads[q + 9]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Draws the whole region as a single quad sampling a repeat-wrapped copy of the source region,
+     * with UVs running past 1.0 once per tile. Falls back to one blit per tile when the region cannot be cached.
+     */
+    @Override
+    public void drawTiledRegion(ResourceLocation texture, int x, int y, int width, int height,
+                                int u, int v, int regionW, int regionH,
+                                int textureW, int textureH, int tileW, int tileH) {
+        if (width <= 0 || height <= 0 || tileW <= 0 || tileH <= 0) {
+            return;
+        }
+
+        int repeatTexture = RepeatTextureCache.getInstance().getRepeatTexture(texture, u, v, regionW, regionH, textureW, textureH);
+        if (repeatTexture < 0) {
+            IRenderContext.super.drawTiledRegion(texture, x, y, width, height, u, v, regionW, regionH, textureW, textureH, tileW, tileH);
+            return;
+        }
+
+        float uSpan = width / (float) tileW;
+        // Render target textures are stored bottom-up, so V runs downward from 1
+        float vTop = 1.0f;
+        float vBottom = 1.0f - height / (float) tileH;
+        Matrix4f matrix = graphics.pose().last().pose();
+
+        RenderSystem.setShaderTexture(0, repeatTexture);
+        RenderSystem.setShader(GameRenderer::getPositionTexShader);
+        BufferBuilder builder = Tesselator.getInstance().begin(VertexFormat.Mode.QUADS, DefaultVertexFormat.POSITION_TEX);
+        builder.addVertex(matrix, x, y, 0).setUv(0f, vTop);
+        builder.addVertex(matrix, x, y + height, 0).setUv(0f, vBottom);
+        builder.addVertex(matrix, x + width, y + height, 0).setUv(uSpan, vBottom);
+        builder.addVertex(matrix, x + width, y, 0).setUv(uSpan, vTop);
+        BufferUploader.drawWithShader(builder.buildOrThrow());
+    }
+
+    /**
+     * Render an item icon through the shared icon atlas, falling back to live rendering when uncached.
+     * Decorations are not included; draw them with GuiGraphics.renderItemDecorations afterwards.
+     */
+    public void renderItem(ItemStack stack, int x, int y) {
+        ItemIconCache.getInstance().renderItem(graphics, stack, x, y);
+    }
+
+    /**
+     * Batched item rendering. Icons served by ItemIconCache are collected and drawn with one draw call per atlas
+     * page; the rest are grouped by block-lit vs flat models so lighting is configured once per group and the shared buffer source is
+     * flushed once per group instead of once per item.
+     */
+    @Override
+    public void renderItems(List<ItemStack> stacks, int[] positions, float scale) {
+        int count = Math.min(stacks.size(), positions.length / 2);
+        if (count == 0) {
+            return;
+        }
+        if (batchModels.length < count) {
+            batchModels = new BakedModel[count];
+            blockLitIndices = new int[count];
+            flatIndices = new int[count];
+        }
+
+        Minecraft mc = Minecraft.getInstance();
+        ItemRenderer itemRenderer = mc.getItemRenderer();
+        ItemIconCache cache = ItemIconCache.getInstance();
+        PoseStack pose = graphics.pose();
+        int blockLitCount = 0;
+        int flatCount = 0;
+
+        cache.beginBatch(graphics);
+        for (int i = 0; i < count; i++) {
+            ItemStack stack = stacks.get(i);
+            if (stack.isEmpty()) {
+                continue;
+            }
+
+            pose.pushPose();
+            pose.translate(positions[i * 2], positions[i * 2 + 1], 0);
+            pose.scale(scale, scale, 1.0f);
+            boolean cached = cache.renderCached(graphics, stack, 0, 0);
+            pose.popPose();
+            if (cached) {
+                continue;
+            }
+
+            // Seed 0, as GuiGraphics.renderItem uses, so seed-dependent models look the same batched or not
+            BakedModel model = itemRenderer.getModel(stack, mc.level, mc.player, 0);
+            batchModels[i] = model;
+            if (model.usesBlockLight()) {
+                blockLitIndices[blockLitCount++] = i;
+            } else {
+                flatIndices[flatCount++] = i;
+            }
+        }
+        cache.endBatch();
+
+        submitItemGroup(itemRenderer, stacks, positions, scale, blockLitIndices, blockLitCount, false);
+        submitItemGroup(itemRenderer, stacks, positions, scale, flatIndices, flatCount, true);
+        Arrays.fill(batchModels, 0, count, null);
+    }
+
+    private void submitItemGroup(ItemRenderer itemRenderer, List<ItemStack> stacks, int[] positions, float scale,
+                                 int[] indices, int indexCount, boolean flatLighting) {
+        if (indexCount == 0) {
+            return;
+        }
+
+        if (flatLighting) {
+            Lighting.setupForFlatItems();
+        }
+
+        PoseStack pose = graphics.pose();
+        for (int n = 0; n < indexCount; n++) {
+            int i = indices[n];
+            pose.pushPose();
+            pose.translate(positions[i * 2], positions[i * 2 + 1], 0);
+            pose.scale(scale, scale, 1.0f);
+            // Same transform GuiGraphics.renderItem applies: centre of the 16x16 slot, item model space
+            pose.translate(8.0f, 8.0f, 150.0f);
+            pose.scale(16.0f, -16.0f, 16.0f);
+            itemRenderer.render(stacks.get(i), ItemDisplayContext.GUI, false, pose, graphics.bufferSource(),
+                    LightTexture.FULL_BRIGHT, OverlayTexture.NO_OVERLAY, batchModels[i]);
+            pose.popPose();
+        }
+        graphics.flush();
+
+        if (flatLighting) {
+            Lighting.setupFor3DItems();
+        }
+    }
+
     /**
      * Get the underlying GuiGraphics for advanced rendering operations.
      */
@@ -0,0 +1,255 @@
+package io.github.currenj.gelatinui.gui.minecraft;
+
+import com.mojang.blaze3d.pipeline.RenderTarget;
+import com.mojang.blaze3d.pipeline.TextureTarget;
+import com.mojang.blaze3d.platform.GlStateManager;
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.BufferUploader;
+import com.mojang.blaze3d.vertex.DefaultVertexFormat;
+import com.mojang.blaze3d.vertex.Tesselator;
+import com.mojang.blaze3d.vertex.VertexFormat;
+import com.mojang.blaze3d.vertex.VertexSorting;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.GameRenderer;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ReloadableResourceManager;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
+import org.joml.Matrix4f;
+import org.joml.Matrix4fStack;
+import org.lwjgl.opengl.GL11;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Copies texture regions into standalone textures with GL_REPEAT wrapping.
+ *
+ * A region inside a larger atlas cannot be tiled by the sampler directly, since wrapping applies to the whole
+ * texture. Each distinct region is copied once into its own small texture; tiled fills can then be drawn as a
+ * single quad whose UVs run past 1.0, making tiling cost constant regardless of area. A resource reload drops
+ * every baked region. At most {@link #setMaxCachedRegions} regions are kept; the least recently used one is
+ * destroyed to make room.
+ *
+ * All methods must be called on the render thread.
+ */
+public final class RepeatTextureCache {
+    private static final RepeatTextureCache INSTANCE = new RepeatTextureCache();
+
+    /**
+     * Largest region width or height that is copied into a repeat texture; bigger regions are tiled with one
+     * blit per tile instead. A compile-time constant, so contexts without Minecraft can read it.
+     */
+    public static final int MAX_REGION_SIZE = 512;
+
+    private static final int DEFAULT_MAX_CACHED_REGIONS = 256;
+
+    private static boolean enabled = true;
+    private static int maxCachedRegions = DEFAULT_MAX_CACHED_REGIONS;
+
+    private static final ResourceManagerReloadListener RELOAD_LISTENER = resourceManager -> INSTANCE.invalidateAll();
+    private static boolean listenerRegistered = false;
+
+    // Access-ordered so iteration starts at the least recently used region
+    private final LinkedHashMap<RegionKey, RenderTarget> textures = new LinkedHashMap<>(16, 0.75f, true);
+    // Reused for lookups; only baked regions get a key of their own
+    private final RegionKey probe = new RegionKey();
+    private final SavedScissor savedScissor = new SavedScissor();
+    private long evictions = 0;
+
+    private RepeatTextureCache() {
+    }
+
+    public static RepeatTextureCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Enable or disable single-quad tiling globally. When disabled, tiles are drawn one blit each.
+     */
+    public static void setEnabled(boolean enabled) {
+        RepeatTextureCache.enabled = enabled;
+        if (!enabled) {
+            INSTANCE.invalidateAll();
+        }
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Set how many baked regions are kept on the GPU before the least recently used ones are destroyed.
+     */
+    public static void setMaxCachedRegions(int max) {
+        maxCachedRegions = Math.max(1, max);
+        INSTANCE.trim();
+    }
+
+    public static int getMaxCachedRegions() {
+        return maxCachedRegions;
+    }
+
+    /**
+     * Get the GL texture id of a repeat-wrapped copy of the region, creating it on first use.
+     * @return the texture id, or -1 if the region cannot be served and must be tiled per blit
+     */
+    public int getRepeatTexture(ResourceLocation texture, int u, int v, int regionW, int regionH, int textureW, int textureH) {
+        if (!enabled || !RenderSystem.isOnRenderThread()
+                || regionW <= 0 || regionH <= 0 || regionW > MAX_REGION_SIZE || regionH > MAX_REGION_SIZE) {
+            return -1;
+        }
+
+        probe.set(texture, u, v, regionW, regionH, textureW, textureH);
+        RenderTarget target = textures.get(probe);
+        if (target == null) {
+            registerReloadListener();
+            RegionKey key = probe.copy();
+            target = bake(key);
+            textures.put(key, target);
+            trim();
+        }
+        return target.getColorTextureId();
+    }
+
+    /**
+     * Release every baked region. Runs on every resource reload so regions pick up new textures.
+     */
+    public void invalidateAll() {
+        for (RenderTarget target : textures.values()) {
+            target.destroyBuffers();
+        }
+        textures.clear();
+    }
+
+    public int getCachedRegionCount() {
+        return textures.size();
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    private void trim() {
+        // Tiled draws are submitted immediately, so a region drawn earlier this frame can go at once
+        Iterator<Map.Entry<RegionKey, RenderTarget>> it = textures.entrySet().iterator();
+        while (textures.size() > maxCachedRegions && it.hasNext()) {
+            it.next().getValue().destroyBuffers();
+            it.remove();
+            evictions++;
+        }
+    }
+
+    private static void registerReloadListener() {
+        // Registered lazily, as UITemplates does; the client resource manager lives for the whole session
+        if (!listenerRegistered && Minecraft.getInstance().getResourceManager() instanceof ReloadableResourceManager reloadable) {
+            reloadable.registerReloadListener(RELOAD_LISTENER);
+            listenerRegistered = true;
+        }
+    }
+
+    private RenderTarget bake(RegionKey key) {
+        Minecraft mc = Minecraft.getInstance();
+        RenderTarget main = mc.getMainRenderTarget();
+
+        // The caller's clip is in screen space; left on, it would cut into the copy and be cached that way
+        savedScissor.saveAndDisable();
+        boolean blendWasEnabled = GL11.glIsEnabled(GL11.GL_BLEND);
+
+        RenderTarget target = new TextureTarget(key.regionW, key.regionH, false, Minecraft.ON_OSX);
+        target.setClearColor(0f, 0f, 0f, 0f);
+        target.clear(Minecraft.ON_OSX);
+
+        Matrix4f savedProjection = RenderSystem.getProjectionMatrix();
+        VertexSorting savedSorting = RenderSystem.getVertexSorting();
+
+        target.bindWrite(true);
+        RenderSystem.setProjectionMatrix(new Matrix4f().setOrtho(0f, key.regionW, key.regionH, 0f, 1000f, 21000f), VertexSorting.ORTHOGRAPHIC_Z);
+        Matrix4fStack modelView = RenderSystem.getModelViewStack();
+        modelView.pushMatrix();
+        modelView.translation(0f, 0f, -11000f);
+        RenderSystem.applyModelViewMatrix();
+
+        // Straight copy of the texels, including alpha
+        RenderSystem.disableBlend();
+        RenderSystem.setShaderTexture(0, key.texture);
+        RenderSystem.setShader(GameRenderer::getPositionTexShader);
+
+        float u0 = key.u / (float) key.textureW;
+        float u1 = (key.u + key.regionW) / (float) key.textureW;
+        float v0 = key.v / (float) key.textureH;
+        float v1 = (key.v + key.regionH) / (float) key.textureH;
+        Matrix4f identity = new Matrix4f();
+        BufferBuilder builder = Tesselator.getInstance().begin(VertexFormat.Mode.QUADS, DefaultVertexFormat.POSITION_TEX);
+        builder.addVertex(identity, 0, 0, 0).setUv(u0, v0);
+        builder.addVertex(identity, 0, key.regionH, 0).setUv(u0, v1);
+        builder.addVertex(identity, key.regionW, key.regionH, 0).setUv(u1, v1);
+        builder.addVertex(identity, key.regionW, 0, 0).setUv(u1, v0);
+        BufferUploader.drawWithShader(builder.buildOrThrow());
+
+        modelView.popMatrix();
+        RenderSystem.applyModelViewMatrix();
+        RenderSystem.setProjectionMatrix(savedProjection, savedSorting);
+        main.bindWrite(true);
+        if (blendWasEnabled) {
+            RenderSystem.enableBlend();
+        }
+        savedScissor.restore();
+
+        target.setFilterMode(GL11.GL_NEAREST);
+        GlStateManager._bindTexture(target.getColorTextureId());
+        GlStateManager._texParameter(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_WRAP_S, GL11.GL_REPEAT);
+        GlStateManager._texParameter(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_WRAP_T, GL11.GL_REPEAT);
+        GlStateManager._bindTexture(0);
+        return target;
+    }
+
+    /**
+     * Identity of a baked region. Mutable so lookups can reuse one probe instance; keys held by the cache are
+     * copies and never change.
+     */
+    private static final class RegionKey {
+        ResourceLocation texture;
+        int u;
+        int v;
+        int regionW;
+        int regionH;
+        int textureW;
+        int textureH;
+
+        void set(ResourceLocation texture, int u, int v, int regionW, int regionH, int textureW, int textureH) {
+            this.texture = texture;
+            this.u = u;
+            this.v = v;
+            this.regionW = regionW;
+            this.regionH = regionH;
+            this.textureW = textureW;
+            this.textureH = textureH;
+        }
+
+        RegionKey copy() {
+            RegionKey key = new RegionKey();
+            key.set(texture, u, v, regionW, regionH, textureW, textureH);
+            return key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof RegionKey other && u == other.u && v == other.v && regionW == other.regionW
+                    && regionH == other.regionH && textureW == other.textureW && textureH == other.textureH
+                    && texture.equals(other.texture);
+        }
+
+        @Override
+        public int hashCode() {
+            int h = texture.hashCode();
+            h = h * 31 + u;
+            h = h * 31 + v;
+            h = h * 31 + regionW;
+            h = h * 31 + regionH;
+            h = h * 31 + textureW;
+            return h * 31 + textureH;
+        }
+    }
+}
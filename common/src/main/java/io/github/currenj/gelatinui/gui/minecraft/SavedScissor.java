@@ -0,0 +1,36 @@
+package io.github.currenj.gelatinui.gui.minecraft;
+
+import com.mojang.blaze3d.platform.GlStateManager;
+import org.lwjgl.opengl.GL11;
+
+/**
+ * Scissor test state read back from GL, so an off-screen pass can draw unclipped and then put back whatever
+ * clip the caller had set through GuiGraphics.
+ */
+final class SavedScissor {
+    private final int[] box = new int[4];
+    private boolean enabled;
+
+    /**
+     * Remember the current scissor state and turn the test off.
+     */
+    void saveAndDisable() {
+        enabled = GL11.glIsEnabled(GL11.GL_SCISSOR_TEST);
+        if (enabled) {
+            GL11.glGetIntegerv(GL11.GL_SCISSOR_BOX, box);
+            GlStateManager._disableScissorTest();
+        }
+    }
+
+    /**
+     * Put back the state saved by {@link #saveAndDisable()}.
+     */
+    void restore() {
+        if (enabled) {
+            GlStateManager._enableScissorTest();
+            GlStateManager._scissorBox(box[0], box[1], box[2], box[3]);
+        } else {
+            GlStateManager._disableScissorTest();
+        }
+    }
+}
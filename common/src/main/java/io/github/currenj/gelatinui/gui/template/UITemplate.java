@@ -0,0 +1,240 @@
+package io.github.currenj.gelatinui.gui.template;
+
+import io.github.currenj.gelatinui.gui.IRenderContext;
+import io.github.currenj.gelatinui.gui.IUIElement;
+import io.github.currenj.gelatinui.gui.UI;
+import io.github.currenj.gelatinui.gui.UIContainer;
+import io.github.currenj.gelatinui.gui.UIElement;
+import io.github.currenj.gelatinui.gui.components.HBox;
+import io.github.currenj.gelatinui.gui.components.Panel;
+import io.github.currenj.gelatinui.gui.components.SpriteButton;
+import io.github.currenj.gelatinui.gui.components.SpriteData;
+import io.github.currenj.gelatinui.gui.components.SpriteRectangle;
+import io.github.currenj.gelatinui.gui.components.VBox;
+import net.minecraft.resources.ResourceLocation;
+import org.joml.Vector2f;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A compiled UI layout. Parsing, validation and sprite/color resolution happen once in
+ * {@link UITemplateCompiler}; {@link #instantiate} only walks the pre-resolved nodes and creates elements
+ * through the {@link UI} builders, so recycled elements are reused.
+ *
+ * Templates are immutable and can be instantiated any number of times.
+ */
+public final class UITemplate {
+    private final ResourceLocation id;
+    private final Node root;
+    private final int nodeCount;
+    private final int namedCount;
+
+    UITemplate(ResourceLocation id, Node root, int nodeCount, int namedCount) {
+        this.id = id;
+        this.root = root;
+        this.nodeCount = nodeCount;
+        this.namedCount = namedCount;
+    }
+
+    /**
+     * Layout id this template was loaded from, or null for templates compiled from code.
+     */
+    public ResourceLocation getId() {
+        return id;
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Build a new element tree from this template.
+     * @param context used to measure labels
+     */
+    public Instance instantiate(IRenderContext context) {
+        Map<String, IUIElement> named = namedCount > 0 ? new HashMap<>(namedCount * 2) : Collections.emptyMap();
+        IUIElement element = root.create(context, named);
+        return new Instance(element, named);
+    }
+
+    /**
+     * Element tree built from a template, with the elements that declared an id.
+     */
+    public static final class Instance {
+        private final IUIElement root;
+        private final Map<String, IUIElement> named;
+
+        Instance(IUIElement root, Map<String, IUIElement> named) {
+            this.root = root;
+            this.named = named;
+        }
+
+        public IUIElement getRoot() {
+            return root;
+        }
+
+        /**
+         * Element declared with the given id, or null.
+         */
+        public IUIElement find(String id) {
+            return named.get(id);
+        }
+
+        /**
+         * Element declared with the given id, cast to the expected type.
+         * @throws IllegalArgumentException if there is no such element or it has a different type
+         */
+        public <E extends IUIElement> E get(String id, Class<E> type) {
+            IUIElement element = named.get(id);
+            if (element == null) {
+                throw new IllegalArgumentException("No element with id '" + id + "'");
+            }
+            if (!type.isInstance(element)) {
+                throw new IllegalArgumentException("Element '" + id + "' is a " + element.getClass().getSimpleName()
+                        + ", not a " + type.getSimpleName());
+            }
+            return type.cast(element);
+        }
+    }
+
+    enum NodeType {
+        VBOX("vbox"),
+        HBOX("hbox"),
+        PANEL("panel"),
+        LABEL("label"),
+        RECTANGLE("rectangle"),
+        SPRITE("sprite"),
+        BUTTON("button");
+
+        final String key;
+
+        NodeType(String key) {
+            this.key = key;
+        }
+
+        static NodeType byKey(String key) {
+            for (NodeType type : values()) {
+                if (type.key.equals(key)) {
+                    return type;
+                }
+            }
+            return null;
+        }
+
+        boolean isContainer() {
+            return this == VBOX || this == HBOX || this == PANEL;
+        }
+    }
+
+    /**
+     * One pre-resolved element description. Fields not used by a node's type keep their defaults.
+     */
+    static final class Node {
+        NodeType type;
+        String id;
+        boolean hasPosition;
+        float x;
+        float y;
+        boolean hasSize;
+        float width;
+        float height;
+        boolean visible = true;
+        float scale = 1.0f;
+        Node[] children = new Node[0];
+
+        // Layout containers
+        float spacing;
+        float padding;
+        VBox.Alignment vboxAlignment = VBox.Alignment.LEFT;
+        HBox.Alignment hboxAlignment = HBox.Alignment.TOP;
+        boolean fillWidth;
+        boolean fillHeight;
+        float scaleToWidth;
+        float scaleToHeight;
+
+        // Panel
+        boolean hasBackground;
+        int backgroundColor;
+        SpriteData backgroundSprite;
+        boolean autoSize;
+
+        // Label, rectangle, sprite and button
+        String text;
+        int color = 0xFFFFFFFF;
+        int textColor = 0xFFFFFFFF;
+        boolean centered;
+        SpriteData sprite;
+
+        IUIElement create(IRenderContext context, Map<String, IUIElement> named) {
+            UIElement<?> element = switch (type) {
+                case VBOX -> UI.vbox()
+                        .spacing(spacing)
+                        .padding(padding)
+                        .alignment(vboxAlignment)
+                        .fillWidth(fillWidth)
+                        .fillHeight(fillHeight)
+                        .scaleToWidth(scaleToWidth)
+                        .scaleToHeight(scaleToHeight);
+                case HBOX -> UI.hbox()
+                        .spacing(spacing)
+                        .padding(padding)
+                        .alignment(hboxAlignment)
+                        .fillWidth(fillWidth)
+                        .fillHeight(fillHeight)
+                        .scaleToWidth(scaleToWidth)
+                        .scaleToHeight(scaleToHeight);
+                case PANEL -> createPanel();
+                case LABEL -> UI.label(context, text, color).centered(centered);
+                case RECTANGLE -> UI.rectangle(width, height, color);
+                case SPRITE -> createSprite(new SpriteRectangle.SpriteRectangleImpl(width, height, color));
+                case BUTTON -> createSprite(new SpriteButton(width, height, color));
+            };
+
+            if (hasSize && type != NodeType.RECTANGLE && type != NodeType.SPRITE && type != NodeType.BUTTON) {
+                element.setSize(width, height);
+            }
+            if (hasPosition) {
+                element.setPosition(new Vector2f(x, y));
+            }
+            if (scale != 1.0f) {
+                element.setTargetScale(scale, false);
+            }
+            if (!visible) {
+                element.setVisible(false);
+            }
+            if (id != null) {
+                element.setDebugName(id);
+                named.put(id, element);
+            }
+            if (element instanceof UIContainer<?> container) {
+                for (Node child : children) {
+                    container.addChild(child.create(context, named));
+                }
+            }
+            return element;
+        }
+
+        private Panel createPanel() {
+            Panel panel = UI.panel().autoSizeToChildren(autoSize);
+            if (hasBackground) {
+                panel.backgroundColor(backgroundColor);
+            }
+            if (backgroundSprite != null) {
+                panel.backgroundSprite(backgroundSprite);
+            }
+            return panel;
+        }
+
+        private <S extends SpriteRectangle<S>> S createSprite(S element) {
+            if (sprite != null) {
+                element.texture(sprite);
+            }
+            if (text != null) {
+                element.text(text, textColor);
+            }
+            return element;
+        }
+    }
+}
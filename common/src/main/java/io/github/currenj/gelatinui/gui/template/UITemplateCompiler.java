@@ -0,0 +1,320 @@
+package io.github.currenj.gelatinui.gui.template;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import io.github.currenj.gelatinui.gui.components.HBox;
+import io.github.currenj.gelatinui.gui.components.SpriteData;
+import io.github.currenj.gelatinui.gui.components.SpriteRenderMode;
+import io.github.currenj.gelatinui.gui.components.VBox;
+import net.minecraft.resources.ResourceLocation;
+
+import java.io.Reader;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compiles the JSON layout format into {@link UITemplate}s.
+ *
+ * A layout is one element object; containers list theirs under "children":
+ * <pre>
+ * { "type": "vbox", "spacing": 10, "padding": 30, "alignment": "center", "fillWidth": true,
+ *   "children": [
+ *     { "type": "label", "id": "title", "text": "Hello", "color": "#FFFFFF55", "scale": 1.5 },
+ *     { "type": "button", "id": "ok", "width": 80, "height": 20, "color": "#FF4682B4", "text": "OK" },
+ *     { "type": "sprite", "width": 64, "height": 64,
+ *       "texture": { "location": "gelatinui:textures/gui/panel.png", "uv": [0, 0, 32, 32],
+ *                    "textureSize": [64, 64], "mode": "slice", "slice": [4, 4, 4, 4] } }
+ *   ] }
+ * </pre>
+ * Types: vbox, hbox, panel, label, rectangle, sprite and button. Every element accepts id, x, y, width,
+ * height, visible and scale. Colors are "#AARRGGBB", "#RRGGBB" (opaque) or an integer; a texture is a
+ * location string or an object as above.
+ *
+ * Unknown types, unknown properties and bad values are rejected with an IllegalArgumentException naming the
+ * offending path, so a broken layout fails when it is loaded rather than when it is shown.
+ */
+public final class UITemplateCompiler {
+    private static final Set<String> COMMON_KEYS = Set.of("type", "id", "x", "y", "width", "height", "visible", "scale");
+    private static final Set<String> BOX_KEYS = Set.of("children", "spacing", "padding", "alignment",
+            "fillWidth", "fillHeight", "scaleToWidth", "scaleToHeight");
+    private static final Set<String> PANEL_KEYS = Set.of("children", "background", "backgroundTexture", "autoSize");
+    private static final Set<String> LABEL_KEYS = Set.of("text", "color", "centered");
+    private static final Set<String> RECTANGLE_KEYS = Set.of("color");
+    private static final Set<String> SPRITE_KEYS = Set.of("color", "texture", "text", "textColor");
+    private static final Set<String> TEXTURE_KEYS = Set.of("location", "uv", "textureSize", "mode", "slice", "tileScale");
+
+    private UITemplateCompiler() {
+    }
+
+    /**
+     * Parse and compile a layout.
+     * @param id layout id, used in error messages; may be null
+     */
+    public static UITemplate compile(ResourceLocation id, Reader reader) {
+        JsonElement json;
+        try {
+            json = JsonParser.parseReader(reader);
+        } catch (JsonParseException e) {
+            throw new IllegalArgumentException(describe(id) + ": malformed JSON: " + e.getMessage(), e);
+        }
+        return compile(id, json);
+    }
+
+    /**
+     * Compile an already parsed layout.
+     * @param id layout id, used in error messages; may be null
+     */
+    public static UITemplate compile(ResourceLocation id, JsonElement json) {
+        Compilation compilation = new Compilation(describe(id));
+        UITemplate.Node root = compilation.node(json, "");
+        return new UITemplate(id, root, compilation.nodeCount, compilation.ids.size());
+    }
+
+    private static String describe(ResourceLocation id) {
+        return id != null ? id.toString() : "<layout>";
+    }
+
+    private static final class Compilation {
+        final String source;
+        final Set<String> ids = new HashSet<>();
+        int nodeCount = 0;
+
+        Compilation(String source) {
+            this.source = source;
+        }
+
+        UITemplate.Node node(JsonElement json, String path) {
+            if (!json.isJsonObject()) {
+                throw error(path, "expected an element object");
+            }
+            JsonObject obj = json.getAsJsonObject();
+            String typeKey = string(obj, "type", path, null);
+            if (typeKey == null) {
+                throw error(path, "missing \"type\"");
+            }
+            UITemplate.NodeType type = UITemplate.NodeType.byKey(typeKey);
+            if (type == null) {
+                throw error(path, "unknown type '" + typeKey + "'");
+            }
+            checkKeys(obj, path, switch (type) {
+                case VBOX, HBOX -> BOX_KEYS;
+                case PANEL -> PANEL_KEYS;
+                case LABEL -> LABEL_KEYS;
+                case RECTANGLE -> RECTANGLE_KEYS;
+                case SPRITE, BUTTON -> SPRITE_KEYS;
+            });
+            nodeCount++;
+
+            UITemplate.Node node = new UITemplate.Node();
+            node.type = type;
+            node.id = string(obj, "id", path, null);
+            if (node.id != null && !ids.add(node.id)) {
+                throw error(path, "duplicate id '" + node.id + "'");
+            }
+            node.hasPosition = obj.has("x") || obj.has("y");
+            node.x = number(obj, "x", path, 0f);
+            node.y = number(obj, "y", path, 0f);
+            node.hasSize = obj.has("width") || obj.has("height");
+            node.width = number(obj, "width", path, 0f);
+            node.height = number(obj, "height", path, 0f);
+            node.visible = bool(obj, "visible", path, true);
+            node.scale = number(obj, "scale", path, 1.0f);
+
+            switch (type) {
+                case VBOX, HBOX -> {
+                    node.spacing = number(obj, "spacing", path, 0f);
+                    node.padding = number(obj, "padding", path, 0f);
+                    String alignment = string(obj, "alignment", path, null);
+                    if (alignment != null) {
+                        if (type == UITemplate.NodeType.VBOX) {
+                            node.vboxAlignment = enumValue(VBox.Alignment.class, alignment, path + ".alignment");
+                        } else {
+                            node.hboxAlignment = enumValue(HBox.Alignment.class, alignment, path + ".alignment");
+                        }
+                    }
+                    node.fillWidth = bool(obj, "fillWidth", path, false);
+                    node.fillHeight = bool(obj, "fillHeight", path, false);
+                    node.scaleToWidth = number(obj, "scaleToWidth", path, 0f);
+                    node.scaleToHeight = number(obj, "scaleToHeight", path, 0f);
+                }
+                case PANEL -> {
+                    if (obj.has("background")) {
+                        node.hasBackground = true;
+                        node.backgroundColor = color(obj.get("background"), path + ".background");
+                    }
+                    if (obj.has("backgroundTexture")) {
+                        node.backgroundSprite = sprite(obj.get("backgroundTexture"), path + ".backgroundTexture");
+                    }
+                    node.autoSize = bool(obj, "autoSize", path, false);
+                }
+                case LABEL -> {
+                    node.text = string(obj, "text", path, "");
+                    node.color = obj.has("color") ? color(obj.get("color"), path + ".color") : 0xFFFFFFFF;
+                    node.centered = bool(obj, "centered", path, false);
+                }
+                case RECTANGLE -> node.color = obj.has("color") ? color(obj.get("color"), path + ".color") : 0xFFFFFFFF;
+                case SPRITE, BUTTON -> {
+                    node.color = obj.has("color") ? color(obj.get("color"), path + ".color") : 0xFFFFFFFF;
+                    if (obj.has("texture")) {
+                        node.sprite = sprite(obj.get("texture"), path + ".texture");
+                    }
+                    node.text = string(obj, "text", path, null);
+                    node.textColor = obj.has("textColor") ? color(obj.get("textColor"), path + ".textColor") : 0xFFFFFFFF;
+                }
+            }
+
+            if (type.isContainer() && obj.has("children")) {
+                JsonElement children = obj.get("children");
+                if (!children.isJsonArray()) {
+                    throw error(path + ".children", "expected an array");
+                }
+                JsonArray array = children.getAsJsonArray();
+                node.children = new UITemplate.Node[array.size()];
+                for (int i = 0; i < array.size(); i++) {
+                    node.children[i] = node(array.get(i), path + ".children[" + i + "]");
+                }
+            }
+            return node;
+        }
+
+        private SpriteData sprite(JsonElement json, String path) {
+            if (json.isJsonPrimitive()) {
+                return SpriteData.texture(location(json, path));
+            }
+            if (!json.isJsonObject()) {
+                throw error(path, "expected a texture location or object");
+            }
+            JsonObject obj = json.getAsJsonObject();
+            checkKeys(obj, path, TEXTURE_KEYS, Set.of());
+            if (!obj.has("location")) {
+                throw error(path, "missing \"location\"");
+            }
+            SpriteData sprite = SpriteData.texture(location(obj.get("location"), path + ".location"));
+            if (obj.has("uv")) {
+                int[] uv = ints(obj.get("uv"), path + ".uv", 2, 4);
+                sprite = uv.length == 4 ? sprite.uv(uv[0], uv[1], uv[2], uv[3]) : sprite.uv(uv[0], uv[1]);
+            }
+            if (obj.has("textureSize")) {
+                int[] textureSize = ints(obj.get("textureSize"), path + ".textureSize", 2, 2);
+                sprite = sprite.textureSize(textureSize[0], textureSize[1]);
+            }
+            if (obj.has("mode")) {
+                sprite = sprite.renderMode(enumValue(SpriteRenderMode.class, string(obj, "mode", path, null), path + ".mode"));
+            }
+            if (obj.has("slice")) {
+                int[] slice = ints(obj.get("slice"), path + ".slice", 4, 4);
+                sprite = sprite.slice(slice[0], slice[1], slice[2], slice[3]);
+            }
+            if (obj.has("tileScale")) {
+                sprite = sprite.tileScale(number(obj, "tileScale", path, 1.0f));
+            }
+            return sprite;
+        }
+
+        private ResourceLocation location(JsonElement json, String path) {
+            ResourceLocation location = json.isJsonPrimitive() ? ResourceLocation.tryParse(json.getAsString()) : null;
+            if (location == null) {
+                throw error(path, "invalid resource location " + json);
+            }
+            return location;
+        }
+
+        private int color(JsonElement json, String path) {
+            if (json.isJsonPrimitive()) {
+                JsonPrimitive primitive = json.getAsJsonPrimitive();
+                if (primitive.isNumber()) {
+                    return (int) primitive.getAsLong();
+                }
+                String value = primitive.getAsString();
+                String hex = value.startsWith("#") ? value.substring(1) : value;
+                if ((hex.length() == 6 || hex.length() == 8) && hex.chars().allMatch(c -> Character.digit(c, 16) >= 0)) {
+                    int rgb = (int) Long.parseLong(hex, 16);
+                    return hex.length() == 6 ? 0xFF000000 | rgb : rgb;
+                }
+            }
+            throw error(path, "invalid color " + json + ", expected \"#AARRGGBB\" or \"#RRGGBB\"");
+        }
+
+        private int[] ints(JsonElement json, String path, int minSize, int maxSize) {
+            int size = json.isJsonArray() ? json.getAsJsonArray().size() : -1;
+            if (size != minSize && size != maxSize) {
+                throw error(path, minSize == maxSize
+                        ? "expected " + minSize + " integers"
+                        : "expected " + minSize + " or " + maxSize + " integers");
+            }
+            JsonArray array = json.getAsJsonArray();
+            int[] values = new int[array.size()];
+            for (int i = 0; i < values.length; i++) {
+                JsonElement element = array.get(i);
+                if (!element.isJsonPrimitive() || !element.getAsJsonPrimitive().isNumber()) {
+                    throw error(path + "[" + i + "]", "expected an integer");
+                }
+                values[i] = element.getAsInt();
+            }
+            return values;
+        }
+
+        private <E extends Enum<E>> E enumValue(Class<E> type, String value, String path) {
+            try {
+                return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw error(path, "unknown value '" + value + "'");
+            }
+        }
+
+        private float number(JsonObject obj, String key, String path, float fallback) {
+            JsonElement json = obj.get(key);
+            if (json == null) {
+                return fallback;
+            }
+            if (!json.isJsonPrimitive() || !json.getAsJsonPrimitive().isNumber()) {
+                throw error(path + "." + key, "expected a number");
+            }
+            return json.getAsFloat();
+        }
+
+        private boolean bool(JsonObject obj, String key, String path, boolean fallback) {
+            JsonElement json = obj.get(key);
+            if (json == null) {
+                return fallback;
+            }
+            if (!json.isJsonPrimitive() || !json.getAsJsonPrimitive().isBoolean()) {
+                throw error(path + "." + key, "expected true or false");
+            }
+            return json.getAsBoolean();
+        }
+
+        private String string(JsonObject obj, String key, String path, String fallback) {
+            JsonElement json = obj.get(key);
+            if (json == null) {
+                return fallback;
+            }
+            if (!json.isJsonPrimitive() || !json.getAsJsonPrimitive().isString()) {
+                throw error(path + "." + key, "expected a string");
+            }
+            return json.getAsString();
+        }
+
+        private void checkKeys(JsonObject obj, String path, Set<String> typeKeys) {
+            checkKeys(obj, path, COMMON_KEYS, typeKeys);
+        }
+
+        private void checkKeys(JsonObject obj, String path, Set<String> keys, Set<String> typeKeys) {
+            for (Map.Entry<String, JsonElement> entry : obj.entrySet()) {
+                if (!keys.contains(entry.getKey()) && !typeKeys.contains(entry.getKey())) {
+                    throw error(path, "unknown property \"" + entry.getKey() + "\"");
+                }
+            }
+        }
+
+        private IllegalArgumentException error(String path, String message) {
+            return new IllegalArgumentException(source + (path.isEmpty() ? "" : " at " + path.substring(1)) + ": " + message);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.currenj.gelatinui.gui.template;
+
+import io.github.currenj.gelatinui.GelatinUi;
+import net.minecraft.client.Minecraft;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ReloadableResourceManager;
+import net.minecraft.server.packs.resources.Resource;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Loads layouts from resource packs and caches the compiled templates across screen openings.
+ *
+ * A layout id {@code mymod:inventory/main} is read from {@code assets/mymod/gelatinui/layouts/inventory/main.json}.
+ * The first lookup compiles the file; later lookups return the cached template. A resource reload (F3+T or a
+ * resource pack change) drops the cache and bumps {@link #getGeneration()}, so edited layouts are picked up
+ * without restarting the game.
+ *
+ * Render thread only.
+ */
+public final class UITemplates {
+    private static final String LAYOUT_DIRECTORY = "gelatinui/layouts/";
+    private static final String LAYOUT_EXTENSION = ".json";
+
+    private static final Map<ResourceLocation, UITemplate> cache = new HashMap<>();
+    private static final ResourceManagerReloadListener RELOAD_LISTENER = resourceManager -> invalidate();
+    private static boolean listenerRegistered = false;
+    private static int generation = 0;
+
+    private UITemplates() {
+    }
+
+    /**
+     * Compiled template for a layout id, loading it from the client resources on first use.
+     * @throws IllegalArgumentException if the layout is missing or invalid
+     */
+    public static UITemplate get(ResourceLocation id) {
+        UITemplate template = cache.get(id);
+        if (template == null) {
+            template = load(Minecraft.getInstance().getResourceManager(), id);
+            cache.put(id, template);
+        }
+        return template;
+    }
+
+    /**
+     * Number of resource reloads seen since startup. Screens built from templates compare it to rebuild
+     * after a reload.
+     */
+    public static int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Drop all compiled templates; they are recompiled on next use.
+     */
+    public static void invalidate() {
+        cache.clear();
+        generation++;
+    }
+
+    public static boolean isCached(ResourceLocation id) {
+        return cache.containsKey(id);
+    }
+
+    /**
+     * Location of a layout's file in the resource packs.
+     */
+    public static ResourceLocation fileOf(ResourceLocation id) {
+        return ResourceLocation.fromNamespaceAndPath(id.getNamespace(), LAYOUT_DIRECTORY + id.getPath() + LAYOUT_EXTENSION);
+    }
+
+    private static UITemplate load(ResourceManager resourceManager, ResourceLocation id) {
+        registerReloadListener(resourceManager);
+
+        ResourceLocation file = fileOf(id);
+        Optional<Resource> resource = resourceManager.getResource(file);
+        if (resource.isEmpty()) {
+            throw new IllegalArgumentException("Layout " + id + " not found, expected " + file);
+        }
+        try (Reader reader = resource.get().openAsReader()) {
+            return UITemplateCompiler.compile(id, reader);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not read layout " + id + " from " + file, e);
+        } catch (IllegalArgumentException e) {
+            GelatinUi.LOGGER.error("Invalid layout {}: {}", id, e.getMessage());
+            throw e;
+        }
+    }
+
+    private static void registerReloadListener(ResourceManager resourceManager) {
+        // Registered lazily so no loader-specific hook is needed; the client resource manager lives for the whole session
+        if (!listenerRegistered && resourceManager instanceof ReloadableResourceManager reloadable) {
+            reloadable.registerReloadListener(RELOAD_LISTENER);
+            listenerRegistered = true;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.currenj.gelatinui.mixin;
+
+import io.github.currenj.gelatinui.gui.minecraft.ItemIconCache;
+import net.minecraft.client.DeltaTracker;
+import net.minecraft.client.renderer.GameRenderer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Marks the start of each rendered frame for per-frame budgets.
+ */
+@Mixin(GameRenderer.class)
+public abstract class GameRendererMixin {
+    @Inject(method = "render", at = @At("HEAD"))
+    private void gelatinui$beginFrame(DeltaTracker deltaTracker, boolean renderLevel, CallbackInfo ci) {
+        ItemIconCache.getInstance().beginFrame();
+    }
+}
@@ -5,6 +5,7 @@ import com.mojang.blaze3d.vertex.VertexConsumer;
 import io.github.currenj.gelatinui.extension.IGuiGraphicsExtension;
 import io.github.currenj.gelatinui.tooltip.ItemStacksInfo;
 import io.github.currenj.gelatinui.tooltip.ItemStacksTooltip;
+import io.github.currenj.gelatinui.tooltip.ItemStacksTooltipCache;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.Font;
 import net.minecraft.client.gui.GuiGraphics;
@@ -79,11 +80,8 @@ public abstract class GuiGraphicsMixin implements IGuiGraphicsExtension {
         {
             HoverEvent hoverEvent = style.getHoverEvent();
             if (hoverEvent.getValue(ItemStacksTooltip.SHOW_ITEM_STACKS) instanceof ItemStacksInfo itemStacksInfo) {
-                ItemStacksTooltip tooltipComponent = new ItemStacksTooltip(
-                        itemStacksInfo.getItemStacks(),
-                        false
-                );
-                gelatinui$renderTooltip(font, Optional.of(tooltipComponent), i, j);
+                // Built once per payload and reused every frame the hover lasts
+                this.renderTooltipInternal(font, ItemStacksTooltipCache.get(itemStacksInfo), i, j, DefaultTooltipPositioner.INSTANCE);
             }
         }
     }
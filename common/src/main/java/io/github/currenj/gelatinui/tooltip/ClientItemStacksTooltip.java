@@ -1,5 +1,6 @@
 package io.github.currenj.gelatinui.tooltip;
 
+import io.github.currenj.gelatinui.gui.minecraft.MinecraftRenderContext;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.Font;
 import net.minecraft.client.gui.GuiGraphics;
@@ -17,42 +18,54 @@ public class ClientItemStacksTooltip implements ClientTooltipComponent {
     private static final int SLOT_SIZE_Y = 20;
     private final List<ItemStack> items;
     private final boolean renderItemDecorations;
+    // Slot icon offsets relative to the tooltip origin, interleaved x,y
+    private final int[] itemPositions;
+    // Grid and background size, fixed by the item count
+    private final int gridSizeX;
+    private final int gridSizeY;
+    private final int backgroundWidth;
+    private final int backgroundHeight;
+    // Reused across frames with its item batching buffers, rebound to each frame's GuiGraphics
+    private MinecraftRenderContext renderContext;
 
     public ClientItemStacksTooltip(List<ItemStack> items, boolean renderItemDecorations) {
         this.items = items;
         this.renderItemDecorations = renderItemDecorations;
+        this.gridSizeX = Math.clamp(items.size(), 1, 9);
+        this.gridSizeY = (items.size() + gridSizeX - 1) / gridSizeX;
+        this.backgroundWidth = gridSizeX * SLOT_SIZE_X + 2;
+        this.backgroundHeight = gridSizeY * SLOT_SIZE_Y + 2;
+        this.itemPositions = new int[items.size() * 2];
+        for (int i = 0; i < items.size(); i++) {
+            itemPositions[i * 2] = (i % gridSizeX) * SLOT_SIZE_X + BORDER_WIDTH + 1;
+            itemPositions[i * 2 + 1] = (i / gridSizeX) * SLOT_SIZE_Y + BORDER_WIDTH + 1;
+        }
     }
 
     @Override
     public int getHeight() {
-        return isShowing() ? this.backgroundHeight() : 0;
+        return isShowing() ? this.backgroundHeight : 0;
     }
 
     @Override
     public int getWidth(Font font) {
-        return isShowing() ? this.backgroundWidth() : 0;
-    }
-
-    private int backgroundWidth() {
-        return isShowing() ? this.gridSizeX() * SLOT_SIZE_X + 2 : 0;
-    }
-
-    private int backgroundHeight() {
-        return isShowing() ? this.gridSizeY() * SLOT_SIZE_Y + 2 : 0;
+        return isShowing() ? this.backgroundWidth : 0;
     }
 
     @Override
     public void renderImage(Font font, int x, int y, GuiGraphics guiGraphics) {
         if(isShowing()) {
-            int xMax = this.gridSizeX();
-            int yMax = this.gridSizeY();
-            int k = 0;
+            guiGraphics.pose().pushPose();
+            guiGraphics.pose().translate(x, y, 0);
+            if (renderContext == null) {
+                renderContext = new MinecraftRenderContext(guiGraphics, font);
+            }
+            renderContext.rebind(guiGraphics, font).renderItems(this.items, this.itemPositions, 1.0f);
+            guiGraphics.pose().popPose();
 
-            for (int yIndex = 0; yIndex < yMax; yIndex++) {
-                for (int xIndex = 0; xIndex < xMax; xIndex++) {
-                    int j1 = x + xIndex * SLOT_SIZE_X + BORDER_WIDTH;
-                    int k1 = y + yIndex * SLOT_SIZE_Y + BORDER_WIDTH;
-                    this.renderSlot(j1, k1, k++, guiGraphics, font);
+            if (this.renderItemDecorations) {
+                for (int i = 0; i < this.items.size(); i++) {
+                    this.renderDecorations(x + itemPositions[i * 2], y + itemPositions[i * 2 + 1], i, guiGraphics, font);
                 }
             }
         }
@@ -63,17 +76,10 @@ public class ClientItemStacksTooltip implements ClientTooltipComponent {
         return player != null;
     }
 
-    private void renderSlot(int x, int y, int itemIndex, GuiGraphics guiGraphics, Font font) {
-        if (itemIndex < this.items.size()) {
-            ItemStack itemstack = this.items.get(itemIndex);
-            if (itemstack.isEmpty()) {
-                return;
-            }
-
-            guiGraphics.renderItem(itemstack, x + 1, y + 1, itemIndex);
-            if (this.renderItemDecorations) {
-                guiGraphics.renderItemDecorations(font, itemstack, x + 1, y + 1);
-            }
+    private void renderDecorations(int x, int y, int itemIndex, GuiGraphics guiGraphics, Font font) {
+        ItemStack itemstack = this.items.get(itemIndex);
+        if (!itemstack.isEmpty()) {
+            guiGraphics.renderItemDecorations(font, itemstack, x, y);
         }
     }
 
@@ -81,14 +87,6 @@ public class ClientItemStacksTooltip implements ClientTooltipComponent {
         guiGraphics.blitSprite(texture.sprite, x, y, texture.w, texture.h);
     }
 
-    private int gridSizeX() {
-        return isShowing() ? Math.clamp(this.items.size(), 1, 9) : 0;
-    }
-
-    private int gridSizeY() {
-        return isShowing() ? (int) (Math.ceil(this.items.size() / (double) gridSizeX())) : 0;
-    }
-
     enum Texture {
         SLOT(ResourceLocation.withDefaultNamespace("container/slot"), 18, 20);
 
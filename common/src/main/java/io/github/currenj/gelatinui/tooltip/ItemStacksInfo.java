@@ -13,11 +13,14 @@ public class ItemStacksInfo {
     public static final Codec<ItemStacksInfo> SIMPLE_CODEC = Codec.list(ItemStack.SIMPLE_ITEM_CODEC).xmap(ItemStacksInfo::new, ItemStacksInfo::getItemStacks);
     public static final Codec<ItemStacksInfo> CODEC = Codec.withAlternative(FULL_CODEC, SIMPLE_CODEC);
     private final List<ItemStack> itemStacks;
+    // Computed once: instances key the client tooltip cache, which is looked up every frame while hovered
+    private final int hash;
 
     public ItemStacksInfo(List<ItemStack> itemStacks) {
         this.itemStacks = itemStacks.stream()
                 .filter(stack -> !stack.isEmpty())
                 .toList();
+        this.hash = Objects.hash(this.itemStacks);
     }
 
     public ItemStacksInfo(ItemStack... itemStacks) {
@@ -38,7 +41,7 @@ public class ItemStacksInfo {
 
     @Override
     public int hashCode() {
-        return Objects.hash(itemStacks);
+        return hash;
     }
 
     public static DataResult<ItemStacksInfo> legacyCreate(Component arg, RegistryOps<?> arg2) {
@@ -0,0 +1,50 @@
+package io.github.currenj.gelatinui.tooltip;
+
+import net.minecraft.client.gui.screens.inventory.tooltip.ClientTooltipComponent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Client tooltip components for chat hover payloads, built once per {@link ItemStacksInfo}.
+ *
+ * A chat hover tooltip is rendered every frame while the pointer rests on the text. Without this cache each frame
+ * built a new ItemStacksTooltip, its ClientItemStacksTooltip and the list holding it. Keys are weak: an entry
+ * goes away with the chat line (and its Style) that holds the payload.
+ *
+ * Render thread only.
+ */
+public final class ItemStacksTooltipCache {
+    private static final Map<ItemStacksInfo, List<ClientTooltipComponent>> components = new WeakHashMap<>();
+
+    private ItemStacksTooltipCache() {
+    }
+
+    /**
+     * The tooltip lines for a payload: a single ClientItemStacksTooltip, created through the loader's tooltip
+     * component factory on first use. The returned list is immutable and shared.
+     */
+    public static List<ClientTooltipComponent> get(ItemStacksInfo info) {
+        return components.computeIfAbsent(info, ItemStacksTooltipCache::build);
+    }
+
+    private static List<ClientTooltipComponent> build(ItemStacksInfo info) {
+        // The component keeps the item list but not the info, so the weak key stays collectable
+        return List.of(ClientTooltipComponent.create(new ItemStacksTooltip(info.getItemStacks(), false)));
+    }
+
+    /**
+     * Number of payloads with a built component still alive.
+     */
+    public static int size() {
+        return components.size();
+    }
+
+    /**
+     * Drop every built component, e.g. after a resource reload.
+     */
+    public static void clear() {
+        components.clear();
+    }
+}
@@ -0,0 +1,148 @@
+package io.github.currenj.gelatinui.gui;
+
+import io.github.currenj.gelatinui.gui.components.HBox;
+import io.github.currenj.gelatinui.gui.components.SpriteButton;
+import io.github.currenj.gelatinui.gui.components.SpriteProgressBar;
+import io.github.currenj.gelatinui.gui.components.VBox;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Steady-state allocation budgets for the per-frame hot path.
+ *
+ * Each scenario builds a screen modelled on one of the example screens, renders it with the headless
+ * context, lets it settle, then measures bytes allocated per frame on the test thread. Each frame runs the
+ * sequence GelatinUIScreen.render does: the pointer position is queued, update(delta, budget) handles the input
+ * batch and the deferred work, update(0, 0) lays out what changed, then the screen renders. The same loop is first measured on an empty screen; each scenario may allocate its
+ * allowance more than that baseline, plus BUDGET_MARGIN for counter noise. Allowances are average bytes per
+ * frame; raise one only alongside the change that justifies it.
+ */
+public class AllocationBudgetTest {
+    private static final int WARMUP_FRAMES = 2_000;
+    private static final int MEASURED_FRAMES = 1_000;
+    private static final float FRAME_DELTA = 1f / 60f;
+    // GelatinUIScreen's default per-frame update budget
+    private static final long UPDATE_BUDGET_NANOS = 4_000_000L;
+
+    // Allowances are scaled by this before comparing, so JIT and TLAB accounting noise does not fail the build
+    private static final float BUDGET_MARGIN = 1.25f;
+
+    /** Static layout, nothing animating: update should be skipped entirely. */
+    private static final long STATIC_SCREEN_BUDGET = 512;
+    /** One element with breathe + wander effects. */
+    private static final long EFFECTS_SCREEN_BUDGET = 4_096;
+    /** Several tab pages, only one visible. */
+    private static final long TABS_SCREEN_BUDGET = 768;
+
+    // Bytes per frame of the measuring loop on an empty screen, measured once
+    private static long baselinePerFrame = -1;
+
+    @Test
+    public void testStaticScreenBudget() {
+        assertWithinBudget("static", STATIC_SCREEN_BUDGET, () -> {
+            HeadlessRenderContext ctx = new HeadlessRenderContext();
+            VBox root = UI.vbox().spacing(10).padding(30).alignment(VBox.Alignment.CENTER);
+            root.addChild(UI.label(ctx, "New GUI System", UI.rgb(255, 255, 255)));
+            root.addChild(UI.label(ctx, "With Dirty Flags & Caching", UI.rgb(200, 200, 200)));
+            root.addChild(UI.progressBar().progress(0.5f).skillLevel(30));
+            HBox buttons = UI.hbox().spacing(10);
+            for (int i = 0; i < 4; i++) {
+                buttons.addChild(UI.spriteButton(60, 20, UI.rgb(100, 100, 255)).text("Button " + i, 0xFFFFFFFF));
+            }
+            root.addChild(buttons);
+            return screenWith(root);
+        });
+    }
+
+    @Test
+    public void testEffectsScreenBudget() {
+        assertWithinBudget("effects", EFFECTS_SCREEN_BUDGET, () -> {
+            HeadlessRenderContext ctx = new HeadlessRenderContext();
+            VBox root = UI.vbox().spacing(20).padding(30).alignment(VBox.Alignment.CENTER);
+            root.addChild(UI.label(ctx, "Effects System Demo", 0xFFFFFFFF));
+            UIElement<?> demoPanel = UI.spriteRectangle(200, 120, UI.rgb(50, 0, 30)).text("Text!", UI.rgb(220, 220, 50));
+            demoPanel.addBreatheEffect();
+            demoPanel.addWanderEffect();
+            root.addChild(demoPanel);
+            HBox row = UI.hbox().spacing(10);
+            row.addChild(new SpriteButton(120, 30, 0xFF4682B4).text("Click Bounce", 0xFFFFFFFF));
+            row.addChild(new SpriteButton(120, 30, 0xFFB44646).text("Shake", 0xFFFFFFFF));
+            root.addChild(row);
+            return screenWith(root);
+        });
+    }
+
+    @Test
+    public void testTabsScreenBudget() {
+        assertWithinBudget("tabs", TABS_SCREEN_BUDGET, () -> {
+            HeadlessRenderContext ctx = new HeadlessRenderContext();
+            VBox root = UI.vbox().spacing(15).padding(30).alignment(VBox.Alignment.CENTER);
+            root.addChild(UI.label(ctx, "Item Tabs:", UI.rgb(200, 200, 255)));
+            for (int tab = 0; tab < 5; tab++) {
+                VBox content = UI.vbox().spacing(4).alignment(VBox.Alignment.CENTER);
+                content.addChild(UI.label(ctx, "Tab " + tab, UI.rgb(180, 220, 255)));
+                content.addChild(new SpriteProgressBar().progress(0.2f * tab));
+                content.addChild(UI.spriteButton(100, 20, UI.rgb(255, 100, 100)).text("Activate", 0xFFFFFFFF));
+                content.setVisible(tab == 0);
+                root.addChild(content);
+            }
+            return screenWith(root);
+        });
+    }
+
+    private static UIScreen screenWith(IUIElement root) {
+        UIScreen screen = new UIScreen(854, 480);
+        screen.setRoot(root);
+        return screen;
+    }
+
+    private static void assertWithinBudget(String scenario, long allowancePerFrame, Supplier<UIScreen> factory) {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean threadBean && threadBean.isThreadAllocatedMemorySupported(),
+                "per-thread allocation counters not supported on this JVM");
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        if (baselinePerFrame < 0) {
+            baselinePerFrame = measurePerFrame(threadBean, () -> screenWith(UI.vbox()));
+        }
+        long perFrame = measurePerFrame(threadBean, factory);
+        long budget = baselinePerFrame + (long) (allowancePerFrame * BUDGET_MARGIN);
+        assertTrue(perFrame <= budget, scenario + " screen allocated " + perFrame + " bytes/frame, budget is " + budget
+                + " (empty screen " + baselinePerFrame + " + allowance " + allowancePerFrame + " with margin)");
+    }
+
+    private static long measurePerFrame(com.sun.management.ThreadMXBean threadBean, Supplier<UIScreen> factory) {
+        long threadId = Thread.currentThread().threadId();
+        UIScreen screen = factory.get();
+        HeadlessRenderContext ctx = new HeadlessRenderContext();
+        for (int i = 0; i < WARMUP_FRAMES; i++) {
+            frame(screen, ctx);
+        }
+
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_FRAMES; i++) {
+            frame(screen, ctx);
+        }
+        long after = threadBean.getThreadAllocatedBytes(threadId);
+
+        return (after - before) / MEASURED_FRAMES;
+    }
+
+    /**
+     * One frame as GelatinUIScreen drives it, with the pointer resting in place.
+     */
+    private static void frame(UIScreen screen, HeadlessRenderContext ctx) {
+        screen.getInputQueue().mouseMove(400, 200);
+        screen.update(FRAME_DELTA, UPDATE_BUDGET_NANOS);
+        screen.update(0f, 0L);
+        ctx.beginFrame();
+        screen.render(ctx);
+        ctx.endFrame();
+    }
+}
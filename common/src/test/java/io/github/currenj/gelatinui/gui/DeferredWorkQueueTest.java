@@ -0,0 +1,148 @@
+package io.github.currenj.gelatinui.gui;
+
+import io.github.currenj.gelatinui.gui.components.Rectangle;
+import io.github.currenj.gelatinui.gui.components.VBox;
+import org.joml.Vector2f;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for budgeted updates and the deferred work queue.
+ */
+public class DeferredWorkQueueTest {
+
+    @Test
+    public void testOnScreenWorkRunsFirst() {
+        UIScreen screen = new UIScreen(100, 100);
+        Rectangle onScreen = new Rectangle(10, 10, 0xFFFFFFFF);
+        Rectangle offScreen = new Rectangle(10, 10, 0xFFFFFFFF);
+        offScreen.setPosition(new Vector2f(500, 500));
+
+        List<String> order = new ArrayList<>();
+        DeferredWorkQueue queue = screen.getDeferredWork();
+        queue.enqueue(offScreen, DeferredWorkQueue.PRIORITY_NORMAL, () -> order.add("off"));
+        queue.enqueue(onScreen, 10, () -> order.add("on-low"));
+        queue.enqueue(onScreen, DeferredWorkQueue.PRIORITY_NORMAL, () -> order.add("on-a"));
+        queue.enqueue(null, DeferredWorkQueue.PRIORITY_NORMAL, () -> order.add("on-b"));
+
+        assertEquals(4, queue.drainAll(screen.getViewport()));
+        assertEquals(List.of("on-a", "on-b", "on-low", "off"), order);
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testScrolledIntoViewMovesToFront() {
+        UIScreen screen = new UIScreen(100, 100);
+        Rectangle first = new Rectangle(10, 10, 0xFFFFFFFF);
+        first.setPosition(new Vector2f(500, 0));
+        Rectangle second = new Rectangle(10, 10, 0xFFFFFFFF);
+        second.setPosition(new Vector2f(500, 0));
+
+        List<String> order = new ArrayList<>();
+        DeferredWorkQueue queue = screen.getDeferredWork();
+        queue.enqueue(first, () -> order.add("first"));
+        queue.enqueue(second, () -> order.add("second"));
+
+        // Second element comes into view before the queue is drained
+        second.setPosition(new Vector2f(0, 0));
+        queue.drainAll(screen.getViewport());
+        assertEquals(List.of("second", "first"), order);
+    }
+
+    @Test
+    public void testBudgetLimitsDeferredWork() {
+        UIScreen screen = new UIScreen(100, 100);
+        int[] ran = {0};
+        for (int i = 0; i < 3; i++) {
+            screen.getDeferredWork().enqueue(null, () -> ran[0]++);
+        }
+
+        screen.update(0f, 0L);
+        assertEquals(0, ran[0], "no deferred work without budget");
+        screen.update(0f);
+        assertEquals(0, ran[0], "unbudgeted update does not drain the queue");
+        screen.update(0f, Long.MAX_VALUE);
+        assertEquals(3, ran[0]);
+    }
+
+    @Test
+    public void testOffScreenSubtreeUpdatePostponed() {
+        VBox root = new VBox();
+        VBox visibleColumn = new VBox();
+        VBox hiddenColumn = new VBox();
+        Rectangle visibleLeaf = new Rectangle(20, 40, 0xFFFFFFFF);
+        Rectangle hiddenLeaf = new Rectangle(20, 40, 0xFFFFFFFF);
+        visibleColumn.addChild(visibleLeaf);
+        hiddenColumn.addChild(hiddenLeaf);
+        root.addChild(visibleColumn);
+        root.addChild(hiddenColumn);
+        root.setPosition(new Vector2f(0, 0));
+
+        UIScreen screen = new UIScreen(200, 30);
+        screen.setScrollEnabled(false);
+        screen.setRoot(root);
+        // Let layout and position animations settle
+        for (int i = 0; i < 100 && root.needsUpdate(); i++) {
+            screen.update(0.1f);
+        }
+        assertFalse(root.needsUpdate());
+
+        visibleLeaf.markDirty(DirtyFlag.POSITION);
+        hiddenLeaf.markDirty(DirtyFlag.POSITION);
+        screen.update(0f, 0L);
+
+        assertFalse(visibleColumn.needsUpdate(), "on-screen work always completes");
+        assertTrue(hiddenColumn.needsUpdate(), "off-screen subtree is postponed");
+        assertEquals(1, screen.getDeferredWork().size());
+
+        // Postponed again on the next zero-budget frame without queueing a duplicate
+        screen.update(0f, 0L);
+        assertEquals(1, screen.getDeferredWork().size());
+
+        screen.update(0f, Long.MAX_VALUE);
+        assertFalse(hiddenColumn.needsUpdate());
+        assertTrue(screen.getDeferredWork().isEmpty());
+        assertNull(DeferredWorkQueue.active());
+    }
+
+    @Test
+    public void testPostponedSubtreeGetsTheTimeItMissed() {
+        float[] received = {0f};
+        VBox root = new VBox();
+        VBox visibleColumn = new VBox();
+        VBox hiddenColumn = new VBox() {
+            @Override
+            protected void onUpdate(float deltaTime) {
+                super.onUpdate(deltaTime);
+                received[0] += deltaTime;
+            }
+        };
+        visibleColumn.addChild(new Rectangle(20, 40, 0xFFFFFFFF));
+        Rectangle hiddenLeaf = new Rectangle(20, 40, 0xFFFFFFFF);
+        hiddenColumn.addChild(hiddenLeaf);
+        root.addChild(visibleColumn);
+        root.addChild(hiddenColumn);
+        root.setPosition(new Vector2f(0, 0));
+
+        UIScreen screen = new UIScreen(200, 30);
+        screen.setScrollEnabled(false);
+        screen.setRoot(root);
+        for (int i = 0; i < 100 && root.needsUpdate(); i++) {
+            screen.update(0.1f);
+        }
+        received[0] = 0f;
+
+        hiddenLeaf.markDirty(DirtyFlag.POSITION);
+        for (int i = 0; i < 3; i++) {
+            screen.update(0.1f, 0L);
+        }
+        assertEquals(0f, received[0], "not updated while postponed");
+
+        screen.update(0.05f, Long.MAX_VALUE);
+        assertEquals(0.35f, received[0], 1e-5f);
+    }
+}
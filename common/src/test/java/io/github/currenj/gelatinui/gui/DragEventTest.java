@@ -0,0 +1,163 @@
+package io.github.currenj.gelatinui.gui;
+
+import io.github.currenj.gelatinui.gui.components.Rectangle;
+import io.github.currenj.gelatinui.gui.components.VBox;
+import io.github.currenj.gelatinui.gui.components.VerticalScrollBar;
+import org.joml.Vector2f;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drag events: threshold, per-frame coalescing, pointer capture and scrollbar thumb dragging.
+ */
+public class DragEventTest {
+
+    private final List<String> log = new ArrayList<>();
+    private Rectangle handle;
+    private Rectangle other;
+
+    /**
+     * 200x100 screen over a column of 50 20x20 rectangles; the first one is a draggable handle.
+     */
+    private UIScreen buildScreen() {
+        VBox root = new VBox();
+        handle = new Rectangle(20, 20, 0xFFFFFFFF);
+        handle.addEventListener(e -> {
+            switch (e.getType()) {
+                case DRAG_START, DRAG, DRAG_END -> {
+                    log.add(e.getType() + " " + e.getMouseX() + "," + e.getMouseY());
+                    e.consume();
+                }
+                default -> { }
+            }
+        });
+        root.addChild(handle);
+        other = new Rectangle(20, 20, 0xFFFFFFFF);
+        root.addChild(other);
+        for (int i = 0; i < 48; i++) {
+            root.addChild(new Rectangle(20, 20, 0xFFFFFFFF));
+        }
+        root.setPosition(new Vector2f(0, 0));
+
+        UIScreen screen = new UIScreen(200, 100);
+        screen.setRoot(root);
+        for (int i = 0; i < 100 && root.needsUpdate(); i++) {
+            screen.update(0.1f);
+        }
+        return screen;
+    }
+
+    @Test
+    public void testMotionCoalescedToOneDragPerFrame() {
+        UIScreen screen = buildScreen();
+        screen.onMouseClick(5, 5, 0);
+        for (int i = 1; i <= 50; i++) {
+            assertTrue(screen.onMouseDrag(5 + i, 5, 0));
+        }
+        assertTrue(log.isEmpty(), "motion is only delivered on update");
+
+        screen.update(0.016f);
+        assertEquals(List.of("DRAG_START 5,5", "DRAG 55,5"), log);
+        assertTrue(screen.isDragging());
+        assertSame(handle, screen.getDragCapture());
+
+        log.clear();
+        screen.update(0.016f);
+        assertTrue(log.isEmpty(), "no motion, no event");
+
+        for (int i = 0; i < 20; i++) {
+            screen.onMouseDrag(60, 5 + i, 0);
+        }
+        screen.update(0.016f);
+        assertEquals(List.of("DRAG 60,24"), log);
+    }
+
+    @Test
+    public void testThresholdDelaysDragStart() {
+        UIScreen screen = buildScreen();
+        screen.onMouseClick(5, 5, 0);
+        screen.onMouseDrag(6, 6, 0);
+        screen.update(0.016f);
+        assertTrue(log.isEmpty());
+        assertFalse(screen.isDragging());
+
+        screen.onMouseDrag(9, 5, 0);
+        screen.update(0.016f);
+        assertEquals(List.of("DRAG_START 5,5", "DRAG 9,5"), log);
+    }
+
+    @Test
+    public void testCaptureFollowsPointerOffTarget() {
+        UIScreen screen = buildScreen();
+        int[] otherEvents = {0};
+        other.addEventListener(e -> otherEvents[0]++);
+
+        screen.onMouseClick(5, 5, 0);
+        screen.onMouseDrag(5, 25, 0); // over the second rectangle
+        screen.update(0.016f);
+        screen.onMouseDrag(150, 90, 0); // over nothing
+        screen.update(0.016f);
+
+        assertEquals(List.of("DRAG_START 5,5", "DRAG 5,25", "DRAG 150,90"), log);
+        assertEquals(0, otherEvents[0]);
+
+        assertTrue(screen.onMouseRelease(150, 90, 0));
+        assertEquals("DRAG_END 150,90", log.get(log.size() - 1));
+        assertFalse(screen.isDragging());
+        assertFalse(screen.onMouseDrag(160, 90, 0));
+    }
+
+    @Test
+    public void testReleaseFlushesPendingMotion() {
+        UIScreen screen = buildScreen();
+        screen.onMouseClick(5, 5, 0);
+        screen.onMouseDrag(30, 5, 0);
+        assertTrue(screen.onMouseRelease(40, 5, 0));
+        assertEquals(List.of("DRAG_START 5,5", "DRAG 40,5", "DRAG_END 40,5"), log);
+    }
+
+    @Test
+    public void testUnhandledDragIsIgnored() {
+        UIScreen screen = buildScreen();
+        screen.onMouseClick(5, 25, 0);
+        screen.onMouseDrag(5, 60, 0);
+        screen.update(0.016f);
+        assertFalse(screen.isDragging());
+        assertFalse(screen.onMouseDrag(5, 70, 0), "press is dropped once nothing accepts DRAG_START");
+        assertFalse(screen.onMouseRelease(5, 70, 0));
+        assertTrue(log.isEmpty());
+    }
+
+    @Test
+    public void testScrollbarThumbDrag() {
+        UIScreen screen = buildScreen();
+        VerticalScrollBar bar = screen.getScrollBar();
+        int x = (int) bar.getBounds().getCenterX();
+        float max = screen.getMaxScrollY();
+        assertTrue(max > 0f);
+
+        // Clicking the thumb grabs it without jumping
+        screen.onMouseClick(x, 5, 0);
+        assertEquals(0f, screen.getScrollY(), 0.001f);
+
+        for (int y = 6; y <= 40; y++) {
+            screen.onMouseDrag(x, y, 0);
+        }
+        screen.update(0.016f);
+        assertTrue(bar.isDragging());
+        float mid = screen.getScrollY();
+        assertTrue(mid > 0f && mid < max, "thumb follows the pointer: " + mid);
+
+        // Pointer leaves the bar; capture keeps scrolling and clamps at the end
+        screen.onMouseDrag(20, 500, 0);
+        screen.update(0.016f);
+        assertEquals(max, screen.getScrollY(), 0.001f);
+
+        screen.onMouseRelease(20, 500, 0);
+        assertFalse(bar.isDragging());
+    }
+}
@@ -0,0 +1,175 @@
+package io.github.currenj.gelatinui.gui;
+
+import io.github.currenj.gelatinui.gui.components.Rectangle;
+import io.github.currenj.gelatinui.gui.components.TextInput;
+import io.github.currenj.gelatinui.gui.components.VBox;
+import org.joml.Vector2f;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Single focused element, direct key routing and the cached tab order.
+ */
+public class FocusManagerTest {
+
+    private static final int TAB = 258;
+    private static final int SHIFT = 0x1;
+
+    private VBox root;
+    private final List<TextInput> inputs = new ArrayList<>();
+    private Rectangle spacer;
+    private UIScreen screen;
+    private FocusManager focus;
+
+    @BeforeEach
+    public void setUp() {
+        root = new VBox();
+        for (int i = 0; i < 50; i++) {
+            TextInput input = new TextInput(100, 20);
+            inputs.add(input);
+            root.addChild(input);
+        }
+        spacer = new Rectangle(100, 20, 0xFFFFFFFF);
+        root.addChild(spacer);
+        root.setPosition(new Vector2f(0, 0));
+
+        screen = new UIScreen(200, 2000);
+        screen.setScrollEnabled(false);
+        screen.setRoot(root);
+        settle();
+        focus = screen.getFocusManager();
+    }
+
+    private void settle() {
+        for (int i = 0; i < 100 && root.needsUpdate(); i++) {
+            screen.update(0.1f);
+        }
+    }
+
+    @Test
+    public void testClickFocusesOneInput() {
+        screen.onMouseClick(5, 3 * 20 + 5, 0);
+        assertSame(inputs.get(3), focus.getFocused());
+        assertTrue(inputs.get(3).isFocused());
+
+        screen.onMouseClick(5, 7 * 20 + 5, 0);
+        assertSame(inputs.get(7), focus.getFocused());
+        assertFalse(inputs.get(3).isFocused(), "previous input blurred");
+        assertTrue(inputs.get(7).isFocused());
+
+        // Clicking something that isn't focusable clears focus
+        screen.onMouseClick(5, 50 * 20 + 5, 0);
+        assertNull(focus.getFocused());
+        assertFalse(inputs.get(7).isFocused());
+    }
+
+    @Test
+    public void testKeysGoToFocusedInputOnly() {
+        focus.focus(inputs.get(10));
+        assertTrue(screen.onCharTyped('h', 0));
+        assertTrue(screen.onCharTyped('i', 0));
+        assertTrue(screen.onKeyPressed(259, 0, 0)); // backspace
+        assertEquals("h", inputs.get(10).getText());
+        for (int i = 0; i < inputs.size(); i++) {
+            if (i != 10) {
+                assertEquals("", inputs.get(i).getText());
+            }
+        }
+
+        focus.blur();
+        assertFalse(screen.onCharTyped('x', 0));
+        assertEquals("h", inputs.get(10).getText());
+    }
+
+    @Test
+    public void testTabTraversalWrapsAndSkipsHidden() {
+        assertTrue(screen.onKeyPressed(TAB, 0, 0));
+        assertSame(inputs.get(0), focus.getFocused());
+        assertTrue(screen.onKeyPressed(TAB, 0, 0));
+        assertSame(inputs.get(1), focus.getFocused());
+
+        inputs.get(2).setVisible(false);
+        assertTrue(screen.onKeyPressed(TAB, 0, 0));
+        assertSame(inputs.get(3), focus.getFocused(), "hidden input skipped");
+
+        assertTrue(screen.onKeyPressed(TAB, 0, SHIFT));
+        assertSame(inputs.get(1), focus.getFocused());
+
+        focus.focus(inputs.get(49));
+        assertTrue(screen.onKeyPressed(TAB, 0, 0));
+        assertSame(inputs.get(0), focus.getFocused(), "wraps around");
+        assertTrue(screen.onKeyPressed(TAB, 0, SHIFT));
+        assertSame(inputs.get(49), focus.getFocused());
+    }
+
+    @Test
+    public void testTabOrderRebuiltOnlyOnStructureChange() {
+        focus.focusNext();
+        int rebuilds = focus.getRebuildCount();
+        for (int i = 0; i < 200; i++) {
+            focus.focusNext();
+            screen.onCharTyped('a', 0);
+            inputs.get(i % 50).markDirty(DirtyFlag.CONTENT);
+            settle();
+        }
+        assertEquals(rebuilds, focus.getRebuildCount(), "content changes keep the tab order");
+
+        TextInput added = new TextInput(100, 20);
+        root.addChild(added);
+        focus.focus(inputs.get(49));
+        focus.focusNext();
+        assertSame(added, focus.getFocused());
+        assertEquals(rebuilds + 1, focus.getRebuildCount());
+        assertEquals(51, focus.getTabOrder().size());
+    }
+
+    @Test
+    public void testRemovedInputLosesFocus() {
+        TextInput input = inputs.get(5);
+        List<String> log = new ArrayList<>();
+        input.addEventListener(e -> log.add(e.getType().name()));
+
+        focus.focus(input);
+        root.removeChild(input);
+        assertNull(focus.getFocused());
+        assertFalse(input.isFocused());
+        assertEquals(List.of("FOCUS", "BLUR"), log);
+        assertFalse(screen.onCharTyped('x', 0));
+        assertEquals("", input.getText());
+    }
+
+    @Test
+    public void testOtherTreesKeepTheTabOrder() {
+        focus.focusNext();
+        int rebuilds = focus.getRebuildCount();
+        VBox other = new VBox();
+        for (int i = 0; i < 20; i++) {
+            other.addChild(new Rectangle(10, 10, 0xFFFFFFFF));
+        }
+        other.clearChildren();
+        focus.focusNext();
+        assertEquals(rebuilds, focus.getRebuildCount(), "child lists outside the screen's tree are ignored");
+    }
+
+    @Test
+    public void testSetFocusedGoesThroughTheManager() {
+        List<String> log = new ArrayList<>();
+        inputs.get(1).addEventListener(e -> log.add(e.getType().name()));
+
+        inputs.get(1).setFocused(true);
+        assertSame(inputs.get(1), focus.getFocused());
+        inputs.get(2).setFocused(true);
+        assertSame(inputs.get(2), focus.getFocused());
+        assertFalse(inputs.get(1).isFocused(), "only one input focused");
+        assertEquals(List.of("FOCUS", "BLUR"), log);
+
+        inputs.get(2).setFocused(false);
+        assertNull(focus.getFocused());
+        assertFalse(inputs.get(2).isFocused());
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.currenj.gelatinui.gui;
+
+import io.github.currenj.gelatinui.gui.components.Label;
+import io.github.currenj.gelatinui.gui.components.Panel;
+import io.github.currenj.gelatinui.gui.components.SpriteData;
+import io.github.currenj.gelatinui.gui.components.SpriteGeometry;
+import io.github.currenj.gelatinui.gui.components.SpriteRenderMode;
+import io.github.currenj.gelatinui.gui.components.VBox;
+import net.minecraft.resources.ResourceLocation;
+import org.joml.Vector2f;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the headless render cost counters and command stream.
+ */
+public class HeadlessRenderContextTest {
+    private static final ResourceLocation PANEL = ResourceLocation.fromNamespaceAndPath("gelatinui", "textures/gui/panel.png");
+    private static final ResourceLocation ICONS = ResourceLocation.fromNamespaceAndPath("gelatinui", "textures/gui/icons.png");
+
+    @Test
+    public void testCountsPrimitiveCalls() {
+        HeadlessRenderContext ctx = new HeadlessRenderContext();
+        ctx.beginFrame();
+        ctx.fill(0, 0, 10, 10, 0xFF000000);
+        ctx.drawString("abc", 0, 0, 0xFFFFFFFF);
+        ctx.getStringWidth("abc");
+        ctx.getFontHeight();
+        ctx.pushScissor(0, 0, 5, 5);
+        ctx.popScissor();
+        ctx.drawTexture(PANEL, 0, 0, 8, 8, 0, 0, 8, 8, 256, 256);
+        ctx.drawTexture(PANEL, 8, 0, 8, 8, 8, 0, 8, 8, 256, 256);
+        ctx.drawTexture(ICONS, 16, 0, 8, 8, 0, 0, 8, 8, 256, 256);
+        HeadlessRenderContext.FrameStats stats = ctx.endFrame();
+
+        assertEquals(5, stats.drawCalls());
+        assertEquals(1 + 3 + 3, stats.quads());
+        assertEquals(2, stats.textureSwitches(), "PANEL bound once, then ICONS");
+        assertEquals(2, stats.scissorChanges());
+        assertEquals(2, stats.textMeasurements());
+        assertEquals(0, ctx.getScissorDepth());
+    }
+
+    @Test
+    public void testTiledSpriteCostIsIndependentOfSize() {
+        SpriteData tile = SpriteData.texture(PANEL).uv(0, 0, 24, 24).renderMode(SpriteRenderMode.TILE).slice(4, 4, 4, 4);
+        HeadlessRenderContext ctx = new HeadlessRenderContext();
+
+        ctx.beginFrame();
+        ctx.drawSpriteGeometry(SpriteGeometry.compile(tile, 64, 64), 0, 0);
+        HeadlessRenderContext.FrameStats small = ctx.endFrame();
+
+        ctx.beginFrame();
+        ctx.drawSpriteGeometry(SpriteGeometry.compile(tile, 2000, 1500), 0, 0);
+        HeadlessRenderContext.FrameStats large = ctx.endFrame();
+
+        assertEquals(small, large);
+        assertEquals(9, large.quads());
+        // Corners share the sheet; each tiled edge and the center bind their own repeat copy
+        assertEquals(1 + 5, large.textureSwitches());
+    }
+
+    @Test
+    public void testScreenRenderIsDeterministic() {
+        UIScreen screen = new UIScreen(400, 300);
+        VBox root = new VBox().spacing(4).padding(6);
+        Label title = new Label("Title", 0xFFFFFFFF);
+        title.setSize(new Vector2f(30, 9));
+        root.addChild(title);
+        Panel panel = new Panel().backgroundColor(0xFF202020);
+        panel.setSize(new Vector2f(100, 40));
+        root.addChild(panel);
+        screen.setRoot(root);
+        screen.update(0f);
+
+        HeadlessRenderContext ctx = new HeadlessRenderContext().recordCommands(true);
+        ctx.beginFrame();
+        screen.render(ctx);
+        HeadlessRenderContext.FrameStats first = ctx.endFrame();
+        byte[] firstStream = ctx.getCommandStream();
+
+        ctx.beginFrame();
+        screen.render(ctx);
+        HeadlessRenderContext.FrameStats second = ctx.endFrame();
+
+        assertTrue(first.drawCalls() >= 2, "Label and panel background should both draw");
+        assertEquals(first.drawCalls(), second.drawCalls());
+        assertEquals(first.quads(), second.quads());
+        assertEquals(0, second.textMeasurements(), "Label text is measured once, not every frame");
+        assertArrayEquals(firstStream, ctx.getCommandStream());
+    }
+
+    @Test
+    public void testRecordingIsOptional() {
+        HeadlessRenderContext ctx = new HeadlessRenderContext();
+        ctx.beginFrame();
+        ctx.fill(0, 0, 1, 1, 0);
+        ctx.endFrame();
+        assertEquals(0, ctx.getCommandStreamLength());
+
+        ctx.recordCommands(true);
+        ctx.beginFrame();
+        ctx.fill(0, 0, 1, 1, 0);
+        ctx.endFrame();
+        assertEquals(1 + 5 * 4, ctx.getCommandStreamLength());
+    }
+}
@@ -0,0 +1,199 @@
+package io.github.currenj.gelatinui.gui;
+
+import io.github.currenj.gelatinui.gui.components.HBox;
+import io.github.currenj.gelatinui.gui.components.Rectangle;
+import io.github.currenj.gelatinui.gui.components.VBox;
+import org.joml.Vector2f;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Hover stack transitions and the cooldown scheduled on the frame clock.
+ */
+public class HoverStackTest {
+
+    private final List<String> log = new ArrayList<>();
+    private VBox root;
+    private HBox row;
+    private Rectangle a1;
+    private Rectangle a2;
+    private Rectangle b;
+    private UIScreen screen;
+
+    private <E extends UIElement<?>> E track(E element, String name) {
+        element.addEventListener(e -> {
+            if (e.getType() == UIEvent.Type.HOVER_ENTER) {
+                log.add("enter " + name);
+            } else if (e.getType() == UIEvent.Type.HOVER_EXIT) {
+                log.add("exit " + name);
+            }
+        });
+        return element;
+    }
+
+    @BeforeEach
+    public void setUp() {
+        root = track(new VBox(), "root");
+        row = track(new HBox(), "row");
+        a1 = track(new Rectangle(20, 20, 0xFFFFFFFF), "a1");
+        a2 = track(new Rectangle(20, 20, 0xFFFFFFFF), "a2");
+        b = track(new Rectangle(40, 20, 0xFFFFFFFF), "b");
+        row.addChild(a1);
+        row.addChild(a2);
+        root.addChild(row);
+        root.addChild(b);
+        root.setPosition(new Vector2f(0, 0));
+
+        screen = new UIScreen(200, 200);
+        screen.setScrollEnabled(false);
+        screen.setRoot(root);
+        for (int i = 0; i < 100 && root.needsUpdate(); i++) {
+            screen.update(0.1f);
+        }
+        assertFalse(root.needsUpdate());
+        // Let the cooldown from any earlier transition run out
+        screen.update(1f);
+    }
+
+    private void moveTo(IUIElement element) {
+        Rectangle2D bounds = element.getBounds();
+        screen.onMouseMove((int) bounds.getCenterX(), (int) bounds.getCenterY());
+    }
+
+    private List<String> drain() {
+        List<String> events = new ArrayList<>(log);
+        log.clear();
+        return events;
+    }
+
+    @Test
+    public void testEnteringFromOutsideEntersWholePath() {
+        moveTo(a1);
+        assertEquals(List.of("enter root", "enter row", "enter a1"), drain());
+        assertSame(a1, screen.getHoveredElement());
+        assertTrue(screen.isInHoverStack(row));
+        assertFalse(screen.isInHoverStack(b));
+    }
+
+    @Test
+    public void testOnlyChangedSuffixIsNotified() {
+        moveTo(a1);
+        drain();
+        screen.update(0.1f);
+
+        moveTo(a2);
+        assertEquals(List.of("exit a1", "enter a2"), drain(), "row and root stay entered");
+        screen.update(0.1f);
+
+        moveTo(b);
+        assertEquals(List.of("exit a2", "exit row", "enter b"), drain());
+        screen.update(0.1f);
+
+        screen.onMouseMove(150, 150);
+        assertEquals(List.of("exit b", "exit root"), drain());
+        assertNull(screen.getHoveredElement());
+    }
+
+    @Test
+    public void testChangesDuringCooldownFireWhenItEnds() {
+        moveTo(a1);
+        drain();
+
+        // Within the 80 ms cooldown: a2, then b, collapse into one transition to b
+        moveTo(a2);
+        moveTo(b);
+        assertTrue(drain().isEmpty());
+
+        screen.update(0.05f);
+        assertTrue(drain().isEmpty(), "cooldown not over yet");
+        assertSame(a1, screen.getHoveredElement());
+
+        screen.update(0.05f);
+        assertEquals(List.of("exit a1", "exit row", "enter b"), drain());
+        assertSame(b, screen.getHoveredElement());
+    }
+
+    @Test
+    public void testReturningDuringCooldownCancelsTransition() {
+        moveTo(a1);
+        drain();
+
+        moveTo(b);
+        moveTo(a1);
+        for (int i = 0; i < 10; i++) {
+            screen.update(0.05f);
+        }
+        assertTrue(drain().isEmpty());
+        assertSame(a1, screen.getHoveredElement());
+    }
+
+    @Test
+    public void testCooldownFollowsFrameClockNotWallTime() throws InterruptedException {
+        screen.setHoverCooldown(0.2f);
+        moveTo(a1);
+        drain();
+        moveTo(a2);
+
+        // Wall time passing does nothing by itself; only update time counts
+        Thread.sleep(250);
+        moveTo(a2);
+        assertTrue(drain().isEmpty());
+
+        double start = screen.getFrameClock();
+        screen.update(0.25f);
+        assertEquals(0.25, screen.getFrameClock() - start, 1e-6);
+        assertEquals(List.of("exit a1", "enter a2"), drain());
+    }
+
+    @Test
+    public void testSetRootDropsHoverSilently() {
+        moveTo(a1);
+        drain();
+
+        VBox other = new VBox();
+        screen.setRoot(other);
+        assertNull(screen.getHoveredElement());
+        assertFalse(screen.isInHoverStack(root));
+        screen.update(1f);
+        assertTrue(drain().isEmpty(), "the old tree gets no HOVER_EXIT");
+    }
+
+    @Test
+    public void testDetachedElementGetsNoExit() {
+        moveTo(a1);
+        drain();
+
+        row.removeChild(a1);
+        assertSame(row, screen.getHoveredElement(), "detached element dropped from the stack");
+        screen.update(1f);
+        moveTo(b);
+        assertEquals(List.of("exit row", "enter b"), drain());
+    }
+
+    @Test
+    public void testRecycledElementGetsNoExit() {
+        moveTo(b);
+        drain();
+
+        // Released and handed out again at the same place in the tree
+        root.removeChild(b);
+        UIElementPool.clear();
+        UIElementPool.release(b);
+        Rectangle reused = UI.rectangle(40, 20, 0xFFFFFFFF);
+        assertSame(b, reused);
+        track(reused, "reused");
+        root.addChild(reused);
+        assertSame(root, screen.getHoveredElement());
+
+        screen.update(1f);
+        moveTo(a1);
+        assertEquals(List.of("enter row", "enter a1"), drain());
+        UIElementPool.clear();
+    }
+}
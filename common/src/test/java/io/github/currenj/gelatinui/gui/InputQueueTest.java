@@ -0,0 +1,251 @@
+package io.github.currenj.gelatinui.gui;
+
+import io.github.currenj.gelatinui.gui.components.Rectangle;
+import io.github.currenj.gelatinui.gui.components.TextInput;
+import io.github.currenj.gelatinui.gui.components.VBox;
+import org.joml.Vector2f;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Queued input: arrival order, collapsed motion, one hit-test per position per batch.
+ */
+public class InputQueueTest {
+
+    private final List<String> log = new ArrayList<>();
+    private VBox root;
+    private Rectangle a;
+    private Rectangle b;
+    private TextInput input;
+    private UIScreen screen;
+    private InputQueue queue;
+
+    private <E extends UIElement<?>> E track(E element, String name) {
+        element.addEventListener(e -> {
+            switch (e.getType()) {
+                case SCROLL -> log.add("scroll " + name);
+                case HOVER_ENTER -> log.add("enter " + name);
+                case FOCUS -> log.add("focus " + name);
+                default -> { }
+            }
+        });
+        return element;
+    }
+
+    @BeforeEach
+    public void setUp() {
+        root = new VBox();
+        a = track(new Rectangle(100, 20, 0xFFFFFFFF), "a").onClick(e -> log.add("click a"));
+        b = track(new Rectangle(100, 20, 0xFFFFFFFF), "b").onClick(e -> log.add("click b"));
+        input = track(new TextInput(100, 20), "input");
+        root.addChild(a);
+        root.addChild(b);
+        root.addChild(input);
+        root.setPosition(new Vector2f(0, 0));
+
+        screen = new UIScreen(200, 200);
+        screen.setScrollEnabled(false);
+        screen.setHoverCooldown(0f);
+        screen.setRoot(root);
+        for (int i = 0; i < 100 && root.needsUpdate(); i++) {
+            screen.update(0.1f);
+        }
+        queue = screen.getInputQueue();
+        log.clear();
+    }
+
+    @Test
+    public void testNothingHappensUntilUpdate() {
+        queue.mouseClick(5, 5, 0);
+        queue.mouseScroll(5, 25, -1f);
+        assertEquals(2, queue.size());
+        assertTrue(log.isEmpty());
+
+        screen.update(0f);
+        assertTrue(queue.isEmpty());
+        assertEquals(List.of("enter a", "click a", "scroll b"), log);
+    }
+
+    @Test
+    public void testArrivalOrderKept() {
+        queue.mouseScroll(5, 25, 1f);
+        queue.mouseClick(5, 5, 0);
+        queue.mouseScroll(5, 25, -1f);
+        queue.mouseClick(5, 25, 0);
+        screen.update(0f);
+        log.removeIf(entry -> entry.startsWith("enter"));
+        assertEquals(List.of("scroll b", "click a", "scroll b", "click b"), log);
+    }
+
+    @Test
+    public void testMovesCollapseButNotAcrossPresses() {
+        for (int y = 0; y < 20; y++) {
+            queue.mouseMove(5, 25 + y % 10);
+        }
+        queue.mouseClick(5, 5, 0);
+        queue.mouseMove(5, 30);
+        queue.mouseMove(5, 35);
+        assertEquals(3, queue.size());
+
+        screen.update(0f);
+        assertEquals(3, queue.getLastBatchSize());
+        // Hover follows the hover model: entering b fired at once, the brief visit to a was pending and
+        // cancelled when the pointer came back to b before the end of the update
+        assertEquals(List.of("enter b", "click a"), log);
+        assertSame(b, screen.getHoveredElement());
+    }
+
+    @Test
+    public void testOneHitTestPerPosition() {
+        queue.mouseMove(5, 5);
+        queue.mouseClick(5, 5, 0);
+        queue.mouseScroll(5, 5, -1f);
+        queue.mouseMove(5, 5);
+        screen.update(0f);
+        assertEquals(4, queue.getLastBatchSize());
+        assertEquals(1, queue.getLastBatchHitTests());
+
+        queue.mouseClick(5, 5, 0);
+        queue.mouseClick(5, 25, 0);
+        queue.mouseClick(5, 5, 0);
+        screen.update(0f);
+        assertEquals(3, queue.getLastBatchHitTests(), "a new position is tested again");
+    }
+
+    @Test
+    public void testStructureChangeRedoesHitTest() {
+        int[] clicks = {0};
+        a.onClick(e -> {
+            clicks[0]++;
+            root.removeChild(a);
+        });
+        queue.mouseClick(5, 5, 0);
+        queue.mouseClick(5, 5, 0);
+        screen.update(0f);
+        assertEquals(2, queue.getLastBatchHitTests());
+        assertEquals(1, clicks[0], "removed element not hit again");
+    }
+
+    @Test
+    public void testVisibilityChangeRedoesHitTest() {
+        int[] clicks = {0};
+        a.onClick(e -> {
+            clicks[0]++;
+            a.setVisible(false);
+        });
+        queue.mouseClick(5, 5, 0);
+        queue.mouseClick(5, 5, 0);
+        screen.update(0f);
+        assertEquals(2, queue.getLastBatchHitTests());
+        assertEquals(1, clicks[0], "hidden element not hit again");
+    }
+
+    /**
+     * Counts parent lookups, i.e. walks up the tree.
+     */
+    private static final class CountingBox extends VBox {
+        static int parentLookups = 0;
+
+        @Override
+        public IUIElement getParent() {
+            parentLookups++;
+            return super.getParent();
+        }
+    }
+
+    private static int parentLookupsToMoveLeaf(int depth) {
+        VBox top = new CountingBox();
+        VBox box = top;
+        for (int i = 0; i < depth; i++) {
+            VBox child = new CountingBox();
+            box.addChild(child);
+            box = child;
+        }
+        Rectangle leaf = new Rectangle(10, 10, 0xFFFFFFFF);
+        box.addChild(leaf);
+        for (int i = 0; i < 100 && top.needsUpdate(); i++) {
+            top.update(0.1f);
+        }
+        CountingBox.parentLookups = 0;
+        leaf.setPosition(new Vector2f(5, 5));
+        return CountingBox.parentLookups;
+    }
+
+    @Test
+    public void testMarkingDirtyDoesNotWalkToRoot() {
+        assertEquals(parentLookupsToMoveLeaf(8), parentLookupsToMoveLeaf(128),
+                "moving a deep element must not cost more with depth");
+    }
+
+    @Test
+    public void testKeysFollowTheClickThatFocuses() {
+        queue.mouseClick(5, 45, 0);
+        queue.charTyped('o', 0);
+        queue.charTyped('k', 0);
+        queue.keyPressed(263, 0, 0); // left
+        queue.charTyped('!', 0);
+        assertFalse(input.isFocused());
+
+        screen.update(0f);
+        assertTrue(input.isFocused());
+        assertEquals("o!k", input.getText());
+        assertEquals(List.of("enter input", "focus input"), log);
+    }
+
+    @Test
+    public void testUnusedKeysDecidedAfterPrecedingEvents() {
+        List<Integer> unused = new ArrayList<>();
+        screen.setUnusedKeyListener((keyCode, scanCode, modifiers) -> unused.add(keyCode));
+        queue.keyPressed(69, 0, 0);  // 'E' with nothing focused
+        queue.mouseClick(5, 45, 0);  // focuses the input
+        queue.keyPressed(69, 0, 0);  // typed into the input
+        queue.keyPressed(256, 0, 0); // escape
+        queue.mouseClick(5, 5, 0);   // focus leaves the input
+        queue.keyPressed(69, 0, 0);
+        screen.update(0f);
+        assertEquals(List.of(69, 256, 69), unused);
+    }
+
+    @Test
+    public void testPressListenerRunsInOrder() {
+        screen.setPressListener((x, y, button) -> log.add("press " + y));
+        queue.mouseClick(5, 5, 0);
+        queue.mouseClick(5, 25, 0);
+        screen.update(0f);
+        log.removeIf(entry -> entry.startsWith("enter"));
+        assertEquals(List.of("press 5", "click a", "press 25", "click b"), log);
+    }
+
+    @Test
+    public void testEventsFromHandlersWaitForNextBatch() {
+        a.onClick(e -> queue.mouseClick(5, 25, 0));
+        queue.mouseClick(5, 5, 0);
+        screen.update(0f);
+        assertFalse(log.contains("click b"));
+        assertEquals(1, queue.size(), "recorded during the batch, not handled in it");
+
+        screen.update(0f);
+        assertTrue(log.contains("click b"));
+    }
+
+    @Test
+    public void testEventTimeVisibleToHandlers() {
+        long[] seen = new long[2];
+        a.onClick(e -> seen[0] = queue.getEventTime());
+        b.onClick(e -> seen[1] = queue.getEventTime());
+        long before = System.nanoTime();
+        queue.mouseClick(5, 5, 0);
+        queue.mouseClick(5, 25, 0);
+        long after = System.nanoTime();
+        screen.update(0f);
+
+        assertTrue(seen[0] >= before && seen[0] <= after);
+        assertTrue(seen[1] >= seen[0] && seen[1] <= after);
+        assertEquals(-1L, queue.getEventTime(), "only set while handling");
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.currenj.gelatinui.gui;
+
+import io.github.currenj.gelatinui.gui.components.Rectangle;
+import io.github.currenj.gelatinui.gui.components.VBox;
+import org.joml.Vector2f;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Time-based scroll physics and scrolling as a render translation.
+ */
+public class ScrollControllerTest {
+
+    private static float settle(ScrollController scroller, float fps) {
+        float dt = 1f / fps;
+        for (int i = 0; i < fps * 10 && !scroller.isSettled(); i++) {
+            scroller.update(dt);
+        }
+        assertTrue(scroller.isSettled());
+        return scroller.getOffset();
+    }
+
+    @Test
+    public void testFlingDistanceIndependentOfFrameRate() {
+        float[] rates = {20f, 60f, 144f, 500f};
+        for (float fps : rates) {
+            ScrollController scroller = new ScrollController();
+            scroller.setBounds(0f, 1000f);
+            scroller.fling(100f);
+            assertEquals(100f, settle(scroller, fps), 0.01f, "at " + fps + " FPS");
+        }
+    }
+
+    @Test
+    public void testOverscrollSpringsBack() {
+        for (float fps : new float[] {30f, 240f}) {
+            ScrollController scroller = new ScrollController();
+            scroller.setBounds(0f, 50f);
+            scroller.scrollTo(40f);
+            scroller.fling(200f);
+
+            float peak = 0f;
+            float dt = 1f / fps;
+            for (int i = 0; i < fps * 10 && !scroller.isSettled(); i++) {
+                scroller.update(dt);
+                peak = Math.max(peak, scroller.getOffset());
+            }
+            assertTrue(peak > 50f, "goes past the edge");
+            assertTrue(peak <= 50f + scroller.getMaxOverscroll(), "but not past the overscroll limit");
+            assertTrue(scroller.isSettled());
+            assertEquals(50f, scroller.getOffset(), 0.001f);
+        }
+    }
+
+    @Test
+    public void testNoOverscrollStopsAtEdge() {
+        ScrollController scroller = new ScrollController();
+        scroller.setMaxOverscroll(0f);
+        scroller.setBounds(0f, 50f);
+        scroller.fling(-100f);
+        assertEquals(0f, settle(scroller, 60f), 0.001f);
+    }
+
+    @Test
+    public void testShrinkingRangeSpringsBack() {
+        ScrollController scroller = new ScrollController();
+        scroller.setBounds(0f, 500f);
+        scroller.scrollTo(500f);
+        scroller.setBounds(0f, 100f);
+        assertEquals(400f, scroller.getOverscroll(), 0.001f);
+        assertEquals(100f, settle(scroller, 60f), 0.001f);
+    }
+
+    @Test
+    public void testScrollingLeavesTreeUntouched() {
+        VBox root = new VBox();
+        Rectangle first = new Rectangle(20, 20, 0xFFFFFFFF);
+        root.addChild(first);
+        for (int i = 0; i < 49; i++) {
+            root.addChild(new Rectangle(20, 20, 0xFFFFFFFF));
+        }
+        root.setPosition(new Vector2f(0, 0));
+
+        UIScreen screen = new UIScreen(200, 100);
+        screen.setRoot(root);
+        for (int i = 0; i < 100 && root.needsUpdate(); i++) {
+            screen.update(0.1f);
+        }
+        assertFalse(root.needsUpdate());
+
+        assertTrue(screen.onMouseScroll(5, 5, -4f));
+        for (int i = 0; i < 600 && !screen.getScrollController().isSettled(); i++) {
+            screen.update(1f / 60f);
+            assertFalse(root.needsUpdate(), "scrolling must not dirty the tree");
+        }
+        float scrolled = screen.getScrollY();
+        assertTrue(scrolled > 20f, "scrolled " + scrolled);
+        assertEquals(0f, root.getPosition().y, 0.001f, "root stays where layout put it");
+
+        // Pointer input is mapped into content space
+        int offset = Math.round(scrolled);
+        assertEquals(5 + offset, screen.toContentY(5));
+        assertSame(root.getChildren().get((5 + offset) / 20), screen.findElementAt(5, screen.toContentY(5)));
+        assertEquals(offset, screen.getContentViewport().getY(), 0.001f);
+
+        // Clicks reach the element drawn under the pointer, with content coordinates
+        int[] clickedY = {-1};
+        IUIElement under = root.getChildren().get((5 + offset) / 20);
+        ((Rectangle) under).onClick(e -> clickedY[0] = e.getMouseY());
+        assertTrue(screen.onMouseClick(5, 5, 0));
+        assertEquals(5 + offset, clickedY[0]);
+    }
+}
@@ -0,0 +1,166 @@
+package io.github.currenj.gelatinui.gui;
+
+import io.github.currenj.gelatinui.gui.components.Panel;
+import io.github.currenj.gelatinui.gui.components.Rectangle;
+import io.github.currenj.gelatinui.gui.components.VBox;
+import org.joml.Vector2f;
+import org.junit.jupiter.api.Test;
+
+import java.awt.geom.Rectangle2D;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tooltip placement as a render translation, recomputed only on change, and per-element tooltip caching.
+ */
+public class TooltipPlacementTest {
+
+    private UIScreen screen(VBox root) {
+        root.setPosition(new Vector2f(0, 0));
+        UIScreen screen = new UIScreen(200, 100);
+        screen.setScrollEnabled(false);
+        screen.setRoot(root);
+        for (int i = 0; i < 100 && root.needsUpdate(); i++) {
+            screen.update(0.1f);
+        }
+        screen.update(1f);
+        return screen;
+    }
+
+    private static void frame(UIScreen screen) {
+        screen.update(1f / 60f);
+        HeadlessRenderContext ctx = new HeadlessRenderContext();
+        ctx.beginFrame();
+        screen.render(ctx);
+        ctx.endFrame();
+    }
+
+    private static void assertPlacement(UIScreen screen, float x, float y) {
+        Vector2f placement = screen.getTooltipPlacement();
+        assertEquals(x, placement.x, 0.001f);
+        assertEquals(y, placement.y, 0.001f);
+    }
+
+    @Test
+    public void testStillMouseLeavesTooltipClean() {
+        VBox root = new VBox();
+        root.addChild(new Rectangle(50, 50, 0xFFFFFFFF));
+        UIScreen screen = screen(root);
+        screen.setTooltipAnimationsEnabled(false);
+
+        Panel tooltip = new Panel().autoSizeToChildren(true);
+        tooltip.addChild(new Rectangle(30, 10, 0xFF000000));
+        for (int i = 0; i < 10 && tooltip.needsUpdate(); i++) {
+            tooltip.update(0.1f);
+        }
+        screen.onMouseMove(20, 20);
+        screen.setTooltip(tooltip);
+        frame(screen);
+        assertPlacement(screen, 30, 30);
+        assertFalse(tooltip.needsUpdate());
+
+        for (int i = 0; i < 5; i++) {
+            frame(screen);
+            assertFalse(tooltip.needsUpdate(), "rendering in place must not dirty the tooltip");
+        }
+        assertEquals(0f, tooltip.getPosition().x, 0.001f, "placed by translation, not by moving the element");
+
+        // Near the right and bottom edges it flips to the other side of the cursor
+        screen.onMouseMove(190, 95);
+        frame(screen);
+        assertPlacement(screen, 150, 75);
+        assertFalse(tooltip.needsUpdate());
+    }
+
+    @Test
+    public void testPlacementReachesAnyContext() {
+        VBox root = new VBox();
+        root.addChild(new Rectangle(50, 50, 0xFFFFFFFF));
+        UIScreen screen = screen(root);
+        screen.setTooltipAnimationsEnabled(false);
+        screen.onMouseMove(20, 20);
+        screen.setTooltip(new Rectangle(30, 10, 0xFF000000));
+        screen.update(1f / 60f);
+
+        float[] translation = new float[2];
+        HeadlessRenderContext ctx = new HeadlessRenderContext() {
+            @Override
+            public void pushTranslation(float x, float y) {
+                super.pushTranslation(x, y);
+                translation[0] = x;
+                translation[1] = y;
+            }
+        };
+        ctx.beginFrame();
+        screen.render(ctx);
+        ctx.endFrame();
+        assertEquals(30f, translation[0], 0.001f);
+        assertEquals(30f, translation[1], 0.001f);
+        assertEquals(0, ctx.getTranslationDepth());
+    }
+
+    @Test
+    public void testTooltipAnimationDoesNotRelayout() {
+        VBox root = new VBox();
+        root.addChild(new Rectangle(50, 50, 0xFFFFFFFF));
+        UIScreen screen = screen(root);
+
+        Panel tooltip = new Panel();
+        tooltip.addChild(new Rectangle(30, 10, 0xFF000000));
+        for (int i = 0; i < 10 && tooltip.needsUpdate(); i++) {
+            tooltip.update(0.1f);
+        }
+        Rectangle2D laidOut = tooltip.getChildren().get(0).getBounds();
+
+        screen.setTooltip(tooltip);
+        assertEquals(0f, screen.getTooltipScale(), 0.001f);
+        for (int i = 0; i < 30; i++) {
+            frame(screen);
+        }
+        assertEquals(1f, screen.getTooltipScale(), 0.001f);
+        assertEquals(1f, tooltip.getCurrentScale(), 0.001f, "the element's own scale is never animated");
+        assertEquals(laidOut, tooltip.getChildren().get(0).getBounds());
+
+        screen.clearTooltip();
+        for (int i = 0; i < 30; i++) {
+            frame(screen);
+        }
+        assertNull(screen.getTooltip(), "cleared once the out animation ends");
+    }
+
+    @Test
+    public void testTooltipBuiltOncePerElement() {
+        VBox root = new VBox();
+        Rectangle source = new Rectangle(50, 50, 0xFFFFFFFF);
+        root.addChild(source);
+        root.addChild(new Rectangle(50, 50, 0xFFFFFFFF));
+        UIScreen screen = screen(root);
+        screen.setTooltipAnimationsEnabled(false);
+
+        int[] built = {0};
+        source.tooltip(screen, () -> {
+            built[0]++;
+            return new Rectangle(30, 10, 0xFF000000);
+        });
+
+        IUIElement first = null;
+        for (int i = 0; i < 3; i++) {
+            screen.onMouseMove(10, 10);
+            assertNotNull(screen.getTooltip());
+            if (first == null) {
+                first = screen.getTooltip();
+            }
+            assertSame(first, screen.getTooltip());
+            screen.update(1f);
+            screen.onMouseMove(10, 70);
+            assertNull(screen.getTooltip());
+            screen.update(1f);
+        }
+        assertEquals(1, built[0]);
+
+        source.invalidateTooltip();
+        screen.onMouseMove(10, 10);
+        assertEquals(2, built[0]);
+        assertNotSame(first, screen.getTooltip());
+    }
+}
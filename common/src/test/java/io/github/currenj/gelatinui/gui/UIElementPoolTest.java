@@ -0,0 +1,142 @@
+package io.github.currenj.gelatinui.gui;
+
+import io.github.currenj.gelatinui.gui.components.Label;
+import io.github.currenj.gelatinui.gui.components.Rectangle;
+import io.github.currenj.gelatinui.gui.components.SpriteButton;
+import io.github.currenj.gelatinui.gui.components.VBox;
+import io.github.currenj.gelatinui.gui.effects.TransformDelta;
+import org.joml.Vector2f;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for recycling elements between rebuilt screens.
+ */
+public class UIElementPoolTest {
+
+    @BeforeEach
+    public void setUp() {
+        UIElementPool.clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        UIElementPool.clear();
+    }
+
+    private static VBox buildTree(IRenderContext ctx, int rows, Set<Object> seen) {
+        VBox root = UI.vbox().spacing(4).padding(10);
+        seen.add(root);
+        for (int i = 0; i < rows; i++) {
+            VBox row = UI.vbox().spacing(2);
+            Rectangle rect = UI.rectangle(20, 10, 0xFF00FF00);
+            Label label = UI.label(ctx, "Row " + i, 0xFFFFFFFF);
+            seen.add(row);
+            seen.add(rect);
+            seen.add(label);
+            row.addChild(rect);
+            row.addChild(label);
+            root.addChild(row);
+        }
+        return root;
+    }
+
+    @Test
+    public void testRebuildReusesReleasedTree() {
+        HeadlessRenderContext ctx = new HeadlessRenderContext();
+        Set<Object> first = Collections.newSetFromMap(new IdentityHashMap<>());
+        VBox root = buildTree(ctx, 500, first);
+        assertEquals(1501, first.size());
+
+        assertEquals(1501, UIElementPool.releaseTree(root));
+        assertEquals(501, UIElementPool.getPooledCount(VBox.class));
+
+        Set<Object> second = Collections.newSetFromMap(new IdentityHashMap<>());
+        buildTree(ctx, 500, second);
+        second.removeAll(first);
+        assertTrue(second.isEmpty(), "every element of the rebuilt tree comes from the pool");
+        assertEquals(0, UIElementPool.getPooledCount(VBox.class));
+    }
+
+    @Test
+    public void testReleasedElementIsReset() {
+        VBox box = UI.vbox().spacing(8).padding(3).alignment(VBox.Alignment.CENTER);
+        Rectangle child = UI.rectangle(5, 5, 0xFFFFFFFF);
+        box.addChild(child);
+        box.setPosition(new Vector2f(40, 50));
+        box.setVisible(false);
+        box.addBreatheEffect();
+        box.onClick(e -> fail("listener from the previous screen"));
+        box.setDebugName("old");
+
+        UIElementPool.releaseTree(box);
+        VBox reused = UI.vbox();
+        assertSame(box, reused);
+        assertTrue(reused.getChildren().isEmpty());
+        assertNull(child.getParent());
+        assertNull(reused.getParent());
+        assertEquals(new Vector2f(0, 0), reused.getPosition());
+        assertTrue(reused.isVisible());
+        assertTrue(reused.getEffects().isEmpty());
+        assertNull(reused.getDebugName());
+        assertTrue(reused.needsUpdate());
+        assertFalse(reused.handleEvent(new UIEvent(UIEvent.Type.CLICK, reused, 0, 0)));
+
+        Rectangle rect = UI.rectangle(7, 9, 0xFF123456);
+        assertSame(child, rect);
+        assertEquals(new Vector2f(7, 9), rect.getSize());
+    }
+
+    @Test
+    public void testReleasedElementStopsAnimating() {
+        VBox box = UI.vbox();
+        box.addWanderEffect();
+        box.playClickBounce();
+        box.setTargetPosition(new Vector2f(100, 100), true);
+        for (int i = 0; i < 5; i++) {
+            box.update(0.05f);
+        }
+        assertTrue(box.isAnimating());
+        assertNotSame(TransformDelta.IDENTITY, box.getCombinedEffectDelta());
+
+        UIElementPool.releaseTree(box);
+        VBox reused = UI.vbox();
+        assertSame(box, reused);
+        assertFalse(reused.isAnimating());
+        assertSame(TransformDelta.IDENTITY, reused.getCombinedEffectDelta());
+    }
+
+    @Test
+    public void testOnlyRegisteredClassesArePooled() {
+        VBox root = UI.vbox();
+        SpriteButton button = UI.spriteButton(60, 20, 0xFFFFFFFF);
+        Rectangle rect = UI.rectangle(1, 1, 0);
+        root.addChild(button);
+        root.addChild(rect);
+
+        assertEquals(2, UIElementPool.releaseTree(root));
+        assertFalse(UIElementPool.release(button));
+        // Releasing twice never hands out the same instance twice
+        assertFalse(UIElementPool.release(rect));
+        assertEquals(1, UIElementPool.getPooledCount(Rectangle.class));
+    }
+
+    @Test
+    public void testDisabledPoolAllocates() {
+        VBox box = UI.vbox();
+        UIElementPool.setEnabled(false);
+        try {
+            assertFalse(UIElementPool.release(box));
+            assertNotSame(box, UI.vbox());
+        } finally {
+            UIElementPool.setEnabled(true);
+        }
+    }
+}
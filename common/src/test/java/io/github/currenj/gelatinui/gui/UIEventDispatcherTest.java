@@ -0,0 +1,147 @@
+package io.github.currenj.gelatinui.gui;
+
+import io.github.currenj.gelatinui.gui.components.Rectangle;
+import io.github.currenj.gelatinui.gui.components.VBox;
+import org.joml.Vector2f;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for hit-path dispatch with capture and bubble phases.
+ */
+public class UIEventDispatcherTest {
+
+    /**
+     * VBox that records the phases it sees and optionally consumes in one of them.
+     */
+    private static class RecordingBox extends VBox {
+        final String name;
+        final List<String> log;
+        UIEvent.Phase consumeIn = null;
+
+        RecordingBox(String name, List<String> log) {
+            this.name = name;
+            this.log = log;
+        }
+
+        @Override
+        protected boolean onCaptureEvent(UIEvent event) {
+            log.add("capture " + name);
+            return consumeIn == UIEvent.Phase.CAPTURE;
+        }
+
+        @Override
+        protected boolean onEvent(UIEvent event) {
+            log.add("bubble " + name);
+            return consumeIn == UIEvent.Phase.BUBBLE;
+        }
+    }
+
+    private final List<String> log = new ArrayList<>();
+    private RecordingBox outer;
+    private RecordingBox inner;
+    private Rectangle leaf;
+    private Rectangle sibling;
+
+    /**
+     * outer > inner > leaf (20x20 at the top), outer > sibling below inner.
+     */
+    private UIScreen buildScreen() {
+        outer = new RecordingBox("outer", log);
+        inner = new RecordingBox("inner", log);
+        leaf = new Rectangle(20, 20, 0xFFFFFFFF);
+        leaf.onClick(e -> log.add("target " + e.getPhase()));
+        sibling = new Rectangle(20, 20, 0xFFFFFFFF);
+        inner.addChild(leaf);
+        outer.addChild(inner);
+        outer.addChild(sibling);
+        outer.setPosition(new Vector2f(0, 0));
+
+        UIScreen screen = new UIScreen(200, 200);
+        screen.setScrollEnabled(false);
+        screen.setRoot(outer);
+        for (int i = 0; i < 100 && outer.needsUpdate(); i++) {
+            screen.update(0.1f);
+        }
+        return screen;
+    }
+
+    @Test
+    public void testCaptureTargetBubbleOrder() {
+        UIScreen screen = buildScreen();
+        leaf.onClickActions.clear();
+        assertFalse(screen.onMouseClick(5, 5, 0));
+        assertEquals(List.of("capture outer", "capture inner", "bubble inner", "bubble outer"), log);
+    }
+
+    @Test
+    public void testTargetConsumesBeforeBubble() {
+        UIScreen screen = buildScreen();
+        assertTrue(screen.onMouseClick(5, 5, 0));
+        assertEquals(List.of("capture outer", "capture inner", "target TARGET"), log);
+    }
+
+    @Test
+    public void testCaptureCanIntercept() {
+        UIScreen screen = buildScreen();
+        outer.consumeIn = UIEvent.Phase.CAPTURE;
+        assertTrue(screen.onMouseClick(5, 5, 0));
+        assertEquals(List.of("capture outer"), log);
+    }
+
+    @Test
+    public void testBubbleReachesAncestorOnly() {
+        UIScreen screen = buildScreen();
+        leaf.onClickActions.clear();
+        inner.consumeIn = UIEvent.Phase.BUBBLE;
+        assertTrue(screen.onMouseClick(5, 5, 0));
+        assertEquals(List.of("capture outer", "capture inner", "bubble inner"), log);
+    }
+
+    @Test
+    public void testPathFollowsPointer() {
+        UIScreen screen = buildScreen();
+        UIEventDispatcher dispatcher = screen.getEventDispatcher();
+
+        assertSame(leaf, dispatcher.hitTest(outer, 5, 5));
+        assertEquals(List.of(outer, inner, leaf), dispatcher.getPath());
+
+        assertSame(sibling, dispatcher.hitTest(outer, 5, 25));
+        assertEquals(List.of(outer, sibling), dispatcher.getPath());
+
+        assertNull(dispatcher.hitTest(outer, 150, 150));
+        assertTrue(dispatcher.getPath().isEmpty());
+        assertFalse(screen.onMouseClick(150, 150, 0));
+        assertTrue(log.isEmpty());
+    }
+
+    @Test
+    public void testEventsArePooled() {
+        UIScreen screen = buildScreen();
+        List<UIEvent> seen = new ArrayList<>();
+        leaf.onClick(seen::add);
+        for (int i = 0; i < 100; i++) {
+            screen.onMouseClick(5, 5, 0);
+            screen.onMouseScroll(5, 5, 1f);
+        }
+        assertEquals(1, screen.getEventDispatcher().getAllocatedEvents());
+        assertSame(seen.get(0), seen.get(99));
+        assertNull(seen.get(0).getTarget(), "released events drop their target");
+    }
+
+    @Test
+    public void testContainerHandleEventSkipsChildrenOffPointer() {
+        buildScreen();
+        int[] siblingEvents = {0};
+        sibling.addEventListener(e -> siblingEvents[0]++);
+        leaf.onClickActions.clear();
+        outer.handleEvent(new UIEvent(UIEvent.Type.CLICK, outer, 5, 5));
+        assertEquals(0, siblingEvents[0]);
+        outer.handleEvent(new UIEvent(UIEvent.Type.CLICK, outer, 5, 25));
+        assertEquals(1, siblingEvents[0]);
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.currenj.gelatinui.gui;
+
+import io.github.currenj.gelatinui.gui.components.Rectangle;
+import io.github.currenj.gelatinui.gui.components.VBox;
+import org.joml.Vector2f;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the frame profiler's phase ring buffers and per-type totals.
+ */
+public class UIProfilerTest {
+
+    @AfterEach
+    public void tearDown() {
+        UIProfiler.setEnabled(false);
+        UIProfiler.reset();
+    }
+
+    private UIScreen buildScreen() {
+        VBox root = new VBox();
+        for (int i = 0; i < 5; i++) {
+            root.addChild(new Rectangle(20, 10, 0xFFFFFFFF));
+        }
+        root.setPosition(new Vector2f(0, 0));
+        UIScreen screen = new UIScreen(200, 200);
+        screen.setRoot(root);
+        return screen;
+    }
+
+    @Test
+    public void testDisabledRecordsNothing() {
+        UIScreen screen = buildScreen();
+        HeadlessRenderContext ctx = new HeadlessRenderContext();
+        screen.update(0.016f);
+        screen.render(ctx);
+
+        assertEquals(0, UIProfiler.getFrameCount());
+        assertEquals(0, UIProfiler.getTypeCount());
+        assertEquals(0L, UIProfiler.getPercentileNanos(UIProfiler.Phase.UPDATE, 50f));
+    }
+
+    @Test
+    public void testRecordsFramesAndTypes() {
+        UIProfiler.setEnabled(true);
+        UIScreen screen = buildScreen();
+        HeadlessRenderContext ctx = new HeadlessRenderContext();
+        for (int frame = 0; frame < 3; frame++) {
+            screen.update(0.016f);
+            screen.onMouseMove(5, 5);
+            screen.render(ctx);
+        }
+
+        assertEquals(3, UIProfiler.getFrameCount());
+        assertEquals(3, UIProfiler.getSampleCount());
+        assertTrue(UIProfiler.getLastNanos(UIProfiler.Phase.RENDER) > 0);
+        assertTrue(UIProfiler.getPercentileNanos(UIProfiler.Phase.UPDATE, 99f)
+                >= UIProfiler.getPercentileNanos(UIProfiler.Phase.UPDATE, 50f));
+
+        int rectangleIndex = -1;
+        for (int i = 0; i < UIProfiler.getTypeCount(); i++) {
+            if (UIProfiler.getType(i) == Rectangle.class) {
+                rectangleIndex = i;
+            }
+        }
+        assertTrue(rectangleIndex >= 0, "Rectangle renders should be attributed to their class");
+        assertEquals(5, UIProfiler.getTypeLastFrameCount(rectangleIndex));
+        assertEquals(15L, UIProfiler.getTypeTotalCount(rectangleIndex));
+    }
+
+    @Test
+    public void testWindowWrapsAndPercentiles() {
+        UIProfiler.setEnabled(true);
+        for (int frame = 0; frame < UIProfiler.WINDOW + 10; frame++) {
+            UIProfiler.endFrame();
+        }
+        assertEquals(UIProfiler.WINDOW, UIProfiler.getSampleCount());
+        assertEquals(UIProfiler.WINDOW + 10, UIProfiler.getFrameCount());
+        assertEquals(0L, UIProfiler.getPercentileNanos(UIProfiler.Phase.LAYOUT, 99f));
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.currenj.gelatinui.gui;
+
+import io.github.currenj.gelatinui.gui.components.Rectangle;
+import io.github.currenj.gelatinui.gui.components.VBox;
+import org.joml.Vector2f;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the per-screen culled/rendered debug counters.
+ */
+public class UIRenderStatsTest {
+
+    @BeforeEach
+    public void setUp() {
+        if (!UIElement.isDebugCulledEnabled()) {
+            UIElement.toggleDebugCulled();
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (UIElement.isDebugCulledEnabled()) {
+            UIElement.toggleDebugCulled();
+        }
+    }
+
+    /**
+     * Root with two columns of three 20px rectangles; the second column is laid out below a 50px viewport.
+     */
+    private UIScreen buildScreen() {
+        VBox root = new VBox();
+        for (int c = 0; c < 2; c++) {
+            VBox column = new VBox();
+            for (int i = 0; i < 3; i++) {
+                column.addChild(new Rectangle(20, 20, 0xFFFFFFFF));
+            }
+            root.addChild(column);
+        }
+        root.setPosition(new Vector2f(0, 0));
+        UIScreen screen = new UIScreen(200, 50);
+        screen.setScrollEnabled(false);
+        screen.setRoot(root);
+        screen.update(0f);
+        return screen;
+    }
+
+    private static int typeIndex(UIRenderStats stats, Class<?> type) {
+        for (int i = 0; i < stats.getTypeCount(); i++) {
+            if (stats.getType(i) == type) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Test
+    public void testCountsPerTypeAndSubtree() {
+        UIScreen screen = buildScreen();
+        screen.render(new HeadlessRenderContext());
+        UIRenderStats stats = screen.getRenderStats();
+
+        // Root, first column and its three rectangles render; second column is culled without visiting children
+        int rect = typeIndex(stats, Rectangle.class);
+        int vbox = typeIndex(stats, VBox.class);
+        assertEquals(3, stats.getRenderedCount(rect));
+        assertEquals(0, stats.getCulledCount(rect));
+        assertEquals(2, stats.getRenderedCount(vbox));
+        assertEquals(1, stats.getCulledCount(vbox));
+        assertEquals(5, stats.getRenderedTotal());
+        assertEquals(1, stats.getCulledTotal());
+
+        assertEquals(2, stats.getSubtreeCount());
+        assertEquals(4, stats.getSubtreeRenderedCount(0));
+        assertEquals(0, stats.getSubtreeCulledCount(0));
+        assertEquals(0, stats.getSubtreeRenderedCount(1));
+        assertEquals(1, stats.getSubtreeCulledCount(1));
+    }
+
+    @Test
+    public void testCountsResetEachFrame() {
+        UIScreen screen = buildScreen();
+        HeadlessRenderContext ctx = new HeadlessRenderContext();
+        screen.render(ctx);
+        screen.render(ctx);
+        assertEquals(5, screen.getRenderStats().getRenderedTotal());
+    }
+
+    @Test
+    public void testSnapshotOnlyOnRequest() {
+        UIScreen screen = buildScreen();
+        HeadlessRenderContext ctx = new HeadlessRenderContext();
+        screen.render(ctx);
+        assertTrue(screen.getRenderStats().getLastSnapshot().rendered().isEmpty());
+
+        screen.getRenderStats().requestSnapshot();
+        screen.render(ctx);
+        UIRenderStats.Snapshot snapshot = screen.getRenderStats().getLastSnapshot();
+        assertEquals(5, snapshot.rendered().size());
+        assertEquals(1, snapshot.culled().size());
+        assertTrue(snapshot.culled().get(0).startsWith("VBox"));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testDeprecatedNameListsReadSnapshots() {
+        UIScreen screen = buildScreen();
+        HeadlessRenderContext ctx = new HeadlessRenderContext();
+        screen.render(ctx);
+        assertTrue(UIElement.getRenderedElementNames().isEmpty(), "no names until a snapshot was asked for");
+
+        screen.render(ctx);
+        assertEquals(5, UIElement.getRenderedElementNames().size());
+        assertEquals(1, UIElement.getCulledElementNames().size());
+    }
+
+    @Test
+    public void testNothingCollectedWhenDebugOff() {
+        UIElement.toggleDebugCulled();
+        UIScreen screen = buildScreen();
+        screen.render(new HeadlessRenderContext());
+        assertEquals(0, screen.getRenderStats().getRenderedTotal());
+        assertNull(UIRenderStats.active());
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.currenj.gelatinui.gui;
+
+import io.github.currenj.gelatinui.gui.components.Rectangle;
+import io.github.currenj.gelatinui.gui.components.VBox;
+import org.joml.Vector2f;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Resizing a UIScreen keeps its tree and only re-lays out what depends on the viewport.
+ */
+public class UIScreenResizeTest {
+
+    private static void settle(UIScreen screen, IUIElement root) {
+        for (int i = 0; i < 100 && root.needsUpdate(); i++) {
+            screen.update(0.1f);
+        }
+        assertFalse(root.needsUpdate());
+    }
+
+    private static VBox column() {
+        VBox column = new VBox().spacing(2);
+        column.addChild(new Rectangle(40, 10, 0xFFFFFFFF));
+        column.addChild(new Rectangle(40, 10, 0xFFFFFFFF));
+        return column;
+    }
+
+    @Test
+    public void testFixedLayoutUntouchedByResize() {
+        VBox root = new VBox().padding(5);
+        VBox column = column();
+        root.addChild(column);
+        root.setPosition(new Vector2f(0, 0));
+
+        UIScreen screen = new UIScreen(200, 100);
+        screen.setRoot(root);
+        settle(screen, root);
+
+        screen.resize(400, 300);
+        assertSame(root, screen.getRoot());
+        assertFalse(root.needsUpdate(), "layout does not depend on the viewport");
+        assertFalse(column.needsUpdate());
+        assertEquals(300f, screen.getViewHeight());
+    }
+
+    @Test
+    public void testFillWidthRootRelaysOut() {
+        VBox root = new VBox().fillWidth(true);
+        root.addChild(column());
+        root.setPosition(new Vector2f(0, 0));
+
+        UIScreen screen = new UIScreen(200, 100);
+        screen.setRoot(root);
+        settle(screen, root);
+        assertEquals(200f, root.getSize().x, 0.01f);
+
+        screen.resize(320, 100);
+        assertTrue(root.needsUpdate());
+        settle(screen, root);
+        assertEquals(320f, root.getSize().x, 0.01f);
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.currenj.gelatinui.gui.components;
+
+import io.github.currenj.gelatinui.gui.IUIElement;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for lazily built tab content and the kept-subtree cap.
+ */
+public class ItemTabsTest {
+
+    private static Supplier<IUIElement> counting(int[] builds, int index) {
+        return () -> {
+            builds[index]++;
+            return new VBox();
+        };
+    }
+
+    @Test
+    public void testLazyContentBuiltOnFirstSelection() {
+        int[] builds = new int[3];
+        ItemTabs tabs = new ItemTabs();
+        for (int i = 0; i < 3; i++) {
+            tabs.addTab(null, counting(builds, i));
+        }
+
+        // First tab is selected on add; the others are untouched
+        assertArrayEquals(new int[]{1, 0, 0}, builds);
+        assertTrue(tabs.isTabBuilt(0));
+        assertFalse(tabs.isTabBuilt(1));
+
+        tabs.select(2);
+        tabs.select(0);
+        tabs.select(2);
+        assertArrayEquals(new int[]{1, 0, 1}, builds, "built subtrees are reused without a cap");
+    }
+
+    @Test
+    public void testLeastRecentlySelectedEvicted() {
+        int[] builds = new int[3];
+        ItemTabs tabs = new ItemTabs().maxCachedTabs(2);
+        for (int i = 0; i < 3; i++) {
+            tabs.addTab(null, counting(builds, i));
+        }
+
+        tabs.select(1);
+        tabs.select(2);
+        // Tab 0 was least recently selected
+        assertFalse(tabs.isTabBuilt(0));
+        assertTrue(tabs.isTabBuilt(1));
+        assertTrue(tabs.isTabBuilt(2));
+
+        tabs.select(0);
+        assertEquals(2, builds[0], "evicted tab is rebuilt from its supplier");
+        assertFalse(tabs.isTabBuilt(1));
+    }
+
+    @Test
+    public void testEagerTabsNeverEvicted() {
+        int[] builds = new int[2];
+        VBox eager = new VBox();
+        ItemTabs tabs = new ItemTabs().maxCachedTabs(1);
+        tabs.addTab(null, eager);
+        tabs.addTab(null, counting(builds, 0));
+        tabs.addTab(null, counting(builds, 1));
+
+        tabs.select(1);
+        tabs.select(2);
+        tabs.select(0);
+        assertTrue(tabs.isTabBuilt(0));
+        assertTrue(tabs.getChildren().contains(eager));
+    }
+}
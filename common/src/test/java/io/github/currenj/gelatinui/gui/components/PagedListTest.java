@@ -0,0 +1,210 @@
+package io.github.currenj.gelatinui.gui.components;
+
+import io.github.currenj.gelatinui.gui.UIScreen;
+import org.joml.Vector2f;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PagedList: scroll-driven page requests, bounded memory, incremental row building and the height estimate.
+ */
+public class PagedListTest {
+
+    /**
+     * Integers 0..count-1 in pages of 50. Pages are delivered immediately unless deferred.
+     */
+    private static class Source implements PagedList.DataSource<Integer> {
+        final int count;
+        final int estimate;
+        boolean deferred = false;
+        final Map<Integer, Integer> requests = new HashMap<>();
+        final Map<Integer, Consumer<List<Integer>>> waiting = new HashMap<>();
+
+        Source(int count, int estimate) {
+            this.count = count;
+            this.estimate = estimate;
+        }
+
+        @Override
+        public int pageSize() {
+            return 50;
+        }
+
+        @Override
+        public void requestPage(int page, Consumer<List<Integer>> sink) {
+            requests.merge(page, 1, Integer::sum);
+            if (deferred) {
+                waiting.put(page, sink);
+            } else {
+                sink.accept(items(page));
+            }
+        }
+
+        @Override
+        public int estimatedCount() {
+            return estimate;
+        }
+
+        List<Integer> items(int page) {
+            List<Integer> items = new ArrayList<>();
+            for (int i = page * 50; i < Math.min(count, (page + 1) * 50); i++) {
+                items.add(i);
+            }
+            return items;
+        }
+
+        void deliver(int page) {
+            waiting.remove(page).accept(items(page));
+        }
+
+        int requestCount(int page) {
+            return requests.getOrDefault(page, 0);
+        }
+    }
+
+    private VBox root;
+    private ScrollPane pane;
+    private PagedList<Integer> list;
+
+    /**
+     * A 100x200 pane holding a list of 10px rows: each page is 500px tall.
+     */
+    private UIScreen buildScreen(Source source, int rowsPerUpdate) {
+        root = new VBox();
+        pane = new ScrollPane(100, 200);
+        list = new PagedList<>(80, 10, source, i -> new Rectangle(80, 10, 0xFF000000 | i)).rowsPerUpdate(rowsPerUpdate);
+        pane.addChild(list);
+        root.addChild(pane);
+        root.setPosition(new Vector2f(0, 0));
+
+        UIScreen screen = new UIScreen(300, 300);
+        screen.setRoot(root);
+        settle(screen);
+        return screen;
+    }
+
+    private void settle(UIScreen screen) {
+        for (int i = 0; i < 600 && root.needsUpdate(); i++) {
+            screen.update(1f / 60f);
+        }
+        assertFalse(root.needsUpdate());
+    }
+
+    @Test
+    public void testOpeningLoadsOnlyFirstPage() {
+        Source source = new Source(10_000, -1);
+        UIScreen screen = buildScreen(source, 1000);
+
+        assertEquals(1, source.requests.size());
+        assertEquals(1, source.requestCount(0));
+        assertEquals(50, list.getChildCount());
+        assertEquals(500f, list.getSize().y, 0.001f, "height is the rows known so far");
+        assertEquals(300f, pane.getMaxScrollY(), 0.001f);
+        assertEquals(120f, list.getRow(12).getBounds().getY(), 0.001f);
+    }
+
+    @Test
+    public void testScrollingNearEndRequestsNextPage() {
+        Source source = new Source(10_000, -1);
+        UIScreen screen = buildScreen(source, 1000);
+
+        pane.setScrollY(50f);
+        settle(screen);
+        assertEquals(0, source.requestCount(1), "still far from the end");
+
+        pane.setScrollY(150f);
+        settle(screen);
+        assertEquals(1, source.requestCount(1));
+        assertEquals(100, list.getKnownRowCount());
+        assertEquals(1000f, list.getSize().y, 0.001f);
+        assertEquals(800f, pane.getMaxScrollY(), 0.001f, "the pane picked up the new height");
+    }
+
+    @Test
+    public void testFarPagesAreReleasedAndReloaded() {
+        Source source = new Source(10_000, -1);
+        UIScreen screen = buildScreen(source, 1000);
+
+        for (int i = 0; i < 40 && list.getKnownRowCount() < 2000; i++) {
+            pane.setScrollY(pane.getMaxScrollY());
+            settle(screen);
+            assertTrue(list.getLoadedPageCount() <= 4, "loaded " + list.getLoadedPageCount());
+            assertTrue(list.getChildCount() <= 200);
+        }
+        assertEquals(2000, list.getKnownRowCount());
+        assertFalse(list.isPageLoaded(0));
+        assertEquals(20000f, list.getSize().y, 0.001f, "released pages still count towards the height");
+
+        pane.setScrollY(0f);
+        settle(screen);
+        assertTrue(list.isPageLoaded(0));
+        assertEquals(2, source.requestCount(0));
+        assertNotNull(list.getRow(0));
+    }
+
+    @Test
+    public void testShortPageEndsTheList() {
+        Source source = new Source(120, -1);
+        UIScreen screen = buildScreen(source, 1000);
+
+        for (int i = 0; i < 10; i++) {
+            pane.setScrollY(pane.getMaxScrollY());
+            settle(screen);
+        }
+        assertTrue(list.isExhausted());
+        assertEquals(120, list.getKnownRowCount());
+        assertEquals(1200f, list.getSize().y, 0.001f);
+        assertEquals(0, source.requestCount(3));
+        assertNotNull(list.getRow(119));
+        assertNull(list.getRow(120));
+    }
+
+    @Test
+    public void testEstimatedCountAllowsJumpingAhead() {
+        Source source = new Source(10_000, 10_000);
+        UIScreen screen = buildScreen(source, 1000);
+        assertEquals(100_000f, list.getSize().y, 0.001f);
+
+        pane.setScrollY(50_000f);
+        settle(screen);
+        assertTrue(list.isPageLoaded(100));
+        assertEquals(0, source.requestCount(50), "pages in between are never requested");
+        assertSame(list.getRow(5000), screen.findElementAt(10, 5));
+    }
+
+    @Test
+    public void testAsyncPagesBuildIncrementally() {
+        Source source = new Source(10_000, -1);
+        source.deferred = true;
+        UIScreen screen = buildScreen(source, 16);
+
+        assertEquals(1, list.getPendingPageCount());
+        screen.update(1f / 60f);
+        assertEquals(1, source.requestCount(0), "no duplicate request while pending");
+
+        source.deliver(0);
+        assertEquals(500f, list.getSize().y, 0.001f, "height updates as soon as the page arrives");
+        assertEquals(0, list.getChildCount());
+
+        screen.update(1f / 60f);
+        assertEquals(16, list.getChildCount());
+        settle(screen);
+        assertEquals(50, list.getChildCount());
+
+        // A page arriving after reload() is dropped
+        pane.setScrollY(pane.getMaxScrollY());
+        settle(screen);
+        assertEquals(1, list.getPendingPageCount());
+        list.reload();
+        source.deliver(1);
+        assertEquals(0, list.getKnownRowCount());
+        assertEquals(0, list.getChildCount());
+    }
+}
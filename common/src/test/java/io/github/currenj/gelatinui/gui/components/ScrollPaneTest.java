@@ -0,0 +1,178 @@
+package io.github.currenj.gelatinui.gui.components;
+
+import io.github.currenj.gelatinui.gui.HeadlessRenderContext;
+import io.github.currenj.gelatinui.gui.IUIElement;
+import io.github.currenj.gelatinui.gui.UIScreen;
+import io.github.currenj.gelatinui.gui.UITimeControl;
+import org.joml.Vector2f;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ScrollPane: independent offset, confined hit-testing and culling, innermost-pane scroll routing.
+ */
+public class ScrollPaneTest {
+
+    private VBox root;
+    private Rectangle header;
+    private ScrollPane pane;
+    private VBox list;
+
+    /**
+     * 300x200 screen: a 20px header, then a 100x100 pane holding 30 rows of 50x20, then a footer.
+     */
+    private UIScreen buildScreen() {
+        root = new VBox();
+        header = new Rectangle(100, 20, 0xFFFFFFFF);
+        root.addChild(header);
+
+        pane = new ScrollPane(100, 100);
+        list = new VBox();
+        for (int i = 0; i < 30; i++) {
+            list.addChild(new Rectangle(50, 20, 0xFF000000 | i));
+        }
+        pane.addChild(list);
+        root.addChild(pane);
+        root.addChild(new Rectangle(100, 20, 0xFFFFFFFF));
+        root.setPosition(new Vector2f(0, 0));
+
+        UIScreen screen = new UIScreen(300, 200);
+        screen.setRoot(root);
+        settle(screen);
+        return screen;
+    }
+
+    private void settle(UIScreen screen) {
+        for (int i = 0; i < 600 && root.needsUpdate(); i++) {
+            screen.update(1f / 60f);
+        }
+        assertFalse(root.needsUpdate());
+    }
+
+    private IUIElement row(int i) {
+        return list.getChildren().get(i);
+    }
+
+    @Test
+    public void testPaneScrollsIndependently() {
+        UIScreen screen = buildScreen();
+        assertEquals(600f, pane.getContentHeight(), 0.001f);
+        assertEquals(500f, pane.getMaxScrollY(), 0.001f);
+        assertTrue(pane.getScrollBar().isVisible());
+
+        assertTrue(screen.onMouseScroll(10, 50, -2f));
+        settle(screen);
+        assertEquals(48f, pane.getScrollY(), 0.001f);
+        assertEquals(0f, screen.getScrollY(), 0.001f, "the screen itself did not scroll");
+
+        // Layout positions are untouched; global bounds follow the scroll
+        assertEquals(60f, row(3).getPosition().y, 0.001f);
+        assertEquals(20f + 60f - 48f, row(3).getBounds().getY(), 0.001f);
+    }
+
+    @Test
+    public void testScrollsOnRealTimeWhilePaused() {
+        UIScreen screen = buildScreen();
+        UITimeControl.pause();
+        try {
+            assertTrue(screen.onMouseScroll(10, 50, -2f));
+            settle(screen);
+            assertEquals(48f, pane.getScrollY(), 0.001f, "paused UI time does not freeze scrolling");
+
+            int[] translations = {0};
+            HeadlessRenderContext ctx = new HeadlessRenderContext() {
+                @Override
+                public void pushTranslation(float x, float y) {
+                    super.pushTranslation(x, y);
+                    translations[0]++;
+                }
+            };
+            ctx.beginFrame();
+            screen.render(ctx);
+            ctx.endFrame();
+            assertEquals(1, translations[0], "scrolled pane content is drawn through the context's translation");
+            assertEquals(0, ctx.getTranslationDepth());
+        } finally {
+            UITimeControl.reset();
+        }
+    }
+
+    @Test
+    public void testHitTestingConfinedToPane() {
+        UIScreen screen = buildScreen();
+        pane.setScrollY(100f);
+
+        // Row 5 is at content y 100, shown at the pane's top edge (screen y 20)
+        assertSame(row(5), screen.findElementAt(10, 25));
+        assertSame(row(9), screen.findElementAt(10, 115));
+
+        // Row 10 would be at screen y 120, under the footer: it is clipped, so the footer wins
+        assertNotSame(row(10), screen.findElementAt(10, 125));
+        assertSame(root.getChildren().get(2), screen.findElementAt(10, 125));
+
+        // The header covers rows scrolled off the top
+        assertSame(header, screen.findElementAt(10, 5));
+    }
+
+    @Test
+    public void testGapInsidePaneStillScrollsIt() {
+        UIScreen screen = buildScreen();
+        // x = 70 is right of the 50px rows and left of the 6px scrollbar
+        assertNull(screen.findElementAt(70, 50));
+        assertTrue(screen.onMouseScroll(70, 50, -1f));
+        settle(screen);
+        assertEquals(24f, pane.getScrollY(), 0.001f);
+    }
+
+    @Test
+    public void testInnermostPaneWins() {
+        UIScreen screen = buildScreen();
+        ScrollPane inner = new ScrollPane(40, 40);
+        VBox innerList = new VBox();
+        for (int i = 0; i < 10; i++) {
+            innerList.addChild(new Rectangle(30, 20, 0xFFFFFFFF));
+        }
+        inner.addChild(innerList);
+        list.clearChildren();
+        list.addChild(inner);
+        for (int i = 0; i < 30; i++) {
+            list.addChild(new Rectangle(50, 20, 0xFFFFFFFF));
+        }
+        settle(screen);
+
+        assertTrue(screen.onMouseScroll(10, 30, -1f));
+        settle(screen);
+        assertEquals(24f, inner.getScrollY(), 0.001f);
+        assertEquals(0f, pane.getScrollY(), 0.001f);
+    }
+
+    @Test
+    public void testChildrenOutsidePaneAreCulled() {
+        UIScreen screen = buildScreen();
+        HeadlessRenderContext ctx = new HeadlessRenderContext();
+
+        ctx.beginFrame();
+        screen.render(ctx);
+        HeadlessRenderContext.FrameStats top = ctx.endFrame();
+
+        pane.setScrollY(250f);
+        ctx.beginFrame();
+        screen.render(ctx);
+        HeadlessRenderContext.FrameStats middle = ctx.endFrame();
+
+        // header, footer, 5-6 visible rows, scrollbar track and thumb
+        assertTrue(top.drawCalls() <= 10, "drew " + top.drawCalls());
+        assertTrue(middle.drawCalls() <= 10, "drew " + middle.drawCalls());
+        assertEquals(2, middle.scissorChanges(), "one clip pushed and popped");
+    }
+
+    @Test
+    public void testScrollingDoesNotRelayout() {
+        UIScreen screen = buildScreen();
+        pane.setScrollY(200f);
+        assertFalse(list.needsUpdate());
+        assertFalse(root.needsUpdate());
+        assertEquals(20f + 200f - 200f, row(10).getBounds().getY(), 0.001f);
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.currenj.gelatinui.gui.components;
+
+import net.minecraft.resources.ResourceLocation;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that compiled sprite geometry reproduces the draw calls of the immediate sprite methods.
+ */
+public class SpriteGeometryTest {
+    private static final ResourceLocation TEXTURE = ResourceLocation.fromNamespaceAndPath("gelatinui", "textures/gui/panel.png");
+
+    private static void assertSameAsImmediate(SpriteData sprite, int w, int h) {
+        TestRenderContext immediate = new TestRenderContext();
+        immediate.drawSprite(sprite, 5, 7, w, h);
+
+        TestRenderContext compiled = new TestRenderContext();
+        compiled.drawSpriteGeometry(SpriteGeometry.compile(sprite, w, h), 5, 7);
+
+        assertEquals(immediate.textures, compiled.textures);
+    }
+
+    @Test
+    public void testSliceGeometryMatchesImmediate() {
+        SpriteData sprite = SpriteData.texture(TEXTURE).uv(0, 0, 32, 32).renderMode(SpriteRenderMode.SLICE).slice(4, 4, 4, 4);
+        SpriteGeometry geometry = SpriteGeometry.compile(sprite, 100, 60);
+        assertEquals(9, geometry.getQuadCount());
+        assertSameAsImmediate(sprite, 100, 60);
+    }
+
+    @Test
+    public void testTileAndRepeatGeometryMatchesImmediate() {
+        SpriteData tile = SpriteData.texture(TEXTURE).uv(0, 0, 24, 24).renderMode(SpriteRenderMode.TILE).slice(4, 4, 4, 4);
+        assertSameAsImmediate(tile, 137, 91);
+        assertSameAsImmediate(tile.tileScale(2.0f), 137, 91);
+
+        SpriteData repeat = SpriteData.texture(TEXTURE).uv(16, 16, 16, 16).renderMode(SpriteRenderMode.REPEAT);
+        assertSameAsImmediate(repeat, 50, 33);
+    }
+
+    @Test
+    public void testTiledRegionsCompileToOneQuadEach() {
+        SpriteData tile = SpriteData.texture(TEXTURE).uv(0, 0, 24, 24).renderMode(SpriteRenderMode.TILE).slice(4, 4, 4, 4);
+        assertEquals(9, SpriteGeometry.compile(tile, 137, 91).getQuadCount());
+        assertEquals(9, SpriteGeometry.compile(tile, 1000, 800).getQuadCount());
+
+        SpriteData repeat = SpriteData.texture(TEXTURE).uv(16, 16, 16, 16).renderMode(SpriteRenderMode.REPEAT);
+        assertEquals(1, SpriteGeometry.compile(repeat, 500, 330).getQuadCount());
+    }
+
+    @Test
+    public void testRepeatingClipsEdgeTiles() {
+        TestRenderContext ctx = new TestRenderContext();
+        ctx.drawRepeatingTexture(TEXTURE, 0, 0, 50, 33, 16, 16, 16, 16, 256, 256);
+
+        // 4 columns x 3 rows; last column is 2px wide, last row 1px tall
+        assertEquals(12, ctx.textures.size());
+        TestRenderContext.TextureCall corner = ctx.textures.get(11);
+        assertEquals(new TestRenderContext.TextureCall(48, 32, 2, 1, 16, 16, 2, 1), corner);
+    }
+
+    @Test
+    public void testMatchesTracksSpriteAndSize() {
+        SpriteData sprite = SpriteData.texture(TEXTURE).uv(0, 0, 32, 32).renderMode(SpriteRenderMode.SLICE).slice(4, 4, 4, 4);
+        SpriteGeometry geometry = SpriteGeometry.compile(sprite, 100, 60);
+
+        assertTrue(geometry.matches(sprite, 100, 60));
+        assertTrue(geometry.matches(sprite.slice(4, 4, 4, 4), 100, 60), "Equal sprite records should match");
+        assertFalse(geometry.matches(sprite, 101, 60));
+        assertFalse(geometry.matches(sprite.slice(2, 2, 2, 2), 100, 60));
+    }
+
+    @Test
+    public void testNormalizedUVs() {
+        SpriteData sprite = SpriteData.texture(TEXTURE).uv(64, 32, 32, 16).textureSize(128, 64);
+        SpriteGeometry geometry = SpriteGeometry.compile(sprite, 32, 16);
+        assertEquals(1, geometry.getQuadCount());
+        float[] uvs = geometry.getUVs();
+        assertEquals(0.5f, uvs[0], 1e-6f);
+        assertEquals(0.5f, uvs[1], 1e-6f);
+        assertEquals(0.75f, uvs[2], 1e-6f);
+        assertEquals(0.75f, uvs[3], 1e-6f);
+    }
+}
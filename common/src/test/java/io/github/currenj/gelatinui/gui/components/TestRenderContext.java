@@ -16,9 +16,22 @@ public class TestRenderContext implements IRenderContext {
         public DrawCall(String text, int x, int y, int color) { this.text=text; this.x=x; this.y=y; this.color=color; }
     }
 
+    public static class TextureCall {
+        public final int x, y, width, height, u, v, regionWidth, regionHeight;
+        public TextureCall(int x, int y, int width, int height, int u, int v, int regionWidth, int regionHeight) {
+            this.x=x; this.y=y; this.width=width; this.height=height; this.u=u; this.v=v; this.regionWidth=regionWidth; this.regionHeight=regionHeight;
+        }
+        @Override public boolean equals(Object o) {
+            return o instanceof TextureCall t && t.x==x && t.y==y && t.width==width && t.height==height && t.u==u && t.v==v && t.regionWidth==regionWidth && t.regionHeight==regionHeight;
+        }
+        @Override public int hashCode() { return java.util.Objects.hash(x, y, width, height, u, v, regionWidth, regionHeight); }
+        @Override public String toString() { return "Tex(" + x + "," + y + " " + width + "x" + height + " uv=" + u + "," + v + " " + regionWidth + "x" + regionHeight + ")"; }
+    }
+
     public final List<FillCall> fills = new ArrayList<>();
     public final List<DrawCall> draws = new ArrayList<>();
     public final List<DrawCall> centered = new ArrayList<>();
+    public final List<TextureCall> textures = new ArrayList<>();
 
     // Simple metrics: width = 6 * chars, height = 10
     @Override
@@ -62,6 +75,8 @@ public class TestRenderContext implements IRenderContext {
 
     @Override
     public void drawTexture(net.minecraft.resources.ResourceLocation texture, int x, int y, int width, int height, int u, int v, int regionWidth, int regionHeight, int textureWidth, int textureHeight) {
-        // No-op for UV-aware draw calls in tests; record or assert in future if necessary
+        if (width > 0 && height > 0) {
+            textures.add(new TextureCall(x, y, width, height, u, v, regionWidth, regionHeight));
+        }
     }
 }
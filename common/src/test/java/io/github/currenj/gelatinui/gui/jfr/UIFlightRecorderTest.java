@@ -0,0 +1,89 @@
+package io.github.currenj.gelatinui.gui.jfr;
+
+import io.github.currenj.gelatinui.gui.HeadlessRenderContext;
+import io.github.currenj.gelatinui.gui.UIScreen;
+import io.github.currenj.gelatinui.gui.components.Rectangle;
+import io.github.currenj.gelatinui.gui.components.VBox;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.joml.Vector2f;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the UI's Flight Recorder events.
+ */
+public class UIFlightRecorderTest {
+
+    private UIScreen buildScreen() {
+        VBox root = new VBox();
+        for (int i = 0; i < 4; i++) {
+            root.addChild(new Rectangle(20, 10, 0xFFFFFFFF));
+        }
+        root.setPosition(new Vector2f(0, 0));
+        UIScreen screen = new UIScreen(200, 200);
+        screen.setRoot(root);
+        return screen;
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        assertNull(UIFlightRecorder.beginUpdate());
+        assertNull(UIFlightRecorder.beginRender());
+        assertNull(UIFlightRecorder.beginLayout());
+        assertNull(UIFlightRecorder.beginEffectStep());
+    }
+
+    @Test
+    public void testRecordsUpdateRenderAndLayout() throws IOException {
+        Path file = Files.createTempFile("gelatinui", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("gelatinui.Update");
+            recording.enable("gelatinui.Render");
+            recording.enable("gelatinui.Layout");
+            recording.start();
+
+            UIScreen screen = buildScreen();
+            HeadlessRenderContext ctx = new HeadlessRenderContext();
+            screen.update(0.016f);
+            screen.render(ctx);
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.deleteIfExists(file);
+
+        RecordedEvent update = find(events, "gelatinui.Update");
+        assertNotNull(update);
+        assertEquals(6, update.getInt("updatedElements"), "root, four children and the scrollbar");
+        assertTrue(update.getInt("dirtyElements") >= 1);
+
+        RecordedEvent render = find(events, "gelatinui.Render");
+        assertNotNull(render);
+        assertEquals(6, render.getInt("renderedElements"), "root, four children and the scrollbar");
+        assertEquals(0, render.getInt("culledElements"));
+
+        RecordedEvent layout = find(events, "gelatinui.Layout");
+        assertNotNull(layout);
+        assertEquals(VBox.class.getName(), layout.getString("containerType"));
+        assertEquals(4, layout.getInt("childCount"));
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String name) {
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals(name)) {
+                return event;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,122 @@
+package io.github.currenj.gelatinui.gui.template;
+
+import io.github.currenj.gelatinui.gui.HeadlessRenderContext;
+import io.github.currenj.gelatinui.gui.IUIElement;
+import io.github.currenj.gelatinui.gui.components.HBox;
+import io.github.currenj.gelatinui.gui.components.Label;
+import io.github.currenj.gelatinui.gui.components.Panel;
+import io.github.currenj.gelatinui.gui.components.Rectangle;
+import io.github.currenj.gelatinui.gui.components.SpriteButton;
+import io.github.currenj.gelatinui.gui.components.SpriteRectangle;
+import io.github.currenj.gelatinui.gui.components.SpriteRenderMode;
+import io.github.currenj.gelatinui.gui.components.VBox;
+import net.minecraft.resources.ResourceLocation;
+import org.joml.Vector2f;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for compiling and instantiating declarative layouts.
+ */
+public class UITemplateTest {
+    private static final ResourceLocation ID = ResourceLocation.fromNamespaceAndPath("gelatinui", "test/menu");
+
+    private static final String LAYOUT = """
+            { "type": "vbox", "id": "root", "spacing": 10, "padding": 30, "alignment": "center", "fillWidth": true,
+              "children": [
+                { "type": "label", "id": "title", "text": "Hello", "color": "#FF5555", "centered": true },
+                { "type": "hbox", "alignment": "bottom", "children": [
+                  { "type": "button", "id": "ok", "width": 80, "height": 20, "color": "#FF4682B4", "text": "OK" },
+                  { "type": "rectangle", "width": 4, "height": 20, "color": "#80FFFFFF", "visible": false }
+                ] },
+                { "type": "panel", "x": 5, "y": 6, "width": 50, "height": 40, "background": "#C0000000",
+                  "children": [
+                    { "type": "sprite", "id": "icon", "width": 32, "height": 32,
+                      "texture": { "location": "gelatinui:textures/gui/panel.png", "uv": [0, 0, 16, 16],
+                                   "textureSize": [64, 64], "mode": "slice", "slice": [4, 4, 4, 4] } }
+                  ] }
+              ] }
+            """;
+
+    private static UITemplate compile(String json) {
+        return UITemplateCompiler.compile(ID, new StringReader(json));
+    }
+
+    @Test
+    public void testInstantiateBuildsTree() {
+        UITemplate template = compile(LAYOUT);
+        assertEquals(ID, template.getId());
+        assertEquals(7, template.getNodeCount());
+
+        UITemplate.Instance instance = template.instantiate(new HeadlessRenderContext());
+        VBox root = instance.get("root", VBox.class);
+        assertSame(root, instance.getRoot());
+        assertEquals(3, root.getChildren().size());
+
+        Label title = instance.get("title", Label.class);
+        assertEquals("Hello", title.getText());
+        assertEquals("title", title.getDebugName());
+
+        HBox row = (HBox) root.getChildren().get(1);
+        assertEquals(2, row.getChildren().size());
+        assertFalse(row.getChildren().get(1).isVisible());
+        assertInstanceOf(Rectangle.class, row.getChildren().get(1));
+
+        SpriteButton ok = instance.get("ok", SpriteButton.class);
+        assertEquals("OK", ok.getText());
+        assertEquals(new Vector2f(80, 20), ok.getSize());
+
+        Panel panel = (Panel) root.getChildren().get(2);
+        assertEquals(new Vector2f(5, 6), panel.getPosition());
+        assertEquals(new Vector2f(50, 40), panel.getSize());
+
+        SpriteRectangle<?> icon = instance.get("icon", SpriteRectangle.SpriteRectangleImpl.class);
+        assertEquals(SpriteRenderMode.SLICE, icon.getSprite().renderMode());
+        assertEquals(64, icon.getSprite().textureW());
+        assertEquals(16, icon.getSprite().regionW());
+    }
+
+    @Test
+    public void testInstancesAreIndependent() {
+        UITemplate template = compile(LAYOUT);
+        HeadlessRenderContext ctx = new HeadlessRenderContext();
+        UITemplate.Instance first = template.instantiate(ctx);
+        UITemplate.Instance second = template.instantiate(ctx);
+        assertNotSame(first.getRoot(), second.getRoot());
+        first.get("title", Label.class).text("Changed");
+        assertEquals("Hello", second.get("title", Label.class).getText());
+    }
+
+    @Test
+    public void testLookupErrors() {
+        UITemplate.Instance instance = compile(LAYOUT).instantiate(new HeadlessRenderContext());
+        assertNull(instance.find("missing"));
+        assertThrows(IllegalArgumentException.class, () -> instance.get("missing", IUIElement.class));
+        assertThrows(IllegalArgumentException.class, () -> instance.get("title", VBox.class));
+    }
+
+    @Test
+    public void testInvalidLayoutsReportPath() {
+        IllegalArgumentException unknownType = assertThrows(IllegalArgumentException.class,
+                () -> compile("{ \"type\": \"vbox\", \"children\": [ { \"type\": \"table\" } ] }"));
+        assertEquals("gelatinui:test/menu at children[0]: unknown type 'table'", unknownType.getMessage());
+
+        IllegalArgumentException unknownKey = assertThrows(IllegalArgumentException.class,
+                () -> compile("{ \"type\": \"label\", \"text\": \"x\", \"spacing\": 2 }"));
+        assertTrue(unknownKey.getMessage().contains("unknown property \"spacing\""));
+
+        IllegalArgumentException badColor = assertThrows(IllegalArgumentException.class,
+                () -> compile("{ \"type\": \"rectangle\", \"color\": \"red\" }"));
+        assertTrue(badColor.getMessage().contains("color"));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> compile("{ \"type\": \"vbox\", \"alignment\": \"top\" }"));
+        assertThrows(IllegalArgumentException.class,
+                () -> compile("{ \"type\": \"hbox\", \"children\": [ { \"type\": \"label\", \"id\": \"a\" }, "
+                        + "{ \"type\": \"label\", \"id\": \"a\" } ] }"));
+        assertThrows(IllegalArgumentException.class, () -> compile("{ \"type\": "));
+    }
+}